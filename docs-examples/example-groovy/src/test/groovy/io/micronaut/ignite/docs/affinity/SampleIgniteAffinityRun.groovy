@@ -0,0 +1,22 @@
+package io.micronaut.ignite.docs.affinity
+
+import io.micronaut.ignite.annotation.IgniteAffinityRun
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+
+class SampleIgniteAffinityRun {
+
+    private final Ignite ignite
+
+    SampleIgniteAffinityRun(Ignite ignite) {
+        this.ignite = ignite
+    }
+
+    @IgniteAffinityRun(cache = "accounts", key = "accountId")
+    double deposit(long accountId, double amount) {
+        IgniteCache<Long, Double> cache = this.ignite.cache("accounts")
+        double balance = cache.get(accountId) + amount
+        cache.put(accountId, balance)
+        return balance
+    }
+}
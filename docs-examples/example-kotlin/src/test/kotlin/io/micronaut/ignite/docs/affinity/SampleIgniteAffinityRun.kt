@@ -0,0 +1,16 @@
+package io.micronaut.ignite.docs.affinity
+
+import io.micronaut.ignite.annotation.IgniteAffinityRun
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+
+open class SampleIgniteAffinityRun constructor(private val ignite: Ignite) {
+
+    @IgniteAffinityRun(cache = "accounts", key = "accountId")
+    open fun deposit(accountId: Long, amount: Double): Double {
+        val cache: IgniteCache<Long, Double> = ignite.cache("accounts")
+        val balance = cache.get(accountId) + amount
+        cache.put(accountId, balance)
+        return balance
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.benchmarks;
+
+import io.micronaut.cache.AsyncCache;
+import io.micronaut.cache.CacheManager;
+import io.micronaut.cache.SyncCache;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import org.apache.ignite.Ignite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures get, put and putIfAbsent through the cache wrappers of the thick and thin clients against a local server
+ * node. The keys are spread over a fixed key space that is loaded before the measurement, so gets are hits and
+ * putIfAbsent finds the existing value. {@link #insert(KeyState)} measures putIfAbsent with new keys, in a separate
+ * cache that is cleared after every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class CacheBenchmark {
+    private static final String CACHE_NAME = "benchmark";
+    private static final String INSERT_CACHE_NAME = "benchmark-inserts";
+
+    /**
+     * The cache wrapper under test.
+     */
+    @Param({"THICK_SYNC", "THICK_ASYNC", "THIN_SYNC", "THIN_ASYNC"})
+    Client client;
+
+    /**
+     * The length of the values.
+     */
+    @Param({"128", "4096"})
+    int valueSize;
+
+    /**
+     * The number of distinct keys.
+     */
+    @Param({"10000"})
+    int keyCount;
+
+    String[] keys;
+    String[] values;
+
+    private Ignite server;
+    private ApplicationContext context;
+    private SyncCache<?> syncCache;
+    private AsyncCache<?> asyncCache;
+    private SyncCache<?> insertSyncCache;
+    private AsyncCache<?> insertAsyncCache;
+
+    /**
+     * Start the server node and the client, then load the key space.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        server = LocalIgnite.startServer();
+        context = client.thin ? LocalIgnite.startThinContext(Collections.emptyMap())
+            : LocalIgnite.startThickContext(Collections.emptyMap());
+        CacheManager<?> cacheManager = context.getBean(CacheManager.class);
+        syncCache = cacheManager.getCache(CACHE_NAME);
+        asyncCache = client.async ? syncCache.async() : null;
+        insertSyncCache = cacheManager.getCache(INSERT_CACHE_NAME);
+        insertAsyncCache = client.async ? insertSyncCache.async() : null;
+        keys = new String[keyCount];
+        values = new String[keyCount];
+        StringBuilder value = new StringBuilder(valueSize);
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "key-" + i;
+            value.setLength(0);
+            while (value.length() < valueSize) {
+                value.append(i);
+            }
+            values[i] = value.substring(0, valueSize);
+            syncCache.put(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Remove the keys inserted during the iteration, so the insert cache does not grow over the trial.
+     */
+    @TearDown(Level.Iteration)
+    public void clearInserts() {
+        insertSyncCache.invalidateAll();
+    }
+
+    /**
+     * Close the client and stop the server node.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        server.close();
+    }
+
+    /**
+     * @param random the key selection of the thread
+     * @return the value
+     */
+    @Benchmark
+    public Optional<String> get(KeyState random) {
+        String key = this.keys[random.next(keyCount)];
+        if (asyncCache != null) {
+            return asyncCache.get(key, Argument.STRING).join();
+        }
+        return syncCache.get(key, Argument.STRING);
+    }
+
+    /**
+     * @param random the key selection of the thread
+     * @return the key that was written
+     */
+    @Benchmark
+    public Object put(KeyState random) {
+        int index = random.next(keyCount);
+        if (asyncCache != null) {
+            return asyncCache.put(this.keys[index], values[index]).join();
+        }
+        syncCache.put(this.keys[index], values[index]);
+        return this.keys[index];
+    }
+
+    /**
+     * @param random the key selection of the thread
+     * @return the existing value
+     */
+    @Benchmark
+    public Optional<String> putIfAbsent(KeyState random) {
+        int index = random.next(keyCount);
+        if (asyncCache != null) {
+            return asyncCache.putIfAbsent(this.keys[index], values[index]).join();
+        }
+        return syncCache.putIfAbsent(this.keys[index], values[index]);
+    }
+
+    /**
+     * @param random the key selection of the thread
+     * @return the existing value, which is always empty
+     */
+    @Benchmark
+    public Optional<String> insert(KeyState random) {
+        String key = random.nextNew();
+        String value = values[random.next(keyCount)];
+        if (insertAsyncCache != null) {
+            return insertAsyncCache.putIfAbsent(key, value).join();
+        }
+        return insertSyncCache.putIfAbsent(key, value);
+    }
+
+    /**
+     * The cache wrappers.
+     */
+    public enum Client {
+        THICK_SYNC(false, false),
+        THICK_ASYNC(false, true),
+        THIN_SYNC(true, false),
+        THIN_ASYNC(true, true);
+
+        final boolean thin;
+        final boolean async;
+
+        Client(boolean thin, boolean async) {
+            this.thin = thin;
+            this.async = async;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.benchmarks;
+
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the {@link ConversionService} calls the cache wrappers make for every value they return,
+ * compared with a plain type check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversionBenchmark {
+    private static final Argument<Object> OBJECT = Argument.OBJECT_ARGUMENT;
+
+    Object value = "value";
+    Object number = 42;
+
+    /**
+     * @return the value converted to its own type
+     */
+    @Benchmark
+    public Optional<String> convertSameType() {
+        return ConversionService.SHARED.convert(value, ConversionContext.of(Argument.STRING));
+    }
+
+    /**
+     * @return the value converted to a super type
+     */
+    @Benchmark
+    public Optional<Object> convertSuperType() {
+        return ConversionService.SHARED.convert(value, ConversionContext.of(OBJECT));
+    }
+
+    /**
+     * @return the value converted to another type
+     */
+    @Benchmark
+    public Optional<Long> convertOtherType() {
+        return ConversionService.SHARED.convert(number, ConversionContext.of(Argument.LONG));
+    }
+
+    /**
+     * @return the value after a type check
+     */
+    @Benchmark
+    public Optional<String> typeCheck() {
+        Class<String> type = Argument.STRING.getType();
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+}
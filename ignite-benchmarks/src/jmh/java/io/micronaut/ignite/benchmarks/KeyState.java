@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the keys of a benchmark thread, without contention between the threads.
+ */
+@State(Scope.Thread)
+public class KeyState {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final SplittableRandom random = new SplittableRandom();
+    private final String prefix = "new-" + THREADS.incrementAndGet() + "-";
+    private long sequence;
+
+    /**
+     * @param bound the number of keys
+     * @return the index of the next key
+     */
+    int next(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * @return a key that no other call or thread has returned
+     */
+    String nextNew() {
+        return prefix + sequence++;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.configuration.ClientConnectorConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts the Ignite server node and the application contexts used by the benchmarks. Everything runs in the
+ * benchmark JVM and only binds to the loopback interface.
+ */
+final class LocalIgnite {
+    static final String ADDRESSES = "127.0.0.1:47500..47509";
+    static final int CLIENT_PORT = 10800;
+
+    private LocalIgnite() {
+    }
+
+    /**
+     * @return a started server node accepting thin client connections
+     */
+    static Ignite startServer() {
+        TcpDiscoveryVmIpFinder ipFinder = new TcpDiscoveryVmIpFinder(true);
+        ipFinder.setAddresses(Collections.singletonList(ADDRESSES));
+        IgniteConfiguration configuration = new IgniteConfiguration()
+            .setIgniteInstanceName("benchmark-server")
+            .setLocalHost("127.0.0.1")
+            .setMetricsLogFrequency(0)
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(ipFinder))
+            .setClientConnectorConfiguration(new ClientConnectorConfiguration().setPort(CLIENT_PORT));
+        return Ignition.start(configuration);
+    }
+
+    /**
+     * @param extra additional properties
+     * @return a context with an Ignite client node connected to the server node
+     */
+    static ApplicationContext startThickContext(Map<String, Object> extra) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("ignite.enabled", true);
+        properties.put("ignite.client-mode", true);
+        properties.put("ignite.local-host", "127.0.0.1");
+        properties.put("ignite.metrics-log-frequency", 0);
+        properties.put("ignite.discovery-spi.static-ip-finder.enabled", true);
+        properties.put("ignite.discovery-spi.static-ip-finder.addresses[0]", ADDRESSES);
+        properties.putAll(extra);
+        return ApplicationContext.run(properties);
+    }
+
+    /**
+     * @param extra additional properties
+     * @return a context with a thin client connected to the server node
+     */
+    static ApplicationContext startThinContext(Map<String, Object> extra) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("ignite-thin-client.enabled", true);
+        properties.put("ignite-thin-client.addresses", Collections.singletonList("127.0.0.1:" + CLIENT_PORT));
+        properties.putAll(extra);
+        return ApplicationContext.run(properties);
+    }
+}
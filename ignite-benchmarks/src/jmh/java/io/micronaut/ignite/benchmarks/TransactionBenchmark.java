@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the {@link io.micronaut.ignite.annotation.IgniteTransaction} interceptor per call on a
+ * {@code TRANSACTIONAL} cache, compared with the same write without a transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class TransactionBenchmark {
+    private static final String CACHE_NAME = "benchmark-tx";
+
+    /**
+     * The length of the values.
+     */
+    @Param({"128"})
+    int valueSize;
+
+    /**
+     * The number of distinct keys, large enough to keep lock contention between threads low.
+     */
+    @Param({"10000"})
+    int keyCount;
+
+    String[] keys;
+    String value;
+
+    private Ignite server;
+    private ApplicationContext context;
+    private IgniteCache<String, String> cache;
+    private TransactionalService service;
+
+    /**
+     * Start the server node and a client node, then create the cache.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        server = LocalIgnite.startServer();
+        server.getOrCreateCache(new CacheConfiguration<String, String>(CACHE_NAME)
+            .setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL));
+        context = LocalIgnite.startThickContext(Collections.emptyMap());
+        // start the cache proxy on the client outside of a transaction
+        cache = context.getBean(Ignite.class).cache(CACHE_NAME);
+        service = context.getBean(TransactionalService.class);
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "key-" + i;
+        }
+        StringBuilder builder = new StringBuilder(valueSize);
+        while (builder.length() < valueSize) {
+            builder.append('v');
+        }
+        value = builder.toString();
+    }
+
+    /**
+     * Close the client node and stop the server node.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        server.close();
+    }
+
+    /**
+     * @param random the key selection of the thread
+     * @return the previous value
+     */
+    @Benchmark
+    public Object plain(KeyState random) {
+        return service.plain(cache, keys[random.next(keyCount)], value);
+    }
+
+    /**
+     * @param random the key selection of the thread
+     * @return the previous value
+     */
+    @Benchmark
+    public Object required(KeyState random) {
+        return service.required(cache, keys[random.next(keyCount)], value);
+    }
+
+    /**
+     * @param random the key selection of the thread
+     * @return the previous value
+     */
+    @Benchmark
+    public Object optimistic(KeyState random) {
+        return service.optimistic(cache, keys[random.next(keyCount)], value);
+    }
+
+    /**
+     * @param random the key selection of the thread
+     * @return the previous value
+     */
+    @Benchmark
+    public Object supports(KeyState random) {
+        return service.supports(cache, keys[random.next(keyCount)], value);
+    }
+}
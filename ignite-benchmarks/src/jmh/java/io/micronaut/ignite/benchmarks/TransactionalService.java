@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.benchmarks;
+
+import io.micronaut.ignite.annotation.IgniteTransaction;
+import org.apache.ignite.IgniteCache;
+
+import javax.inject.Singleton;
+
+/**
+ * Reads and writes a cache with and without {@link IgniteTransaction}, so the interceptor overhead can be
+ * measured against the same work.
+ */
+@Singleton
+public class TransactionalService {
+
+    /**
+     * @param cache the cache
+     * @param key   the key
+     * @param value the value
+     * @return the previous value
+     */
+    public Object plain(IgniteCache<String, String> cache, String key, String value) {
+        return cache.getAndPut(key, value);
+    }
+
+    /**
+     * @param cache the cache
+     * @param key   the key
+     * @param value the value
+     * @return the previous value
+     */
+    @IgniteTransaction
+    public Object required(IgniteCache<String, String> cache, String key, String value) {
+        return cache.getAndPut(key, value);
+    }
+
+    /**
+     * @param cache the cache
+     * @param key   the key
+     * @param value the value
+     * @return the previous value
+     */
+    @IgniteTransaction(concurrency = IgniteTransaction.Concurrency.OPTIMISTIC, isolation = IgniteTransaction.Isolation.SERIALIZABLE)
+    public Object optimistic(IgniteCache<String, String> cache, String key, String value) {
+        return cache.getAndPut(key, value);
+    }
+
+    /**
+     * @param cache the cache
+     * @param key   the key
+     * @param value the value
+     * @return the previous value
+     */
+    @IgniteTransaction(propagation = IgniteTransaction.Propagation.SUPPORTS)
+    public Object supports(IgniteCache<String, String> cache, String key, String value) {
+        return cache.getAndPut(key, value);
+    }
+}
@@ -15,13 +15,15 @@
  */
 package io.micronaut.ignite;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
 import io.micronaut.cache.AsyncCache;
-import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.ignite.metrics.IgniteCacheMetrics;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.lang.IgniteCallable;
 import org.apache.ignite.lang.IgniteFuture;
 import org.apache.ignite.lang.IgniteInClosure;
 
@@ -34,23 +36,52 @@ public class IgniteAsyncCache implements AsyncCache<IgniteCache> {
     private final ConversionService<?> conversionService;
     private final IgniteCache nativeCache;
     private final ExecutorService executorService;
+    private final IgniteSingleFlight singleFlight;
+    private final IgniteReadBatcher readBatcher;
+    private final IgniteWriteBehindBuffer writeBehind;
+    private final IgniteCacheMetrics metrics;
+    private volatile IgniteCache binaryCache;
 
     public IgniteAsyncCache(ConversionService<?> conversionService, IgniteCache nativeCache,
                             ExecutorService executorService) {
+        this(conversionService, nativeCache, executorService, new IgniteSingleFlight(), null, null, IgniteCacheMetrics.NOOP);
+    }
+
+    public IgniteAsyncCache(ConversionService<?> conversionService, IgniteCache nativeCache,
+                            ExecutorService executorService, IgniteSingleFlight singleFlight,
+                            @Nullable IgniteReadBatcher readBatcher, @Nullable IgniteWriteBehindBuffer writeBehind,
+                            IgniteCacheMetrics metrics) {
         this.conversionService = conversionService;
         this.nativeCache = nativeCache;
         this.executorService = executorService;
+        this.singleFlight = singleFlight;
+        this.readBatcher = readBatcher;
+        this.writeBehind = writeBehind;
+        this.metrics = metrics;
     }
 
     @Override
     public <T> CompletableFuture<Optional<T>> get(Object key, Argument<T> requiredType) {
         ArgumentUtils.requireNonNull("key", key);
+        return metrics.recordGet(metrics.start(), lookup(key, requiredType));
+    }
+
+    private <T> CompletableFuture<Optional<T>> lookup(Object key, Argument<T> requiredType) {
+        Object buffered = writeBehind != null ? writeBehind.lookup(key) : null;
+        if (buffered != null) {
+            return CompletableFuture.completedFuture(buffered == IgniteWriteBehindBuffer.REMOVED ? Optional.empty()
+                : IgniteConversion.convert(conversionService, buffered, requiredType));
+        }
+        if (readBatcher != null) {
+            return readBatcher.get(key).thenApply(result -> result == null ? Optional.empty()
+                : IgniteConversion.convert(conversionService, result, requiredType));
+        }
         CompletableFuture<Optional<T>> newFuture = new CompletableFuture<>();
         IgniteFuture<Object> igniteFuture = nativeCache.getAsync(key);
         igniteFuture.listenAsync((IgniteInClosure<IgniteFuture<Object>>) response -> {
             try {
                 Object result = response.get();
-                newFuture.complete(conversionService.convert(result, ConversionContext.of(requiredType)));
+                newFuture.complete(IgniteConversion.convert(conversionService, result, requiredType));
             } catch (IgniteException ex) {
                 newFuture.completeExceptionally(ex);
             }
@@ -62,43 +93,149 @@ public class IgniteAsyncCache implements AsyncCache<IgniteCache> {
     public <T> CompletableFuture<T> get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
         ArgumentUtils.requireNonNull("key", key);
         CompletableFuture<Optional<T>> optionalCompletableFuture = get(key, requiredType);
-        return optionalCompletableFuture.thenApply(existingValue -> {
+        return optionalCompletableFuture.thenCompose(existingValue -> {
+            if (existingValue.isPresent()) {
+                return CompletableFuture.completedFuture(existingValue.get());
+            }
+            return singleFlight.loadAsync(key, () -> load(key, requiredType, supplier));
+        });
+    }
+
+    private <T> CompletableFuture<T> load(Object key, Argument<T> requiredType, Supplier<T> supplier) {
+        if (singleFlight.isLocking()) {
+            return CompletableFuture.supplyAsync(() -> singleFlight.withLock(key, () -> {
+                if (writeBehind != null) {
+                    writeBehind.flush(key).join();
+                }
+                Object existingValue = nativeCache.get(key);
+                if (existingValue != null) {
+                    Optional<T> converted = IgniteConversion.convert(conversionService, existingValue, requiredType);
+                    if (converted.isPresent()) {
+                        return converted.get();
+                    }
+                }
+                T value = load(supplier);
+                Object previous = nativeCache.getAndPutIfAbsent(key, value);
+                return previous == null ? value : IgniteConversion.convert(conversionService, previous, requiredType).orElse(value);
+            }), executorService);
+        }
+        return lookup(key, requiredType).thenCompose(existingValue -> {
             if (existingValue.isPresent()) {
-                return existingValue.get();
-            } else {
-                T value = supplier.get();
-                put(key, value);
-                return value;
+                return CompletableFuture.completedFuture(existingValue.get());
             }
+            T value = load(supplier);
+            return flushWrites(key).thenCompose(flushed -> this.<T>getAndPutIfAbsent(key, value, requiredType))
+                .thenApply(previous -> previous.orElse(value));
         });
     }
 
+    private <T> T load(Supplier<T> supplier) {
+        long start = metrics.start();
+        T value;
+        try {
+            value = supplier.get();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.LOAD, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.LOAD, start);
+        ArgumentUtils.requireNonNull("value", value);
+        return value;
+    }
+
+    /**
+     * Returns the value of the key, computing and storing it in a single atomic operation on the node owning the key
+     * when it is missing. The loader is serialized and runs on that node, so its class must be available there.
+     *
+     * @param key          the key
+     * @param requiredType the required type
+     * @param loader       computes the missing value
+     * @param <T>          the value type
+     * @return a future with the value or empty if the loader returned null
+     */
+    public <T> CompletableFuture<Optional<T>> getOrLoad(Object key, Argument<T> requiredType, IgniteCallable<T> loader) {
+        ArgumentUtils.requireNonNull("key", key);
+        return flushWrites(key).thenCompose(flushed -> invoke(key, requiredType, loader));
+    }
+
+    private <T> CompletableFuture<Optional<T>> invoke(Object key, Argument<T> requiredType, IgniteCallable<T> loader) {
+        CompletableFuture<Optional<T>> future = new CompletableFuture<>();
+        IgniteFuture<Object> igniteFuture = nativeCache.invokeAsync(key, new IgniteLoadEntryProcessor(loader));
+        igniteFuture.listenAsync((IgniteInClosure<IgniteFuture<Object>>) response -> {
+            try {
+                Object result = response.get();
+                future.complete(result == null ? Optional.empty() : IgniteConversion.convert(conversionService, result, requiredType));
+            } catch (RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        }, executorService);
+        return future;
+    }
+
+    /**
+     * Returns the value of the key read in its binary form and bound to the given projection, so that only the
+     * fields of the projection are read and the value is not deserialized as a whole. {@link
+     * org.apache.ignite.binary.BinaryObject} returns the binary value itself. Other types must be {@link
+     * io.micronaut.core.annotation.Introspected}, their constructor arguments and properties are bound to the fields
+     * of the same name.
+     *
+     * @param key        the key
+     * @param projection the projection type
+     * @param <P>        the projection type
+     * @return a future with the projection or empty if the key has no value
+     */
+    public <P> CompletableFuture<Optional<P>> project(Object key, Class<P> projection) {
+        ArgumentUtils.requireNonNull("key", key);
+        ArgumentUtils.requireNonNull("projection", projection);
+        long start = metrics.start();
+        return metrics.recordGet(start, flushWrites(key).thenCompose(flushed -> {
+            CompletableFuture<Optional<P>> future = new CompletableFuture<>();
+            IgniteFuture<Object> igniteFuture = binaryCache().getAsync(key);
+            igniteFuture.listenAsync((IgniteInClosure<IgniteFuture<Object>>) response -> {
+                try {
+                    future.complete(IgniteBinaryProjection.project(conversionService, response.get(), projection));
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }, executorService);
+            return future;
+        }));
+    }
+
     @Override
     public <T> CompletableFuture<Optional<T>> putIfAbsent(Object key, T value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
         final Class<T> aClass = (Class<T>) value.getClass();
-        CompletableFuture<Optional<T>> result = get(key, aClass);
+        long start = metrics.start();
+        return metrics.record(IgniteCacheMetrics.Operation.PUT_IF_ABSENT, start,
+            flushWrites(key).thenCompose(flushed -> getAndPutIfAbsent(key, value, Argument.of(aClass))));
+    }
 
-        CompletableFuture<Optional<T>> newFuture = new CompletableFuture<>();
-        result.whenComplete((t, throwable) -> {
+    private <T> CompletableFuture<Optional<T>> getAndPutIfAbsent(Object key, Object value, Argument<T> requiredType) {
+        CompletableFuture<Optional<T>> future = new CompletableFuture<>();
+        IgniteFuture<Object> igniteFuture = nativeCache.getAndPutIfAbsentAsync(key, value);
+        igniteFuture.listenAsync((IgniteInClosure<IgniteFuture<Object>>) response -> {
             try {
-                nativeCache.putIfAbsent(key, value);
-            } catch (Exception ex) {
-                newFuture.completeExceptionally(ex);
-            }
-            if (throwable != null) {
-                newFuture.completeExceptionally(throwable);
+                Object previous = response.get();
+                future.complete(previous == null ? Optional.empty() : IgniteConversion.convert(conversionService, previous, requiredType));
+            } catch (RuntimeException ex) {
+                future.completeExceptionally(ex);
             }
-            newFuture.complete(t);
-        });
-        return newFuture;
+        }, executorService);
+        return future;
     }
 
     @Override
     public CompletableFuture<Boolean> put(Object key, Object value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
+        long start = metrics.start();
+        if (writeBehind != null) {
+            writeBehind.put(key, value);
+            metrics.record(IgniteCacheMetrics.Operation.PUT, start);
+            return CompletableFuture.completedFuture(true);
+        }
         CompletableFuture<Boolean> future = new CompletableFuture<>();
         IgniteFuture<Void> igniteFuture = nativeCache.putAsync(key, value);
         igniteFuture.listenAsync((IgniteInClosure<IgniteFuture<Void>>) response -> {
@@ -109,12 +246,18 @@ public class IgniteAsyncCache implements AsyncCache<IgniteCache> {
                 future.completeExceptionally(ex);
             }
         }, executorService);
-        return future;
+        return metrics.record(IgniteCacheMetrics.Operation.PUT, start, future);
     }
 
     @Override
     public CompletableFuture<Boolean> invalidate(Object key) {
         ArgumentUtils.requireNonNull("key", key);
+        long start = metrics.start();
+        if (writeBehind != null) {
+            writeBehind.remove(key);
+            metrics.record(IgniteCacheMetrics.Operation.INVALIDATE, start);
+            return CompletableFuture.completedFuture(true);
+        }
         CompletableFuture<Boolean> future = new CompletableFuture<>();
         IgniteFuture<Boolean> igniteFuture = nativeCache.removeAsync(key);
         igniteFuture.listen((IgniteInClosure<IgniteFuture<Boolean>>) response -> {
@@ -124,11 +267,15 @@ public class IgniteAsyncCache implements AsyncCache<IgniteCache> {
                 future.completeExceptionally(exception);
             }
         });
-        return future;
+        return metrics.record(IgniteCacheMetrics.Operation.INVALIDATE, start, future);
     }
 
     @Override
     public CompletableFuture<Boolean> invalidateAll() {
+        long start = metrics.start();
+        if (writeBehind != null) {
+            writeBehind.clear();
+        }
         IgniteFuture<Void> igniteFuture = nativeCache.clearAsync();
         CompletableFuture<Boolean> future = new CompletableFuture<>();
         igniteFuture.listenAsync((IgniteInClosure<IgniteFuture<Void>>) response -> {
@@ -139,7 +286,7 @@ public class IgniteAsyncCache implements AsyncCache<IgniteCache> {
                 future.completeExceptionally(ex);
             }
         }, executorService);
-        return future;
+        return metrics.record(IgniteCacheMetrics.Operation.INVALIDATE_ALL, start, future);
     }
 
     @Override
@@ -151,4 +298,20 @@ public class IgniteAsyncCache implements AsyncCache<IgniteCache> {
     public IgniteCache getNativeCache() {
         return nativeCache;
     }
+
+    private IgniteCache binaryCache() {
+        IgniteCache cache = binaryCache;
+        if (cache == null) {
+            cache = nativeCache.withKeepBinary();
+            binaryCache = cache;
+        }
+        return cache;
+    }
+
+    private CompletableFuture<Void> flushWrites(Object key) {
+        if (writeBehind != null) {
+            return writeBehind.flush(key);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.core.type.Argument;
+import org.apache.ignite.binary.BinaryObject;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds the fields of a {@link BinaryObject} to an {@link io.micronaut.core.annotation.Introspected} type, so that
+ * only the fields of the projection are read and the value is never deserialized as a whole. The constructor
+ * arguments and writable properties of the projection are bound to the fields of the same name.
+ *
+ * @param <P> the projection type
+ */
+final class IgniteBinaryProjection<P> {
+    private static final Map<Class<?>, IgniteBinaryProjection<?>> PROJECTIONS = new ConcurrentHashMap<>();
+
+    private final BeanIntrospection<P> introspection;
+    private final Argument<?>[] constructorArguments;
+    private final List<BeanProperty<P, Object>> properties = new ArrayList<>();
+
+    private IgniteBinaryProjection(Class<P> type) {
+        this.introspection = BeanIntrospection.getIntrospection(type);
+        this.constructorArguments = introspection.getConstructorArguments();
+        Set<String> constructorNames = new HashSet<>();
+        for (Argument<?> argument : constructorArguments) {
+            constructorNames.add(argument.getName());
+        }
+        Collection<BeanProperty<P, Object>> beanProperties = introspection.getBeanProperties();
+        for (BeanProperty<P, Object> property : beanProperties) {
+            if (!property.isReadOnly() && !constructorNames.contains(property.getName())) {
+                properties.add(property);
+            }
+        }
+    }
+
+    /**
+     * Project a value read in its binary form.
+     *
+     * @param conversionService the conversion service of the field values
+     * @param value             the value read from the cache
+     * @param type              the projection type, {@link BinaryObject} returns the value as it is
+     * @param <P>               the projection type
+     * @return the projection
+     */
+    static <P> Optional<P> project(ConversionService<?> conversionService, Object value, Class<P> type) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (!(value instanceof BinaryObject) || type.isInstance(value)) {
+            return IgniteConversion.convert(conversionService, value, type);
+        }
+        return Optional.of(of(type).bind(conversionService, (BinaryObject) value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <P> IgniteBinaryProjection<P> of(Class<P> type) {
+        return (IgniteBinaryProjection<P>) PROJECTIONS.computeIfAbsent(type, IgniteBinaryProjection::new);
+    }
+
+    private P bind(ConversionService<?> conversionService, BinaryObject binary) {
+        Object[] arguments = new Object[constructorArguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            Argument<?> argument = constructorArguments[i];
+            Object field = field(conversionService, binary, argument.getName(), argument);
+            arguments[i] = field == null && argument.getType().isPrimitive() ? Array.get(Array.newInstance(argument.getType(), 1), 0) : field;
+        }
+        P projection = introspection.instantiate(arguments);
+        for (BeanProperty<P, Object> property : properties) {
+            Object field = field(conversionService, binary, property.getName(), property.asArgument());
+            if (field != null) {
+                property.set(projection, field);
+            }
+        }
+        return projection;
+    }
+
+    private static Object field(ConversionService<?> conversionService, BinaryObject binary, String name, Argument<?> argument) {
+        if (!binary.hasField(name)) {
+            return null;
+        }
+        Object field = binary.field(name);
+        if (field == null) {
+            return null;
+        }
+        Argument<?> type = argument.getType().isPrimitive() ? Argument.of(ReflectionUtils.getWrapperType(argument.getType())) : argument;
+        return IgniteConversion.convert(conversionService, field, type).orElse(null);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.ignite.annotation.IgnitePrimary;
+import io.micronaut.ignite.configuration.DefaultCacheConfiguration;
+import io.micronaut.ignite.configuration.IgniteCacheManagerConfiguration;
+import io.micronaut.scheduling.TaskExecutors;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates the configured caches on startup when {@code ignite.cache-manager.eager-init} is enabled. The caches are
+ * created in the background once the nodes are started, so that the application does not wait for them.
+ */
+@Context
+@Requires(beans = IgniteCacheManager.class)
+@Requires(property = IgniteCacheManagerConfiguration.PREFIX + "." + "eager-init", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class IgniteCacheInitializer {
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteCacheInitializer.class);
+
+    private final CompletableFuture<Void> created;
+
+    /**
+     * Default constructor.
+     *
+     * @param cacheManager        the cache manager
+     * @param startup             starts the nodes
+     * @param executorService     the executor the caches are created on
+     * @param cacheConfigurations the configured caches
+     * @param primaryCaches       the caches provided by factories
+     */
+    public IgniteCacheInitializer(IgniteCacheManager cacheManager,
+                                  IgniteStartup startup,
+                                  @Named(TaskExecutors.IO) ExecutorService executorService,
+                                  Collection<DefaultCacheConfiguration> cacheConfigurations,
+                                  @IgnitePrimary Collection<CacheConfiguration> primaryCaches) {
+        List<CacheConfiguration> caches = new ArrayList<>(cacheConfigurations);
+        caches.addAll(primaryCaches);
+        this.created = startup.ready()
+            .thenRunAsync(() -> cacheManager.createCaches(caches), executorService)
+            .whenComplete((ignored, throwable) -> {
+                if (throwable != null && LOG.isErrorEnabled()) {
+                    LOG.error("Failed to create the caches on startup: " + throwable.getMessage(), throwable);
+                }
+            });
+    }
+
+    /**
+     * The future completed once the caches are created. It fails if a node failed to start or the caches could not be
+     * created, in which case they are created when they are first used.
+     *
+     * @return the creation of the caches
+     */
+    public CompletableFuture<Void> created() {
+        return created;
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.ignite;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import io.micronaut.cache.DynamicCacheManager;
 import io.micronaut.cache.SyncCache;
 import io.micronaut.context.annotation.Primary;
@@ -23,33 +24,146 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.ignite.configuration.DefaultIgniteConfiguration;
+import io.micronaut.ignite.configuration.IgniteCacheConfiguration;
+import io.micronaut.ignite.metrics.IgniteCacheMetrics;
+import io.micronaut.ignite.metrics.IgniteCacheMetricsFactory;
 import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 @Singleton
 @Requires(beans = Ignite.class)
 @Requires(property = DefaultIgniteConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
-public class IgniteCacheManager implements DynamicCacheManager<IgniteCache> {
+public class IgniteCacheManager implements DynamicCacheManager<IgniteCache>, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteCacheManager.class);
     private final Ignite ignite;
+    private final IgniteRegistry registry;
     private final ConversionService<?> service;
     private final ExecutorService executorService;
+    private final TaskScheduler taskScheduler;
+    private final IgniteCacheMetricsFactory metricsFactory;
+    private final Map<String, IgniteCacheConfiguration> cacheConfigurations = new HashMap<>();
+    private final Map<String, IgniteSyncCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, IgniteReadBatcher> readBatchers = new ConcurrentHashMap<>();
+    private final Map<String, IgniteWriteBehindBuffer> writeBehindBuffers = new ConcurrentHashMap<>();
 
     public IgniteCacheManager(@Primary Ignite ignite,
+                              IgniteRegistry registry,
                               ConversionService<?> service,
-                              @Named(TaskExecutors.IO) ExecutorService executorService) {
+                              @Named(TaskExecutors.IO) ExecutorService executorService,
+                              @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+                              Collection<IgniteCacheConfiguration> cacheConfigurations,
+                              @Nullable IgniteCacheMetricsFactory metricsFactory) {
         this.ignite = ignite;
+        this.registry = registry;
         this.service = service;
         this.executorService = executorService;
+        this.taskScheduler = taskScheduler;
+        this.metricsFactory = metricsFactory;
+        for (IgniteCacheConfiguration configuration : cacheConfigurations) {
+            this.cacheConfigurations.put(configuration.getName(), configuration);
+        }
     }
 
     @NonNull
     @Override
     public SyncCache<IgniteCache> getCache(String name) {
-        return new IgniteSyncCache(service, ignite.getOrCreateCache(name), executorService);
+        return caches.computeIfAbsent(name, n -> createCache(registry.getOrCreateCache(ignite, n)));
+    }
+
+    /**
+     * Create the given caches in a single operation and register them, so that the first requests do not wait for
+     * the caches to be created. The caches read through a near cache are created on their own, with their near cache.
+     *
+     * @param configurations the cache configurations
+     */
+    public void createCaches(@NonNull Collection<CacheConfiguration> configurations) {
+        List<CacheConfiguration> batch = new ArrayList<>();
+        for (CacheConfiguration configuration : configurations) {
+            if (registry.findNearConfiguration(ignite, configuration.getName()).isPresent()) {
+                getCache(configuration.getName());
+            } else {
+                batch.add(configuration);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        Collection<IgniteCache> created = ignite.getOrCreateCaches(batch);
+        for (IgniteCache<Object, Object> cache : created) {
+            caches.computeIfAbsent(cache.getName(), n -> createCache(cache));
+        }
+    }
+
+    /**
+     * Write the buffered writes and send the reads waiting in a batch.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        writeBehindBuffers.values().forEach(writeBehind -> {
+            try {
+                writeBehind.close();
+            } catch (IgniteException ex) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error(ex.getMessage(), ex);
+                }
+            }
+        });
+        writeBehindBuffers.clear();
+        readBatchers.values().forEach(IgniteReadBatcher::close);
+        readBatchers.clear();
+        caches.clear();
+    }
+
+    private IgniteSyncCache createCache(IgniteCache<Object, Object> nativeCache) {
+        String name = nativeCache.getName();
+        IgniteCacheConfiguration configuration = cacheConfigurations.get(name);
+        IgniteCache<Object, Object> cache = configuration != null && configuration.isKeepBinary() ? nativeCache.withKeepBinary() : nativeCache;
+        IgniteSingleFlight singleFlight = singleFlight(cache);
+        IgniteReadBatcher readBatcher = null;
+        IgniteWriteBehindBuffer writeBehind = null;
+        if (configuration != null && configuration.getReadBatchWindow() != null) {
+            readBatcher = readBatchers.computeIfAbsent(name, n -> new IgniteReadBatcher(cache, taskScheduler, executorService,
+                configuration.getReadBatchWindow(), configuration.getReadBatchSize()));
+        }
+        if (configuration != null && configuration.getWriteBehindFlushInterval() != null) {
+            writeBehind = writeBehindBuffers.computeIfAbsent(name, n -> new IgniteWriteBehindBuffer(cache, taskScheduler,
+                configuration.getWriteBehindFlushInterval(), configuration.getWriteBehindFlushSize(), configuration.getWriteBehindMaxAttempts()));
+        }
+        IgniteCacheMetrics metrics = metricsFactory != null ? metricsFactory.create(name, IgniteCacheMetricsFactory.THICK) : IgniteCacheMetrics.NOOP;
+        return new IgniteSyncCache(service, cache, executorService, singleFlight, readBatcher, writeBehind, metrics);
+    }
+
+    private IgniteSingleFlight singleFlight(IgniteCache<Object, Object> cache) {
+        IgniteCacheConfiguration configuration = cacheConfigurations.get(cache.getName());
+        if (configuration == null || !configuration.isDistributedLoad()) {
+            return new IgniteSingleFlight();
+        }
+        CacheConfiguration<?, ?> cacheConfiguration = cache.getConfiguration(CacheConfiguration.class);
+        if (cacheConfiguration.getAtomicityMode() != CacheAtomicityMode.TRANSACTIONAL) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Cache [{}] is not TRANSACTIONAL, values are loaded without a cluster wide lock", cache.getName());
+            }
+            return new IgniteSingleFlight();
+        }
+        return new IgniteSingleFlight(cache::lock);
     }
 }
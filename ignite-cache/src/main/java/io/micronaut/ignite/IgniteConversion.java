@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import org.apache.ignite.binary.BinaryObject;
+
+import java.util.Optional;
+
+/**
+ * Converts the values read from a cache to the requested type. Values that already have the requested type are
+ * returned without going through the {@link ConversionService}.
+ */
+final class IgniteConversion {
+
+    private IgniteConversion() {
+    }
+
+    /**
+     * @param conversionService the conversion service
+     * @param value             the value read from the cache
+     * @param requiredType      the required type
+     * @param <T>               the required type
+     * @return the converted value
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Optional<T> convert(ConversionService<?> conversionService, Object value, Argument<T> requiredType) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (isInstance(value, requiredType)) {
+            return Optional.of((T) value);
+        }
+        if (value instanceof BinaryObject) {
+            Object deserialized = ((BinaryObject) value).deserialize();
+            if (isInstance(deserialized, requiredType)) {
+                return Optional.of((T) deserialized);
+            }
+            return conversionService.convert(deserialized, ConversionContext.of(requiredType));
+        }
+        return conversionService.convert(value, ConversionContext.of(requiredType));
+    }
+
+    /**
+     * @param conversionService the conversion service
+     * @param value             the value read from the cache
+     * @param requiredType      the required type
+     * @param <T>               the required type
+     * @return the converted value
+     */
+    static <T> Optional<T> convert(ConversionService<?> conversionService, Object value, Class<T> requiredType) {
+        if (requiredType.isInstance(value)) {
+            return Optional.of(requiredType.cast(value));
+        }
+        return convert(conversionService, value, Argument.of(requiredType));
+    }
+
+    private static boolean isInstance(Object value, Argument<?> requiredType) {
+        if (!requiredType.getType().isInstance(value)) {
+            return false;
+        }
+        // generic types may need their elements converted
+        Argument<?>[] typeParameters = requiredType.getTypeParameters();
+        return typeParameters == null || typeParameters.length == 0;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import org.apache.ignite.cache.CacheEntryProcessor;
+import org.apache.ignite.lang.IgniteCallable;
+
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.MutableEntry;
+
+/**
+ * Entry processor returning the value of an entry, computing and storing it on the node owning the key when it is
+ * missing. Ignite may process an entry more than once: on retries, and for {@code TRANSACTIONAL} caches on the
+ * primary node, the backup nodes and the near nodes of the key, each computing its own value. The loader must
+ * therefore be idempotent and return the same value every time it is called for a key.
+ */
+final class IgniteLoadEntryProcessor implements CacheEntryProcessor<Object, Object, Object> {
+    private static final long serialVersionUID = 1L;
+
+    private final IgniteCallable<?> loader;
+
+    /**
+     * @param loader computes the missing value
+     */
+    IgniteLoadEntryProcessor(IgniteCallable<?> loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public Object process(MutableEntry<Object, Object> entry, Object... arguments) throws EntryProcessorException {
+        if (entry.exists()) {
+            return entry.getValue();
+        }
+        try {
+            Object value = loader.call();
+            if (value != null) {
+                entry.setValue(value);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new EntryProcessorException(e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.scheduling.TaskScheduler;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.lang.IgniteInClosure;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Gathers concurrent single key reads of a cache and sends them as one {@link IgniteCache#getAllAsync} request, once
+ * the batch window elapses or the batch is full. A failed request fails the reads of every key of the batch.
+ */
+public class IgniteReadBatcher implements AutoCloseable {
+    private final IgniteCache<Object, Object> nativeCache;
+    private final TaskScheduler taskScheduler;
+    private final ExecutorService executorService;
+    private final Duration window;
+    private final int maxBatchSize;
+    private Map<Object, CompletableFuture<Object>> pending = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * @param nativeCache     the cache to read from
+     * @param taskScheduler   schedules the flush of a batch
+     * @param executorService completes the waiting futures
+     * @param window          how long reads are gathered
+     * @param maxBatchSize    the number of keys flushed immediately
+     */
+    public IgniteReadBatcher(@NonNull IgniteCache<Object, Object> nativeCache, @NonNull TaskScheduler taskScheduler,
+                             @NonNull ExecutorService executorService, @NonNull Duration window, int maxBatchSize) {
+        this.nativeCache = nativeCache;
+        this.taskScheduler = taskScheduler;
+        this.executorService = executorService;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Read a key as part of the next batch. Reads of the same key within a batch share one future.
+     *
+     * @param key the key
+     * @return a future with the value or null if the key is not present
+     */
+    @NonNull
+    public CompletableFuture<Object> get(@NonNull Object key) {
+        Map<Object, CompletableFuture<Object>> batch = null;
+        CompletableFuture<Object> future;
+        synchronized (this) {
+            if (closed) {
+                batch = new HashMap<>(1);
+                future = new CompletableFuture<>();
+                batch.put(key, future);
+            } else {
+                future = pending.get(key);
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    pending.put(key, future);
+                    if (pending.size() == 1) {
+                        taskScheduler.schedule(window, this::flush);
+                    }
+                    if (pending.size() >= maxBatchSize) {
+                        batch = swap();
+                    }
+                }
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        }
+        return future;
+    }
+
+    /**
+     * Send the pending reads.
+     */
+    public void flush() {
+        Map<Object, CompletableFuture<Object>> batch;
+        synchronized (this) {
+            batch = swap();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+
+    private Map<Object, CompletableFuture<Object>> swap() {
+        Map<Object, CompletableFuture<Object>> batch = pending;
+        pending = new HashMap<>();
+        return batch;
+    }
+
+    private void send(Map<Object, CompletableFuture<Object>> batch) {
+        IgniteFuture<Map<Object, Object>> igniteFuture;
+        try {
+            igniteFuture = nativeCache.getAllAsync(batch.keySet());
+        } catch (RuntimeException ex) {
+            batch.values().forEach(future -> future.completeExceptionally(ex));
+            return;
+        }
+        igniteFuture.listenAsync((IgniteInClosure<IgniteFuture<Map<Object, Object>>>) response -> {
+            try {
+                Map<Object, Object> values = response.get();
+                batch.forEach((key, future) -> future.complete(values.get(key)));
+            } catch (RuntimeException ex) {
+                batch.values().forEach(future -> future.completeExceptionally(ex));
+            }
+        }, executorService);
+    }
+}
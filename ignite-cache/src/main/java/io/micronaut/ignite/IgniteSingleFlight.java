@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key, so that only one loader runs per key while the other callers wait for
+ * its result. Loads can optionally be guarded by a cluster wide lock on the key.
+ *
+ * <p>A loader must not load its own key again: the nested load would wait for itself. This is detected when the
+ * nested load is made by the thread running the loader, and fails with an {@link IllegalStateException}. Loaders of
+ * different keys that load each other from different threads are not detected and wait for each other.</p>
+ */
+public class IgniteSingleFlight {
+    private final Map<Object, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Function<Object, Lock> lockFactory;
+
+    /**
+     * Coalesce loads within this JVM only.
+     */
+    public IgniteSingleFlight() {
+        this(null);
+    }
+
+    /**
+     * @param lockFactory provides the cluster wide lock for a key, if any
+     */
+    public IgniteSingleFlight(@Nullable Function<Object, Lock> lockFactory) {
+        this.lockFactory = lockFactory;
+    }
+
+    /**
+     * @return whether loads are guarded by a cluster wide lock
+     */
+    public boolean isLocking() {
+        return lockFactory != null;
+    }
+
+    /**
+     * Load the value for the given key, waiting for a load already in flight if there is one.
+     *
+     * @param key    the key
+     * @param loader the loader
+     * @param <T>    the value type
+     * @return the loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(@NonNull Object key, @NonNull Supplier<T> loader) {
+        Flight future = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            existing.checkNotLoading(key);
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+        future.loader = Thread.currentThread();
+        try {
+            T value = withLock(key, loader);
+            future.loader = null;
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.loader = null;
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Load the value for the given key without blocking, sharing a load already in flight if there is one. The
+     * cluster wide lock is not applied, see {@link #withLock(Object, Supplier)}. A nested load of the same key made
+     * while the loader creates its future fails, a nested load made later by the stages of that future is not
+     * detected and never completes.
+     *
+     * @param key    the key
+     * @param loader the loader
+     * @param <T>    the value type
+     * @return a future with the loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> loadAsync(@NonNull Object key, @NonNull Supplier<? extends CompletionStage<T>> loader) {
+        Flight future = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                existing.checkNotLoading(key);
+            } catch (IllegalStateException e) {
+                CompletableFuture<T> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+            return existing.thenApply(value -> (T) value);
+        }
+        future.loader = Thread.currentThread();
+        try {
+            CompletionStage<T> stage = loader.get();
+            future.loader = null;
+            stage.whenComplete((value, throwable) -> {
+                inFlight.remove(key, future);
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            future.loader = null;
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future.thenApply(value -> (T) value);
+    }
+
+    /**
+     * Run the loader while holding the cluster wide lock of the key, if locking is enabled.
+     *
+     * @param key    the key
+     * @param loader the loader
+     * @param <T>    the value type
+     * @return the loaded value
+     */
+    public <T> T withLock(@NonNull Object key, @NonNull Supplier<T> loader) {
+        if (lockFactory == null) {
+            return loader.get();
+        }
+        Lock lock = lockFactory.apply(key);
+        lock.lock();
+        try {
+            return loader.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+
+    /**
+     * A load in flight, with the thread running its loader while it runs.
+     */
+    private static final class Flight extends CompletableFuture<Object> {
+        private volatile Thread loader;
+
+        private void checkNotLoading(Object key) {
+            if (loader == Thread.currentThread()) {
+                throw new IllegalStateException("The loader of key [" + key + "] loads the same key again");
+            }
+        }
+    }
+}
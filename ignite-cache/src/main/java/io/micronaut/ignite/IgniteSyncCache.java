@@ -16,13 +16,15 @@
 package io.micronaut.ignite;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import io.micronaut.cache.AsyncCache;
 import io.micronaut.cache.SyncCache;
-import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.ignite.metrics.IgniteCacheMetrics;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.lang.IgniteCallable;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -32,28 +34,48 @@ public class IgniteSyncCache implements SyncCache<IgniteCache> {
     private final ConversionService<?> conversionService;
     private final IgniteCache nativeCache;
     private final ExecutorService executorService;
+    private final IgniteSingleFlight singleFlight;
+    private final IgniteReadBatcher readBatcher;
+    private final IgniteWriteBehindBuffer writeBehind;
+    private final IgniteCacheMetrics metrics;
+    private volatile IgniteCache binaryCache;
 
     public IgniteSyncCache(ConversionService<?> conversionService, IgniteCache nativeCache, ExecutorService executorService) {
+        this(conversionService, nativeCache, executorService, new IgniteSingleFlight(), null, null, IgniteCacheMetrics.NOOP);
+    }
+
+    public IgniteSyncCache(ConversionService<?> conversionService, IgniteCache nativeCache, ExecutorService executorService,
+                           IgniteSingleFlight singleFlight, @Nullable IgniteReadBatcher readBatcher,
+                           @Nullable IgniteWriteBehindBuffer writeBehind, IgniteCacheMetrics metrics) {
         this.conversionService = conversionService;
         this.nativeCache = nativeCache;
         this.executorService = executorService;
+        this.singleFlight = singleFlight;
+        this.readBatcher = readBatcher;
+        this.writeBehind = writeBehind;
+        this.metrics = metrics;
     }
 
     @NonNull
     @Override
     public AsyncCache<IgniteCache> async() {
-        return new IgniteAsyncCache(conversionService, nativeCache, executorService);
+        return new IgniteAsyncCache(conversionService, nativeCache, executorService, singleFlight, readBatcher, writeBehind, metrics);
     }
 
     @NonNull
     @Override
     public <T> Optional<T> get(@NonNull Object key, @NonNull Argument<T> requiredType) {
         ArgumentUtils.requireNonNull("key", key);
-        Object value = nativeCache.get(key);
-        if (value != null) {
-            return conversionService.convert(value, ConversionContext.of(requiredType));
+        long start = metrics.start();
+        Optional<T> value;
+        try {
+            value = lookup(key, requiredType);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.GET, start, e);
+            throw e;
         }
-        return Optional.empty();
+        metrics.recordGet(start, value.isPresent());
+        return value;
     }
 
     @Override
@@ -62,11 +84,93 @@ public class IgniteSyncCache implements SyncCache<IgniteCache> {
         Optional<T> existingValue = get(key, requiredType);
         if (existingValue.isPresent()) {
             return existingValue.get();
-        } else {
-            T value = supplier.get();
-            put(key, value);
-            return value;
         }
+        return singleFlight.load(key, () -> {
+            Optional<T> loadedValue = lookup(key, requiredType);
+            if (loadedValue.isPresent()) {
+                return loadedValue.get();
+            }
+            long start = metrics.start();
+            T value;
+            try {
+                value = supplier.get();
+            } catch (RuntimeException e) {
+                metrics.recordFailure(IgniteCacheMetrics.Operation.LOAD, start, e);
+                throw e;
+            }
+            metrics.record(IgniteCacheMetrics.Operation.LOAD, start);
+            ArgumentUtils.requireNonNull("value", value);
+            flushWrites(key);
+            Object previous = nativeCache.getAndPutIfAbsent(key, value);
+            return previous == null ? value : IgniteConversion.convert(conversionService, previous, requiredType).orElse(value);
+        });
+    }
+
+    private <T> Optional<T> lookup(Object key, Argument<T> requiredType) {
+        Object value = writeBehind != null ? writeBehind.lookup(key) : null;
+        if (value == IgniteWriteBehindBuffer.REMOVED) {
+            return Optional.empty();
+        }
+        if (value == null) {
+            value = nativeCache.get(key);
+        }
+        if (value != null) {
+            return IgniteConversion.convert(conversionService, value, requiredType);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the value of the key, computing and storing it in a single atomic operation on the node owning the key
+     * when it is missing. The loader is serialized and runs on that node, so its class must be available there.
+     * Ignite may run the loader more than once for a key, on retries and, for {@code TRANSACTIONAL} caches, on every
+     * node holding a copy of the entry. It must be idempotent and deterministic, otherwise the copies of the entry
+     * can hold different values; use {@link #get(Object, Argument, Supplier)} to compute the value once.
+     *
+     * @param key          the key
+     * @param requiredType the required type
+     * @param loader       computes the missing value
+     * @param <T>          the value type
+     * @return the value or empty if the loader returned null
+     */
+    @NonNull
+    public <T> Optional<T> getOrLoad(@NonNull Object key, @NonNull Argument<T> requiredType, @NonNull IgniteCallable<T> loader) {
+        ArgumentUtils.requireNonNull("key", key);
+        flushWrites(key);
+        Object value = nativeCache.invoke(key, new IgniteLoadEntryProcessor(loader));
+        if (value != null) {
+            return IgniteConversion.convert(conversionService, value, requiredType);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the value of the key read in its binary form and bound to the given projection, so that only the
+     * fields of the projection are read and the value is not deserialized as a whole. {@link
+     * org.apache.ignite.binary.BinaryObject} returns the binary value itself. Other types must be {@link
+     * io.micronaut.core.annotation.Introspected}, their constructor arguments and properties are bound to the fields
+     * of the same name.
+     *
+     * @param key        the key
+     * @param projection the projection type
+     * @param <P>        the projection type
+     * @return the projection or empty if the key has no value
+     */
+    @NonNull
+    public <P> Optional<P> project(@NonNull Object key, @NonNull Class<P> projection) {
+        ArgumentUtils.requireNonNull("key", key);
+        ArgumentUtils.requireNonNull("projection", projection);
+        long start = metrics.start();
+        Object value;
+        try {
+            flushWrites(key);
+            value = binaryCache().get(key);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.GET, start, e);
+            throw e;
+        }
+        metrics.recordGet(start, value != null);
+        return IgniteBinaryProjection.project(conversionService, value, projection);
     }
 
     @NonNull
@@ -75,28 +179,70 @@ public class IgniteSyncCache implements SyncCache<IgniteCache> {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
         final Class<T> aClass = (Class<T>) value.getClass();
-        Optional<T> lastResult = get(key, aClass);
-        nativeCache.putIfAbsent(key, value);
-        return lastResult;
+        long start = metrics.start();
+        Object previous;
+        try {
+            flushWrites(key);
+            previous = nativeCache.getAndPutIfAbsent(key, value);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.PUT_IF_ABSENT, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.PUT_IF_ABSENT, start);
+        if (previous != null) {
+            return IgniteConversion.convert(conversionService, previous, aClass);
+        }
+        return Optional.empty();
     }
 
     @Override
     public void put(@NonNull Object key, @NonNull Object value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
-        nativeCache.put(key, value);
+        long start = metrics.start();
+        try {
+            if (writeBehind != null) {
+                writeBehind.put(key, value);
+            } else {
+                nativeCache.put(key, value);
+            }
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.PUT, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.PUT, start);
     }
 
     @Override
     public void invalidate(@NonNull Object key) {
         ArgumentUtils.requireNonNull("key", key);
-        nativeCache.remove(key);
-
+        long start = metrics.start();
+        try {
+            if (writeBehind != null) {
+                writeBehind.remove(key);
+            } else {
+                nativeCache.remove(key);
+            }
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.INVALIDATE, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.INVALIDATE, start);
     }
 
     @Override
     public void invalidateAll() {
-        nativeCache.clear();
+        long start = metrics.start();
+        try {
+            if (writeBehind != null) {
+                writeBehind.clear();
+            }
+            nativeCache.clear();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.INVALIDATE_ALL, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.INVALIDATE_ALL, start);
     }
 
     @Override
@@ -108,4 +254,19 @@ public class IgniteSyncCache implements SyncCache<IgniteCache> {
     public IgniteCache getNativeCache() {
         return nativeCache;
     }
+
+    private IgniteCache binaryCache() {
+        IgniteCache cache = binaryCache;
+        if (cache == null) {
+            cache = nativeCache.withKeepBinary();
+            binaryCache = cache;
+        }
+        return cache;
+    }
+
+    private void flushWrites(Object key) {
+        if (writeBehind != null) {
+            writeBehind.flush(key).join();
+        }
+    }
 }
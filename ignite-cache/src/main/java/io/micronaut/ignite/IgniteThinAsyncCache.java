@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.cache.AsyncCache;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.ignite.metrics.IgniteCacheMetrics;
+import org.apache.ignite.client.ClientCache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncCache} backed by the asynchronous operations of the thin client. Completion callbacks run on the
+ * continuation executor of the client, so no thread is held while a request is in flight. Value suppliers may block,
+ * so they run on the given executor instead.
+ */
+public class IgniteThinAsyncCache implements AsyncCache<ClientCache> {
+    private final ConversionService<?> conversionService;
+    private final ClientCache nativeCache;
+    private final ExecutorService executorService;
+    private final IgniteThinNearCache nearCache;
+    private final IgniteSingleFlight singleFlight;
+    private final IgniteCacheMetrics metrics;
+    private volatile ClientCache binaryCache;
+
+    public IgniteThinAsyncCache(ConversionService<?> conversionService, ClientCache nativeCache, ExecutorService executorService) {
+        this(conversionService, nativeCache, executorService, null, new IgniteSingleFlight(), IgniteCacheMetrics.NOOP);
+    }
+
+    public IgniteThinAsyncCache(ConversionService<?> conversionService, ClientCache nativeCache, ExecutorService executorService,
+                                @Nullable IgniteThinNearCache nearCache, IgniteSingleFlight singleFlight,
+                                IgniteCacheMetrics metrics) {
+        this.conversionService = conversionService;
+        this.nativeCache = nativeCache;
+        this.executorService = executorService;
+        this.nearCache = nearCache;
+        this.singleFlight = singleFlight;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(Object key, Argument<T> requiredType) {
+        ArgumentUtils.requireNonNull("key", key);
+        return metrics.recordGet(metrics.start(), lookup(key, requiredType));
+    }
+
+    private <T> CompletableFuture<Optional<T>> lookup(Object key, Argument<T> requiredType) {
+        CompletableFuture<Object> future = nearCache != null ? nearCache.getAsync(key) : nativeCache.getAsync(key).toCompletableFuture();
+        return future.thenApply(value -> {
+            if (value != null) {
+                return IgniteConversion.convert(conversionService, value, requiredType);
+            }
+            return Optional.empty();
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
+        ArgumentUtils.requireNonNull("key", key);
+        return get(key, requiredType).thenCompose(existingValue -> {
+            if (existingValue.isPresent()) {
+                return CompletableFuture.completedFuture(existingValue.get());
+            }
+            return singleFlight.loadAsync(key, () -> lookup(key, requiredType).thenCompose(loadedValue -> {
+                if (loadedValue.isPresent()) {
+                    return CompletableFuture.completedFuture(loadedValue.get());
+                }
+                return CompletableFuture.supplyAsync(() -> load(supplier), executorService)
+                    .thenCompose(value -> nativeCache.getAndPutIfAbsentAsync(key, value).thenApply(previous -> {
+                        if (previous != null) {
+                            return IgniteConversion.convert(conversionService, previous, requiredType).orElse(value);
+                        }
+                        invalidateNear(key);
+                        return value;
+                    }));
+            }));
+        });
+    }
+
+    private <T> T load(Supplier<T> supplier) {
+        long start = metrics.start();
+        T value;
+        try {
+            value = supplier.get();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.LOAD, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.LOAD, start);
+        ArgumentUtils.requireNonNull("value", value);
+        return value;
+    }
+
+    /**
+     * Returns the value of the key read in its binary form and bound to the given projection, so that only the
+     * fields of the projection are read and the value is not deserialized as a whole. The value is always read from
+     * the server, bypassing the near cache. {@link org.apache.ignite.binary.BinaryObject} returns the binary value
+     * itself. Other types must be {@link io.micronaut.core.annotation.Introspected}, their constructor arguments and
+     * properties are bound to the fields of the same name.
+     *
+     * @param key        the key
+     * @param projection the projection type
+     * @param <P>        the projection type
+     * @return a future with the projection or empty if the key has no value
+     */
+    public <P> CompletableFuture<Optional<P>> project(Object key, Class<P> projection) {
+        ArgumentUtils.requireNonNull("key", key);
+        ArgumentUtils.requireNonNull("projection", projection);
+        long start = metrics.start();
+        CompletableFuture<Object> future = binaryCache().getAsync(key).toCompletableFuture();
+        return metrics.recordGet(start, future.thenApply(value -> IgniteBinaryProjection.project(conversionService, value, projection)));
+    }
+
+    @Override
+    public <T> CompletableFuture<Optional<T>> putIfAbsent(Object key, T value) {
+        ArgumentUtils.requireNonNull("key", key);
+        ArgumentUtils.requireNonNull("value", value);
+        final Class<T> aClass = (Class<T>) value.getClass();
+        long start = metrics.start();
+        return metrics.record(IgniteCacheMetrics.Operation.PUT_IF_ABSENT, start, nativeCache.getAndPutIfAbsentAsync(key, value).thenApply(previous -> {
+            if (previous != null) {
+                return IgniteConversion.convert(conversionService, previous, aClass);
+            }
+            invalidateNear(key);
+            return Optional.<T>empty();
+        }).toCompletableFuture());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> put(Object key, Object value) {
+        ArgumentUtils.requireNonNull("key", key);
+        ArgumentUtils.requireNonNull("value", value);
+        long start = metrics.start();
+        return metrics.record(IgniteCacheMetrics.Operation.PUT, start, nativeCache.putAsync(key, value).thenApply(ignored -> {
+            invalidateNear(key);
+            return true;
+        }).toCompletableFuture());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidate(Object key) {
+        ArgumentUtils.requireNonNull("key", key);
+        long start = metrics.start();
+        return metrics.record(IgniteCacheMetrics.Operation.INVALIDATE, start, nativeCache.removeAsync(key).thenApply(removed -> {
+            invalidateNear(key);
+            return removed;
+        }).toCompletableFuture());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidateAll() {
+        long start = metrics.start();
+        return metrics.record(IgniteCacheMetrics.Operation.INVALIDATE_ALL, start, nativeCache.clearAsync().thenApply(ignored -> {
+            if (nearCache != null) {
+                nearCache.invalidateAll();
+            }
+            return true;
+        }).toCompletableFuture());
+    }
+
+    @Override
+    public String getName() {
+        return nativeCache.getName();
+    }
+
+    @Override
+    public ClientCache getNativeCache() {
+        return nativeCache;
+    }
+
+    private ClientCache binaryCache() {
+        ClientCache cache = binaryCache;
+        if (cache == null) {
+            cache = nativeCache.withKeepBinary();
+            binaryCache = cache;
+        }
+        return cache;
+    }
+
+    private void invalidateNear(Object key) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.ignite;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import io.micronaut.cache.DynamicCacheManager;
 import io.micronaut.cache.SyncCache;
 import io.micronaut.context.annotation.Primary;
@@ -23,33 +24,80 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.ignite.configuration.DefaultIgniteThinClientConfiguration;
+import io.micronaut.ignite.configuration.DefaultThinClientNearCacheConfiguration;
+import io.micronaut.ignite.metrics.IgniteCacheMetrics;
+import io.micronaut.ignite.metrics.IgniteCacheMetricsFactory;
 import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
 import org.apache.ignite.client.ClientCache;
 import org.apache.ignite.client.IgniteClient;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 @Singleton
 @Requires(beans = IgniteClient.class)
 @Requires(property = DefaultIgniteThinClientConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
-public class IgniteThinCacheManager implements DynamicCacheManager<ClientCache> {
+public class IgniteThinCacheManager implements DynamicCacheManager<ClientCache>, AutoCloseable {
     private final IgniteClient client;
     private final ConversionService<?> service;
     private final ExecutorService executorService;
+    private final TaskScheduler taskScheduler;
+    private final IgniteCacheMetricsFactory metricsFactory;
+    private final Map<String, DefaultThinClientNearCacheConfiguration> nearCacheConfigurations = new HashMap<>();
+    private final Map<String, IgniteThinSyncCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, IgniteThinNearCache> nearCaches = new ConcurrentHashMap<>();
 
     public IgniteThinCacheManager(@Primary IgniteClient client,
                                   ConversionService<?> service,
-                                  @Named(TaskExecutors.IO) ExecutorService executorService) {
+                                  @Named(TaskExecutors.IO) ExecutorService executorService,
+                                  @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+                                  Collection<DefaultThinClientNearCacheConfiguration> nearCacheConfigurations,
+                                  @Nullable IgniteCacheMetricsFactory metricsFactory) {
         this.client = client;
         this.service = service;
         this.executorService = executorService;
+        this.taskScheduler = taskScheduler;
+        this.metricsFactory = metricsFactory;
+        for (DefaultThinClientNearCacheConfiguration configuration : nearCacheConfigurations) {
+            if (configuration.isEnabled()) {
+                this.nearCacheConfigurations.put(configuration.getName(), configuration);
+            }
+        }
     }
 
     @NonNull
     @Override
     public SyncCache<ClientCache> getCache(String name) {
-        return new IgniteThinSyncCache(service, executorService, client.getOrCreateCache(name));
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    /**
+     * Close the near caches and stop listening for invalidations.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        nearCaches.values().forEach(IgniteThinNearCache::close);
+        nearCaches.clear();
+        caches.clear();
+    }
+
+    private IgniteThinSyncCache createCache(String name) {
+        ClientCache<Object, Object> cache = client.getOrCreateCache(name);
+        DefaultThinClientNearCacheConfiguration nearCacheConfiguration = nearCacheConfigurations.get(name);
+        IgniteThinNearCache nearCache = null;
+        if (nearCacheConfiguration != null) {
+            nearCache = new IgniteThinNearCache(cache, nearCacheConfiguration, taskScheduler);
+            nearCaches.put(name, nearCache);
+        }
+        IgniteCacheMetrics metrics = metricsFactory != null ? metricsFactory.create(name, IgniteCacheMetricsFactory.THIN) : IgniteCacheMetrics.NOOP;
+        return new IgniteThinSyncCache(service, executorService, cache, nearCache, new IgniteSingleFlight(), metrics);
     }
 }
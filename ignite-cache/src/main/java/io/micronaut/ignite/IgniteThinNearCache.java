@@ -0,0 +1,263 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.ignite.configuration.DefaultThinClientNearCacheConfiguration;
+import io.micronaut.scheduling.TaskScheduler;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.client.ClientCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.EventType;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local near cache kept in front of a thin client {@link ClientCache}. Entries are bounded by size, can expire after
+ * write or access and are invalidated by a continuous query registered on the cluster. While the continuous query is
+ * not registered the near cache is bypassed, so stale values are never served, and the query is registered again in
+ * the background with an increasing delay between the attempts.
+ */
+public class IgniteThinNearCache implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteThinNearCache.class);
+    private static final Duration MIN_RETRY_DELAY = Duration.ofMillis(100);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final ClientCache<Object, Object> nativeCache;
+    private final TaskScheduler taskScheduler;
+    private final ConcurrentLinkedHashMap<Object, Entry> entries;
+    private final long expireAfterWrite;
+    private final long expireAfterAccess;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicBoolean registering = new AtomicBoolean();
+    private volatile QueryCursor<?> cursor;
+    private volatile boolean closed;
+
+    /**
+     * Create a near cache for the given thin client cache.
+     *
+     * @param nativeCache   the thin client cache
+     * @param configuration the near cache configuration
+     * @param taskScheduler the scheduler registering the continuous query again after a failure
+     */
+    public IgniteThinNearCache(@NonNull ClientCache<Object, Object> nativeCache, @NonNull DefaultThinClientNearCacheConfiguration configuration,
+                               @NonNull TaskScheduler taskScheduler) {
+        this.nativeCache = nativeCache;
+        this.taskScheduler = taskScheduler;
+        this.entries = new ConcurrentLinkedHashMap.Builder<Object, Entry>()
+            .maximumWeightedCapacity(configuration.getMaxSize())
+            .build();
+        this.expireAfterWrite = toNanos(configuration.getExpireAfterWrite());
+        this.expireAfterAccess = toNanos(configuration.getExpireAfterAccess());
+        registering.set(true);
+        register(MIN_RETRY_DELAY);
+    }
+
+    /**
+     * Read a value from the near cache, loading it from the cluster when it is missing.
+     *
+     * @param key the key
+     * @return the value or null if the key is not present in the cluster
+     */
+    @Nullable
+    public Object get(@NonNull Object key) {
+        if (cursor == null) {
+            return nativeCache.get(key);
+        }
+        long now = System.nanoTime();
+        Entry entry = lookup(key, now);
+        if (entry != null) {
+            return entry.value;
+        }
+        long version = invalidations.get();
+        Object value = nativeCache.get(key);
+        store(key, value, version, now);
+        return value;
+    }
+
+    /**
+     * Read a value from the near cache, loading it asynchronously from the cluster when it is missing.
+     *
+     * @param key the key
+     * @return a future with the value or null if the key is not present in the cluster
+     */
+    @NonNull
+    public CompletableFuture<Object> getAsync(@NonNull Object key) {
+        if (cursor == null) {
+            return nativeCache.getAsync(key).toCompletableFuture();
+        }
+        long now = System.nanoTime();
+        Entry entry = lookup(key, now);
+        if (entry != null) {
+            return CompletableFuture.completedFuture(entry.value);
+        }
+        long version = invalidations.get();
+        return nativeCache.getAsync(key).thenApply(value -> {
+            store(key, value, version, now);
+            return value;
+        }).toCompletableFuture();
+    }
+
+    /**
+     * Remove a key from the near cache.
+     *
+     * @param key the key
+     */
+    public void invalidate(@NonNull Object key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Remove all the keys from the near cache.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * @return whether the continuous query invalidating the entries is registered
+     */
+    public boolean isRegistered() {
+        return cursor != null;
+    }
+
+    /**
+     * @return the number of entries held locally
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        QueryCursor<?> current = cursor;
+        cursor = null;
+        if (current != null) {
+            current.close();
+        }
+        entries.clear();
+    }
+
+    private Entry lookup(Object key, long now) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.isExpired(now)) {
+                entry.accessed = now;
+                return entry;
+            }
+            entries.remove(key, entry);
+        }
+        return null;
+    }
+
+    /**
+     * Store a value read when the invalidations were at the given version. An invalidation may run between the check
+     * of the version and the put, so the version is checked again after the put and the entry is removed if it
+     * changed.
+     */
+    private void store(Object key, Object value, long version, long now) {
+        if (value == null || invalidations.get() != version) {
+            return;
+        }
+        Entry entry = new Entry(value, now);
+        entries.put(key, entry);
+        if (invalidations.get() != version) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * Register the continuous query, and schedule another attempt with twice the delay if it fails. Only one
+     * registration is in progress at a time, while {@code registering} is set.
+     */
+    private void register(Duration retryDelay) {
+        if (closed) {
+            registering.set(false);
+            return;
+        }
+        try {
+            ContinuousQuery<Object, Object> query = new ContinuousQuery<>();
+            query.setIncludeExpired(true);
+            query.setLocalListener(events -> {
+                for (CacheEntryEvent<?, ?> event : events) {
+                    if (event.getEventType() != EventType.CREATED) {
+                        invalidate(event.getKey());
+                    }
+                }
+            });
+            QueryCursor<?> registered = nativeCache.query(query, this::onDisconnected);
+            cursor = registered;
+            registering.set(false);
+            if (closed) {
+                cursor = null;
+                registered.close();
+            }
+        } catch (Exception e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Unable to register near cache invalidation for [{}], retrying in {}: {}", nativeCache.getName(), retryDelay, e.getMessage(), e);
+            }
+            Duration doubled = retryDelay.multipliedBy(2);
+            Duration nextDelay = doubled.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : doubled;
+            taskScheduler.schedule(retryDelay, () -> register(nextDelay));
+        }
+    }
+
+    private void onDisconnected(Exception e) {
+        cursor = null;
+        invalidateAll();
+        if (LOG.isWarnEnabled()) {
+            LOG.warn("Near cache [{}] lost its invalidation listener and was cleared", nativeCache.getName(), e);
+        }
+        if (registering.compareAndSet(false, true)) {
+            taskScheduler.schedule(Duration.ZERO, () -> register(MIN_RETRY_DELAY));
+        }
+    }
+
+    private static long toNanos(@Nullable Duration duration) {
+        return duration == null ? 0 : duration.toNanos();
+    }
+
+    /**
+     * A locally held value.
+     */
+    private final class Entry {
+        private final Object value;
+        private final long written;
+        private volatile long accessed;
+
+        private Entry(Object value, long now) {
+            this.value = value;
+            this.written = now;
+            this.accessed = now;
+        }
+
+        private boolean isExpired(long now) {
+            return (expireAfterWrite > 0 && now - written >= expireAfterWrite)
+                || (expireAfterAccess > 0 && now - accessed >= expireAfterAccess);
+        }
+    }
+}
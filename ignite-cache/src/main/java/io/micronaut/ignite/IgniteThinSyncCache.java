@@ -17,11 +17,12 @@ package io.micronaut.ignite;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.cache.AsyncCache;
 import io.micronaut.cache.SyncCache;
-import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.ignite.metrics.IgniteCacheMetrics;
 import org.apache.ignite.client.ClientCache;
 
 import java.util.Optional;
@@ -32,11 +33,24 @@ public class IgniteThinSyncCache implements SyncCache<ClientCache> {
     private final ConversionService<?> conversionService;
     private final ClientCache nativeCache;
     private final ExecutorService executorService;
+    private final IgniteThinNearCache nearCache;
+    private final IgniteSingleFlight singleFlight;
+    private final IgniteCacheMetrics metrics;
+    private volatile ClientCache binaryCache;
 
     public IgniteThinSyncCache(ConversionService<?> conversionService, ExecutorService executorService, ClientCache nativeCache) {
+        this(conversionService, executorService, nativeCache, null, new IgniteSingleFlight(), IgniteCacheMetrics.NOOP);
+    }
+
+    public IgniteThinSyncCache(ConversionService<?> conversionService, ExecutorService executorService, ClientCache nativeCache,
+                               @Nullable IgniteThinNearCache nearCache, IgniteSingleFlight singleFlight,
+                               IgniteCacheMetrics metrics) {
         this.conversionService = conversionService;
         this.nativeCache = nativeCache;
         this.executorService = executorService;
+        this.nearCache = nearCache;
+        this.singleFlight = singleFlight;
+        this.metrics = metrics;
     }
 
     @Nullable
@@ -45,13 +59,32 @@ public class IgniteThinSyncCache implements SyncCache<ClientCache> {
         return executorService;
     }
 
+    @NonNull
+    @Override
+    public AsyncCache<ClientCache> async() {
+        return new IgniteThinAsyncCache(conversionService, nativeCache, executorService, nearCache, singleFlight, metrics);
+    }
+
     @NonNull
     @Override
     public <T> Optional<T> get(@NonNull Object key, @NonNull Argument<T> requiredType) {
         ArgumentUtils.requireNonNull("key", key);
-        Object value = nativeCache.get(key);
+        long start = metrics.start();
+        Optional<T> value;
+        try {
+            value = lookup(key, requiredType);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.GET, start, e);
+            throw e;
+        }
+        metrics.recordGet(start, value.isPresent());
+        return value;
+    }
+
+    private <T> Optional<T> lookup(Object key, Argument<T> requiredType) {
+        Object value = nearCache != null ? nearCache.get(key) : nativeCache.get(key);
         if (value != null) {
-            return conversionService.convert(value, ConversionContext.of(requiredType));
+            return IgniteConversion.convert(conversionService, value, requiredType);
         }
         return Optional.empty();
     }
@@ -62,11 +95,57 @@ public class IgniteThinSyncCache implements SyncCache<ClientCache> {
         Optional<T> existingValue = get(key, requiredType);
         if (existingValue.isPresent()) {
             return existingValue.get();
-        } else {
-            T value = supplier.get();
-            put(key, value);
+        }
+        return singleFlight.load(key, () -> {
+            Optional<T> loadedValue = lookup(key, requiredType);
+            if (loadedValue.isPresent()) {
+                return loadedValue.get();
+            }
+            long start = metrics.start();
+            T value;
+            try {
+                value = supplier.get();
+            } catch (RuntimeException e) {
+                metrics.recordFailure(IgniteCacheMetrics.Operation.LOAD, start, e);
+                throw e;
+            }
+            metrics.record(IgniteCacheMetrics.Operation.LOAD, start);
+            ArgumentUtils.requireNonNull("value", value);
+            Object previous = nativeCache.getAndPutIfAbsent(key, value);
+            if (previous != null) {
+                return IgniteConversion.convert(conversionService, previous, requiredType).orElse(value);
+            }
+            invalidateNear(key);
             return value;
+        });
+    }
+
+    /**
+     * Returns the value of the key read in its binary form and bound to the given projection, so that only the
+     * fields of the projection are read and the value is not deserialized as a whole. The value is always read from
+     * the server, bypassing the near cache. {@link org.apache.ignite.binary.BinaryObject} returns the binary value
+     * itself. Other types must be {@link io.micronaut.core.annotation.Introspected}, their constructor arguments and
+     * properties are bound to the fields of the same name.
+     *
+     * @param key        the key
+     * @param projection the projection type
+     * @param <P>        the projection type
+     * @return the projection or empty if the key has no value
+     */
+    @NonNull
+    public <P> Optional<P> project(@NonNull Object key, @NonNull Class<P> projection) {
+        ArgumentUtils.requireNonNull("key", key);
+        ArgumentUtils.requireNonNull("projection", projection);
+        long start = metrics.start();
+        Object value;
+        try {
+            value = binaryCache().get(key);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.GET, start, e);
+            throw e;
         }
+        metrics.recordGet(start, value != null);
+        return IgniteBinaryProjection.project(conversionService, value, projection);
     }
 
     @NonNull
@@ -75,27 +154,64 @@ public class IgniteThinSyncCache implements SyncCache<ClientCache> {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
         final Class<T> aClass = (Class<T>) value.getClass();
-        Optional<T> lastResult = get(key, aClass);
-        nativeCache.putIfAbsent(key, value);
-        return lastResult;
+        long start = metrics.start();
+        Object previous;
+        try {
+            previous = nativeCache.getAndPutIfAbsent(key, value);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.PUT_IF_ABSENT, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.PUT_IF_ABSENT, start);
+        if (previous != null) {
+            return IgniteConversion.convert(conversionService, previous, aClass);
+        }
+        invalidateNear(key);
+        return Optional.empty();
     }
 
     @Override
     public void put(@NonNull Object key, @NonNull Object value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
-        nativeCache.put(key, value);
+        long start = metrics.start();
+        try {
+            nativeCache.put(key, value);
+            invalidateNear(key);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.PUT, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.PUT, start);
     }
 
     @Override
     public void invalidate(@NonNull Object key) {
         ArgumentUtils.requireNonNull("key", key);
-        nativeCache.remove(key);
+        long start = metrics.start();
+        try {
+            nativeCache.remove(key);
+            invalidateNear(key);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.INVALIDATE, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.INVALIDATE, start);
     }
 
     @Override
     public void invalidateAll() {
-        nativeCache.clear();
+        long start = metrics.start();
+        try {
+            nativeCache.clear();
+            if (nearCache != null) {
+                nearCache.invalidateAll();
+            }
+        } catch (RuntimeException e) {
+            metrics.recordFailure(IgniteCacheMetrics.Operation.INVALIDATE_ALL, start, e);
+            throw e;
+        }
+        metrics.record(IgniteCacheMetrics.Operation.INVALIDATE_ALL, start);
     }
 
     @Override
@@ -107,4 +223,19 @@ public class IgniteThinSyncCache implements SyncCache<ClientCache> {
     public ClientCache getNativeCache() {
         return nativeCache;
     }
+
+    private ClientCache binaryCache() {
+        ClientCache cache = binaryCache;
+        if (cache == null) {
+            cache = nativeCache.withKeepBinary();
+            binaryCache = cache;
+        }
+        return cache;
+    }
+
+    private void invalidateNear(Object key) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+    }
 }
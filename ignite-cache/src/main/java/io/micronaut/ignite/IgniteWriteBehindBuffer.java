@@ -0,0 +1,320 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.scheduling.TaskScheduler;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.lang.IgniteInClosure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Buffers the writes and invalidations of a cache, keeping only the latest one per key, and flushes them in batches
+ * through {@link IgniteCache#putAllAsync} and {@link IgniteCache#removeAllAsync}. Batches are flushed one after the
+ * other, when the buffer is full or the flush interval elapses. A batch that fails is sent again after the flush
+ * interval, before the batches that follow it, until it was sent the maximum number of times. It is then dropped,
+ * and the failure is reported to the callers waiting for the batch and on {@link #close()}.
+ *
+ * <p>Ignite locks the keys of a batch in the order of the map it is given, so batches of several writers sharing keys
+ * can deadlock unless their keys are sorted. When all keys of a batch are {@link Comparable} and of the same type they
+ * are sent in their natural order, otherwise they are sent in the order of the batch.</p>
+ */
+public class IgniteWriteBehindBuffer implements AutoCloseable {
+    static final Object REMOVED = new Object();
+
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteWriteBehindBuffer.class);
+
+    private final IgniteCache<Object, Object> nativeCache;
+    private final TaskScheduler taskScheduler;
+    private final Duration flushInterval;
+    private final int flushSize;
+    private final int maxAttempts;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedDeque<Batch> flushing = new ConcurrentLinkedDeque<>();
+    private final ScheduledFuture<?> schedule;
+    private volatile Map<Object, Object> pending = new ConcurrentHashMap<>();
+    private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
+    private volatile Throwable failure;
+
+    /**
+     * @param nativeCache   the cache to write to
+     * @param taskScheduler schedules the periodic flush and the retries
+     * @param flushInterval how often the buffer is flushed
+     * @param flushSize     the number of keys that triggers a flush
+     * @param maxAttempts   how many times a batch is sent before it is dropped
+     */
+    public IgniteWriteBehindBuffer(@NonNull IgniteCache<Object, Object> nativeCache, @NonNull TaskScheduler taskScheduler,
+                                   @NonNull Duration flushInterval, int flushSize, int maxAttempts) {
+        this.nativeCache = nativeCache;
+        this.taskScheduler = taskScheduler;
+        this.flushInterval = flushInterval;
+        this.flushSize = flushSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.schedule = taskScheduler.scheduleAtFixedRate(flushInterval, flushInterval, this::flush);
+    }
+
+    /**
+     * Buffer a write.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(@NonNull Object key, @NonNull Object value) {
+        buffer(key, value);
+    }
+
+    /**
+     * Buffer an invalidation.
+     *
+     * @param key the key
+     */
+    public void remove(@NonNull Object key) {
+        buffer(key, REMOVED);
+    }
+
+    /**
+     * Look up a buffered write. A batch is added to the batches being flushed before it is replaced by an empty
+     * buffer, and removed from them once it was written, so a buffered write is always found here or in the cache.
+     *
+     * @param key the key
+     * @return null if the key is not buffered, {@link #REMOVED} if it was invalidated, otherwise the buffered value
+     */
+    @Nullable
+    Object lookup(@NonNull Object key) {
+        Object value = pending.get(key);
+        if (value != null) {
+            return value;
+        }
+        Batch batch = findBatch(key);
+        return batch != null ? batch.entries.get(key) : null;
+    }
+
+    /**
+     * Flush the buffer if the key has a buffered write, so that an atomic operation on the key sees it.
+     *
+     * @param key the key
+     * @return a future completed once the buffered write of the key was written, or failed if it was dropped
+     */
+    @NonNull
+    public CompletableFuture<Void> flush(@NonNull Object key) {
+        if (pending.containsKey(key)) {
+            return flush();
+        }
+        Batch batch = findBatch(key);
+        return batch != null ? batch.written : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Drop the buffered writes and wait for the batches already sent.
+     */
+    public void clear() {
+        CompletableFuture<Void> flushed;
+        lock.writeLock().lock();
+        try {
+            pending = new ConcurrentHashMap<>();
+            flushed = lastFlush;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        flushed.handle((ignored, throwable) -> null).join();
+    }
+
+    /**
+     * Send the buffered writes as the next batch.
+     *
+     * @return a future completed once the batch and the ones before it were sent, or failed if the batch was dropped
+     */
+    @NonNull
+    public CompletableFuture<Void> flush() {
+        lock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return lastFlush;
+            }
+            Batch batch = new Batch(pending);
+            flushing.addLast(batch);
+            pending = new ConcurrentHashMap<>();
+            lastFlush.whenComplete((ignored, throwable) -> send(batch, 1));
+            lastFlush = batch.written;
+            return lastFlush;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stop the periodic flush and write the buffered writes.
+     *
+     * @throws IgniteException if buffered writes were dropped because they could not be written
+     */
+    @Override
+    public void close() {
+        schedule.cancel(false);
+        flush().handle((ignored, throwable) -> null).join();
+        Throwable dropped = failure;
+        if (dropped != null) {
+            throw new IgniteException("Buffered writes of cache [" + nativeCache.getName() + "] were dropped: " + dropped.getMessage(), dropped);
+        }
+    }
+
+    private void buffer(Object key, Object value) {
+        int size;
+        lock.readLock().lock();
+        try {
+            Map<Object, Object> buffer = pending;
+            buffer.put(key, value);
+            size = buffer.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (size >= flushSize) {
+            flush();
+        }
+    }
+
+    @Nullable
+    private Batch findBatch(Object key) {
+        Iterator<Batch> batches = flushing.descendingIterator();
+        while (batches.hasNext()) {
+            Batch batch = batches.next();
+            if (batch.entries.containsKey(key)) {
+                return batch;
+            }
+        }
+        return null;
+    }
+
+    private void send(Batch batch, int attempt) {
+        boolean sorted = sortable(batch.entries.keySet());
+        Map<Object, Object> puts = sorted ? new TreeMap<>() : new LinkedHashMap<>();
+        Set<Object> removes = sorted ? new TreeSet<>() : new LinkedHashSet<>();
+        batch.entries.forEach((key, value) -> {
+            if (value == REMOVED) {
+                removes.add(key);
+            } else {
+                puts.put(key, value);
+            }
+        });
+        List<CompletableFuture<Void>> futures = new ArrayList<>(2);
+        try {
+            if (!puts.isEmpty()) {
+                futures.add(toFuture(nativeCache.putAllAsync(puts)));
+            }
+            if (!removes.isEmpty()) {
+                futures.add(toFuture(nativeCache.removeAllAsync(removes)));
+            }
+        } catch (RuntimeException ex) {
+            futures.add(failed(ex));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, throwable) -> {
+            if (throwable == null) {
+                flushing.remove(batch);
+                batch.written.complete(null);
+            } else if (attempt < maxAttempts) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Failed to flush {} buffered writes of cache [{}], retrying in {}: {}", batch.entries.size(), nativeCache.getName(),
+                        flushInterval, throwable.getMessage());
+                }
+                try {
+                    taskScheduler.schedule(flushInterval, () -> send(batch, attempt + 1));
+                } catch (RuntimeException ex) {
+                    drop(batch, ex);
+                }
+            } else {
+                drop(batch, throwable);
+            }
+        });
+    }
+
+    private void drop(Batch batch, Throwable throwable) {
+        flushing.remove(batch);
+        failure = throwable;
+        if (LOG.isErrorEnabled()) {
+            LOG.error("Dropped {} buffered writes of cache [{}] after {} attempts: {}", batch.entries.size(), nativeCache.getName(), maxAttempts,
+                throwable.getMessage(), throwable);
+        }
+        batch.written.completeExceptionally(throwable);
+    }
+
+    private static boolean sortable(Set<Object> keys) {
+        Iterator<Object> iterator = keys.iterator();
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        Class<?> type = iterator.next().getClass();
+        if (!Comparable.class.isAssignableFrom(type)) {
+            return false;
+        }
+        while (iterator.hasNext()) {
+            if (iterator.next().getClass() != type) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CompletableFuture<Void> toFuture(IgniteFuture<Void> igniteFuture) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        igniteFuture.listen((IgniteInClosure<IgniteFuture<Void>>) response -> {
+            try {
+                response.get();
+                future.complete(null);
+            } catch (RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        return future;
+    }
+
+    private static CompletableFuture<Void> failed(Throwable throwable) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Buffered writes sent together.
+     */
+    private static final class Batch {
+        private final Map<Object, Object> entries;
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        private Batch(Map<Object, Object> entries) {
+            this.entries = entries;
+        }
+    }
+}
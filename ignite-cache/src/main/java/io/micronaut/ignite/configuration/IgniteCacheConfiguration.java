@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.naming.Named;
+import io.micronaut.core.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Micronaut Cache settings of a named Ignite cache. They only change how the cache manager of this application uses
+ * the cache, so they are kept apart from the Ignite configuration of the cache under {@code
+ * ignite.cache-configurations}, which is shared by the cluster and has options of the same name, such as {@code
+ * write-behind-flush-size}.
+ */
+@EachProperty(value = IgniteCacheConfiguration.PREFIX)
+@Requires(property = DefaultIgniteConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class IgniteCacheConfiguration implements Named {
+    public static final String PREFIX = DefaultIgniteConfiguration.PREFIX + "." + "caches";
+    public static final int DEFAULT_READ_BATCH_SIZE = 128;
+    public static final int DEFAULT_WRITE_BEHIND_FLUSH_SIZE = 512;
+    public static final int DEFAULT_WRITE_BEHIND_MAX_ATTEMPTS = 3;
+
+    private final String name;
+    private boolean distributedLoad;
+    private Duration readBatchWindow;
+    private int readBatchSize = DEFAULT_READ_BATCH_SIZE;
+    private Duration writeBehindFlushInterval;
+    private int writeBehindFlushSize = DEFAULT_WRITE_BEHIND_FLUSH_SIZE;
+    private int writeBehindMaxAttempts = DEFAULT_WRITE_BEHIND_MAX_ATTEMPTS;
+    private boolean keepBinary;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the name of the cache.
+     */
+    public IgniteCacheConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return whether values are loaded under a cluster wide lock on the key
+     */
+    public boolean isDistributedLoad() {
+        return distributedLoad;
+    }
+
+    /**
+     * Sets whether a value supplier runs under a cluster wide lock on the key, so that only one node loads a missing
+     * value. Requires a {@code TRANSACTIONAL} cache. Default value (false).
+     *
+     * @param distributedLoad True if it should.
+     */
+    public void setDistributedLoad(boolean distributedLoad) {
+        this.distributedLoad = distributedLoad;
+    }
+
+    /**
+     * @return how long asynchronous reads are gathered into one batch
+     */
+    @Nullable
+    public Duration getReadBatchWindow() {
+        return readBatchWindow;
+    }
+
+    /**
+     * Sets how long concurrent asynchronous reads are gathered before they are sent as one {@code getAll} request.
+     * Batching is disabled when not set.
+     *
+     * @param readBatchWindow the batch window
+     */
+    public void setReadBatchWindow(@Nullable Duration readBatchWindow) {
+        this.readBatchWindow = readBatchWindow;
+    }
+
+    /**
+     * @return the number of keys sent without waiting for the batch window
+     */
+    public int getReadBatchSize() {
+        return readBatchSize;
+    }
+
+    /**
+     * Sets the number of keys sent without waiting for the batch window. Default value ({@value #DEFAULT_READ_BATCH_SIZE}).
+     *
+     * @param readBatchSize the batch size
+     */
+    public void setReadBatchSize(int readBatchSize) {
+        this.readBatchSize = readBatchSize;
+    }
+
+    /**
+     * @return how often buffered writes are flushed
+     */
+    @Nullable
+    public Duration getWriteBehindFlushInterval() {
+        return writeBehindFlushInterval;
+    }
+
+    /**
+     * Sets how often buffered writes are flushed. When set, puts and invalidations are buffered, only the latest one
+     * per key is kept, and they are written in batches. Write behind is disabled when not set.
+     *
+     * @param writeBehindFlushInterval the flush interval
+     */
+    public void setWriteBehindFlushInterval(@Nullable Duration writeBehindFlushInterval) {
+        this.writeBehindFlushInterval = writeBehindFlushInterval;
+    }
+
+    /**
+     * @return the number of buffered keys that triggers a flush
+     */
+    public int getWriteBehindFlushSize() {
+        return writeBehindFlushSize;
+    }
+
+    /**
+     * Sets the number of buffered keys that triggers a flush. Default value ({@value #DEFAULT_WRITE_BEHIND_FLUSH_SIZE}).
+     *
+     * @param writeBehindFlushSize the flush size
+     */
+    public void setWriteBehindFlushSize(int writeBehindFlushSize) {
+        this.writeBehindFlushSize = writeBehindFlushSize;
+    }
+
+    /**
+     * @return how many times a batch of buffered writes is sent before it is dropped
+     */
+    public int getWriteBehindMaxAttempts() {
+        return writeBehindMaxAttempts;
+    }
+
+    /**
+     * Sets how many times a batch of buffered writes is sent before it is dropped. A failed batch is sent again after
+     * the flush interval. Default value ({@value #DEFAULT_WRITE_BEHIND_MAX_ATTEMPTS}).
+     *
+     * @param writeBehindMaxAttempts the maximum number of attempts
+     */
+    public void setWriteBehindMaxAttempts(int writeBehindMaxAttempts) {
+        this.writeBehindMaxAttempts = writeBehindMaxAttempts;
+    }
+
+    /**
+     * @return whether values are read in their binary form
+     */
+    public boolean isKeepBinary() {
+        return keepBinary;
+    }
+
+    /**
+     * Sets whether the cache reads values as {@link org.apache.ignite.binary.BinaryObject} instead of deserializing
+     * them. Values requested as {@code BinaryObject} are returned as they are, values requested as another type are
+     * deserialized on demand. Default value (false).
+     *
+     * @param keepBinary True if it should.
+     */
+    public void setKeepBinary(boolean keepBinary) {
+        this.keepBinary = keepBinary;
+    }
+}
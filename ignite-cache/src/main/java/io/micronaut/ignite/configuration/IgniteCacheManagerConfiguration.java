@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+
+/**
+ * Configuration of the Ignite cache manager.
+ */
+@ConfigurationProperties(IgniteCacheManagerConfiguration.PREFIX)
+@Requires(property = DefaultIgniteConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class IgniteCacheManagerConfiguration {
+    public static final String PREFIX = DefaultIgniteConfiguration.PREFIX + "." + "cache-manager";
+
+    private boolean eagerInit;
+
+    /**
+     * @return whether the configured caches are created on startup
+     */
+    public boolean isEagerInit() {
+        return eagerInit;
+    }
+
+    /**
+     * Sets whether the caches listed under {@code ignite.cache-configurations} are created on startup. Default value (false).
+     *
+     * @param eagerInit True if they are.
+     */
+    public void setEagerInit(boolean eagerInit) {
+        this.eagerInit = eagerInit;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.metrics;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Records the operations of a single cache. The wrappers call it on every operation, so implementations must not
+ * allocate when recording synchronous operations. {@link #NOOP} is used when metrics are disabled.
+ */
+public interface IgniteCacheMetrics {
+
+    /**
+     * Metrics that record nothing.
+     */
+    IgniteCacheMetrics NOOP = new IgniteCacheMetrics() {
+        @Override
+        public long start() {
+            return 0;
+        }
+
+        @Override
+        public void recordGet(long start, boolean hit) {
+        }
+
+        @Override
+        public void record(Operation operation, long start) {
+        }
+
+        @Override
+        public void recordFailure(Operation operation, long start, Throwable throwable) {
+        }
+
+        @Override
+        public <T> CompletableFuture<Optional<T>> recordGet(long start, CompletableFuture<Optional<T>> future) {
+            return future;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> record(Operation operation, long start, CompletableFuture<T> future) {
+            return future;
+        }
+    };
+
+    /**
+     * @return the start time of an operation
+     */
+    long start();
+
+    /**
+     * Record a lookup.
+     *
+     * @param start the value returned by {@link #start()}
+     * @param hit   whether the key had a value
+     */
+    void recordGet(long start, boolean hit);
+
+    /**
+     * Record an operation that completed.
+     *
+     * @param operation the operation
+     * @param start     the value returned by {@link #start()}
+     */
+    void record(Operation operation, long start);
+
+    /**
+     * Record an operation that failed.
+     *
+     * @param operation the operation
+     * @param start     the value returned by {@link #start()}
+     * @param throwable the failure
+     */
+    void recordFailure(Operation operation, long start, Throwable throwable);
+
+    /**
+     * Record a lookup when the future completes.
+     *
+     * @param start  the value returned by {@link #start()}
+     * @param future the result of the lookup
+     * @param <T>    the value type
+     * @return the given future
+     */
+    <T> CompletableFuture<Optional<T>> recordGet(long start, CompletableFuture<Optional<T>> future);
+
+    /**
+     * Record an operation when the future completes.
+     *
+     * @param operation the operation
+     * @param start     the value returned by {@link #start()}
+     * @param future    the result of the operation
+     * @param <T>       the result type
+     * @return the given future
+     */
+    <T> CompletableFuture<T> record(Operation operation, long start, CompletableFuture<T> future);
+
+    /**
+     * The timed cache operations.
+     */
+    enum Operation {
+        GET, PUT, PUT_IF_ABSENT, INVALIDATE, INVALIDATE_ALL, LOAD
+    }
+}
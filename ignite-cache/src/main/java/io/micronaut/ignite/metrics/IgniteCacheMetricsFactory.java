@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Creates the {@link IgniteCacheMetrics} of the caches returned by the cache managers.
+ */
+public interface IgniteCacheMetricsFactory {
+
+    /**
+     * Client type of the caches of an Ignite node.
+     */
+    String THICK = "thick";
+
+    /**
+     * Client type of the caches of a thin client.
+     */
+    String THIN = "thin";
+
+    /**
+     * @param cacheName  the name of the cache
+     * @param clientType {@link #THICK} or {@link #THIN}
+     * @return the metrics of the cache
+     */
+    @NonNull
+    IgniteCacheMetrics create(@NonNull String cacheName, @NonNull String clientType);
+}
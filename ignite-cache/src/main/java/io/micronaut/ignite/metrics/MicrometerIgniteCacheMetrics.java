@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IgniteCacheMetrics} backed by Micrometer. The meters for successful operations are registered once per
+ * cache, so recording them only updates them. The meters for failed operations are tagged with the exception and
+ * registered when the exception is first seen. The timers only publish a percentile histogram when it is enabled, as
+ * each of them adds dozens of buckets to the registry.
+ */
+class MicrometerIgniteCacheMetrics implements IgniteCacheMetrics {
+    static final String GETS = "ignite.cache.gets";
+    static final String OPERATIONS = "ignite.cache.operations";
+
+    private final MeterRegistry meterRegistry;
+    private final Tags tags;
+    private final boolean percentileHistogram;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer[] timers;
+
+    MicrometerIgniteCacheMetrics(MeterRegistry meterRegistry, String cacheName, String clientType, boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.tags = Tags.of("cache", cacheName, "client", clientType);
+        this.percentileHistogram = percentileHistogram;
+        this.hits = Counter.builder(GETS).tags(tags).tag("result", "hit")
+            .description("The number of lookups that found a value").register(meterRegistry);
+        this.misses = Counter.builder(GETS).tags(tags).tag("result", "miss")
+            .description("The number of lookups that found no value").register(meterRegistry);
+        Operation[] operations = Operation.values();
+        this.timers = new Timer[operations.length];
+        for (Operation operation : operations) {
+            timers[operation.ordinal()] = timer(operation, "success", "none");
+        }
+    }
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void recordGet(long start, boolean hit) {
+        timers[Operation.GET.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+
+    @Override
+    public void record(Operation operation, long start) {
+        timers[operation.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordFailure(Operation operation, long start, Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        timer(operation, "failure", cause.getClass().getSimpleName())
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public <T> CompletableFuture<Optional<T>> recordGet(long start, CompletableFuture<Optional<T>> future) {
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                recordGet(start, value.isPresent());
+            } else {
+                recordFailure(Operation.GET, start, throwable);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> record(Operation operation, long start, CompletableFuture<T> future) {
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                record(operation, start);
+            } else {
+                recordFailure(operation, start, throwable);
+            }
+        });
+        return future;
+    }
+
+    private Timer timer(Operation operation, String outcome, String exception) {
+        return Timer.builder(OPERATIONS).tags(tags)
+            .tag("operation", operation.name().toLowerCase(Locale.ENGLISH).replace('_', '-'))
+            .tag("outcome", outcome)
+            .tag("exception", exception)
+            // null leaves the histogram to the meter filters of the registry
+            .publishPercentileHistogram(percentileHistogram ? Boolean.TRUE : null)
+            .description("The time taken by the cache operations").register(meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.util.StringUtils;
+
+import javax.inject.Singleton;
+
+/**
+ * Registers the meters of the Ignite caches with the {@link MeterRegistry} of the application.
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = "micronaut.metrics.enabled", notEquals = StringUtils.FALSE)
+@Requires(property = MicrometerIgniteCacheMetricsFactory.ENABLED, notEquals = StringUtils.FALSE)
+public class MicrometerIgniteCacheMetricsFactory implements IgniteCacheMetricsFactory {
+    public static final String ENABLED = "micronaut.metrics.binders.ignite-cache.enabled";
+    public static final String PERCENTILE_HISTOGRAM = "micronaut.metrics.binders.ignite-cache.percentile-histogram";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean percentileHistogram;
+
+    /**
+     * @param meterRegistry       the meter registry
+     * @param percentileHistogram whether the operation timers publish a percentile histogram, otherwise it is left to
+     *                            the meter filters of the registry
+     */
+    public MicrometerIgniteCacheMetricsFactory(MeterRegistry meterRegistry,
+                                               @Value("${" + PERCENTILE_HISTOGRAM + ":false}") boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @NonNull
+    @Override
+    public IgniteCacheMetrics create(@NonNull String cacheName, @NonNull String clientType) {
+        return new MicrometerIgniteCacheMetrics(meterRegistry, cacheName, clientType, percentileHistogram);
+    }
+}
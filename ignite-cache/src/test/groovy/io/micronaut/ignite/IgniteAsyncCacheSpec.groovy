@@ -0,0 +1,96 @@
+package io.micronaut.ignite
+
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.store.CacheStoreAdapter
+import org.apache.ignite.configuration.CacheConfiguration
+import org.apache.ignite.lang.IgniteCallable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.cache.Cache
+import javax.cache.CacheException
+import javax.cache.configuration.FactoryBuilder
+import javax.cache.integration.CacheWriterException
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class IgniteAsyncCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    Ignite ignite = IgniteTestNode.start("async-cache")
+
+    @Shared
+    ExecutorService executor = Executors.newSingleThreadExecutor()
+
+    def cleanupSpec() {
+        executor.shutdownNow()
+    }
+
+    def "getOrLoad completes exceptionally when the loader throws"() {
+        given:
+        IgniteCache<Object, Object> nativeCache = ignite.getOrCreateCache("failing-load")
+        IgniteAsyncCache cache = new IgniteAsyncCache(ConversionService.SHARED, nativeCache, executor)
+
+        when:
+        CompletableFuture<Optional<String>> future = cache.getOrLoad("key", Argument.of(String), new FailingLoader())
+        future.get(10, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof CacheException
+        !nativeCache.containsKey("key")
+
+        cleanup:
+        nativeCache.destroy()
+    }
+
+    def "putIfAbsent completes exceptionally when the cache fails the update"() {
+        given:
+        IgniteCache<Object, Object> nativeCache = ignite.getOrCreateCache(new CacheConfiguration<Object, Object>("failing-put")
+            .setWriteThrough(true)
+            .setCacheStoreFactory(FactoryBuilder.factoryOf(FailingStore)))
+        IgniteAsyncCache cache = new IgniteAsyncCache(ConversionService.SHARED, nativeCache, executor)
+
+        when:
+        CompletableFuture<Optional<String>> future = cache.putIfAbsent("key", "value")
+        future.get(10, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof CacheException
+
+        cleanup:
+        nativeCache.destroy()
+    }
+
+    static class FailingLoader implements IgniteCallable<String> {
+        @Override
+        String call() {
+            throw new IllegalStateException("unavailable")
+        }
+    }
+
+    static class FailingStore extends CacheStoreAdapter<Object, Object> {
+        @Override
+        Object load(Object key) {
+            return null
+        }
+
+        @Override
+        void write(Cache.Entry<?, ?> entry) {
+            throw new CacheWriterException("unavailable")
+        }
+
+        @Override
+        void delete(Object key) {
+        }
+    }
+}
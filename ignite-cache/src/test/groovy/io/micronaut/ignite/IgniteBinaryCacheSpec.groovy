@@ -0,0 +1,99 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.BeanContext
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.ignite.configuration.IgniteCacheConfiguration
+import org.apache.ignite.Ignite
+import org.apache.ignite.Ignition
+import org.apache.ignite.binary.BinaryObject
+import org.apache.ignite.client.IgniteClient
+import org.apache.ignite.configuration.ClientConfiguration
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class IgniteBinaryCacheSpec extends Specification {
+
+    @Shared @AutoCleanup
+    Ignite ignite = IgniteTestNode.start("binary-cache")
+
+    @Shared
+    ExecutorService executor = Executors.newSingleThreadExecutor()
+
+    @Shared
+    IgniteCacheManager cacheManager
+
+    def setupSpec() {
+        IgniteCacheConfiguration keepBinary = new IgniteCacheConfiguration("binary-accounts")
+        keepBinary.keepBinary = true
+        BeanContext beanContext = Stub()
+        beanContext.findBean(*_) >> Optional.empty()
+        cacheManager = new IgniteCacheManager(ignite, new IgniteRegistry(beanContext), ConversionService.SHARED, executor, null, [keepBinary], null)
+        ["accounts", "binary-accounts"].each {
+            ignite.getOrCreateCache(it).put("fred", new CachedAccount("fred", 42L, "EUR", ["opened", "deposit"]))
+        }
+    }
+
+    def cleanupSpec() {
+        cacheManager.close()
+        executor.shutdownNow()
+    }
+
+    def "a keep binary cache reads binary objects and deserializes them on demand"() {
+        given:
+        IgniteSyncCache binaryCache = cacheManager.getCache("binary-accounts")
+        IgniteSyncCache cache = cacheManager.getCache("accounts")
+
+        expect:
+        binaryCache.nativeCache.get("fred") instanceof BinaryObject
+        binaryCache.get("fred", BinaryObject).get().<String> field("owner") == "fred"
+        binaryCache.get("fred", CachedAccount).get().history == ["opened", "deposit"]
+
+        and: "the other caches deserialize their values"
+        cache.nativeCache.get("fred") instanceof CachedAccount
+        cache.get("fred", CachedAccount).get().owner == "fred"
+    }
+
+    def "the sync and async caches project values whether the cache keeps them binary or not"() {
+        given:
+        IgniteSyncCache cache = cacheManager.getCache(name)
+        IgniteAsyncCache async = (IgniteAsyncCache) cache.async()
+
+        when:
+        AccountSummary summary = cache.project("fred", AccountSummary).get()
+        AccountSummary asyncSummary = async.project("fred", AccountSummary).get(10, TimeUnit.SECONDS).get()
+        BinaryObject binary = cache.project("fred", BinaryObject).get()
+
+        then:
+        [summary, asyncSummary].every { it.owner == "fred" && it.balance == 42L && it.currency == "EUR" }
+        binary.<List<String>> field("history") == ["opened", "deposit"]
+        !cache.project("missing", AccountSummary).present
+        !async.project("missing", AccountSummary).get(10, TimeUnit.SECONDS).present
+
+        where:
+        name << ["accounts", "binary-accounts"]
+    }
+
+    def "the thin client cache projects values"() {
+        given:
+        IgniteClient client = Ignition.startClient(new ClientConfiguration().setAddresses("127.0.0.1:" + IgniteTestNode.CLIENT_PORT))
+        IgniteThinSyncCache cache = new IgniteThinSyncCache(ConversionService.SHARED, executor, client.cache("accounts"))
+
+        when:
+        AccountSummary summary = cache.project("fred", AccountSummary).get()
+
+        then:
+        summary.owner == "fred"
+        summary.balance == 42L
+        summary.currency == "EUR"
+        cache.project("fred", BinaryObject).get().<String> field("currency") == "EUR"
+        !cache.project("missing", AccountSummary).present
+
+        cleanup:
+        client.close()
+    }
+}
@@ -0,0 +1,52 @@
+package io.micronaut.ignite
+
+import io.micronaut.core.convert.ConversionService
+import org.apache.ignite.binary.BinaryObject
+import spock.lang.Specification
+
+class IgniteBinaryProjectionSpec extends Specification {
+
+    def "only the fields of the projection are read"() {
+        given:
+        BinaryObject binary = Mock(BinaryObject)
+
+        when:
+        Optional<AccountSummary> summary = IgniteBinaryProjection.project(ConversionService.SHARED, binary, AccountSummary)
+
+        then:
+        summary.get().owner == "fred"
+        summary.get().balance == 42L
+        summary.get().currency == null
+        _ * binary.hasField("owner") >> true
+        _ * binary.hasField("balance") >> true
+        _ * binary.hasField("currency") >> false
+        1 * binary.field("owner") >> "fred"
+        1 * binary.field("balance") >> 42
+        0 * binary.deserialize()
+    }
+
+    def "binary objects are returned as they are"() {
+        given:
+        BinaryObject binary = Mock(BinaryObject)
+
+        expect:
+        IgniteBinaryProjection.project(ConversionService.SHARED, binary, BinaryObject).get().is(binary)
+        !IgniteBinaryProjection.project(ConversionService.SHARED, null, AccountSummary).isPresent()
+    }
+
+    def "values of the requested type are not converted"() {
+        given:
+        ConversionService conversionService = Mock(ConversionService)
+        BinaryObject binary = Mock(BinaryObject)
+
+        when:
+        Optional<String> value = IgniteConversion.convert(conversionService, "value", String)
+        Optional<String> deserialized = IgniteConversion.convert(conversionService, binary, String)
+
+        then:
+        value.get() == "value"
+        deserialized.get() == "other"
+        1 * binary.deserialize() >> "other"
+        0 * conversionService._
+    }
+}
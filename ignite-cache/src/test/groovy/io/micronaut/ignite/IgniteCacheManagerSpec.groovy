@@ -0,0 +1,120 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.BeanContext
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.ignite.configuration.DefaultCacheConfiguration
+import io.micronaut.ignite.configuration.IgniteStartupConfiguration
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.IgniteCluster
+import org.apache.ignite.cluster.ClusterNode
+import org.apache.ignite.configuration.CacheConfiguration
+import org.apache.ignite.configuration.NearCacheConfiguration
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class IgniteCacheManagerSpec extends Specification {
+
+    Ignite ignite = Mock()
+    BeanContext beanContext = Mock()
+    IgniteCacheManager cacheManager = new IgniteCacheManager(ignite, new IgniteRegistry(beanContext), ConversionService.SHARED,
+        null, null, [], null)
+
+    def "the caches created together are wrapped without resolving them again"() {
+        given:
+        IgniteCache<Object, Object> accounts = cache("accounts")
+        IgniteCache<Object, Object> books = cache("books")
+        beanContext.findBean(DefaultCacheConfiguration, _) >> Optional.empty()
+
+        when:
+        cacheManager.createCaches([new CacheConfiguration("accounts"), new CacheConfiguration("books")])
+
+        then:
+        1 * ignite.getOrCreateCaches(_) >> [accounts, books]
+        0 * ignite.getOrCreateCache(_)
+
+        when:
+        IgniteSyncCache resolved = cacheManager.getCache("accounts")
+
+        then:
+        0 * ignite._
+        resolved.nativeCache.is(accounts)
+        cacheManager.getCache("accounts").is(resolved)
+        cacheManager.getCache("books").nativeCache.is(books)
+    }
+
+    def "a cache read through a near cache is created with its near cache"() {
+        given:
+        IgniteCache<Object, Object> near = cache("near")
+        beanContext.findBean(DefaultCacheConfiguration, Qualifiers.byName("near")) >>
+            Optional.of(new DefaultCacheConfiguration("near", new DefaultCacheConfiguration.NearConfiguration(), null, null))
+        ignite.cluster() >> Stub(IgniteCluster) {
+            localNode() >> Stub(ClusterNode) {
+                isClient() >> true
+            }
+        }
+
+        when:
+        cacheManager.createCaches([new CacheConfiguration("near")])
+
+        then:
+        0 * ignite.getOrCreateCaches(_)
+        1 * ignite.getOrCreateCache({ it.name == "near" && it.nearConfiguration == null }, _ as NearCacheConfiguration) >> near
+        cacheManager.getCache("near").nativeCache.is(near)
+    }
+
+    def "the caches are created in the background once the nodes are started"() {
+        given:
+        ExecutorService executorService = Executors.newSingleThreadExecutor()
+        IgniteStartup startup = new IgniteStartup(new IgniteStartupConfiguration(), executorService)
+        CompletableFuture<Ignite> node = startup.node("default")
+        beanContext.findBean(DefaultCacheConfiguration, _) >> Optional.empty()
+
+        when:
+        IgniteCacheInitializer initializer = new IgniteCacheInitializer(cacheManager, startup, executorService,
+            [new DefaultCacheConfiguration("accounts", null, null, null)], [new CacheConfiguration("books")])
+
+        then:
+        0 * ignite.getOrCreateCaches(_)
+        !initializer.created().done
+
+        when:
+        node.complete(ignite)
+        initializer.created().join()
+
+        then:
+        1 * ignite.getOrCreateCaches({ it*.name == ["accounts", "books"] }) >> [cache("accounts"), cache("books")]
+
+        cleanup:
+        executorService.shutdown()
+    }
+
+    def "the caches are created when they are used if a node failed to start"() {
+        given:
+        ExecutorService executorService = Executors.newSingleThreadExecutor()
+        IgniteStartup startup = new IgniteStartup(new IgniteStartupConfiguration(), executorService)
+        startup.node("default").completeExceptionally(new IllegalStateException("no cluster"))
+
+        when:
+        IgniteCacheInitializer initializer = new IgniteCacheInitializer(cacheManager, startup, executorService,
+            [new DefaultCacheConfiguration("accounts", null, null, null)], [])
+        initializer.created().handle({ v, t -> null }).join()
+
+        then:
+        initializer.created().completedExceptionally
+        0 * ignite.getOrCreateCaches(_)
+
+        cleanup:
+        executorService.shutdown()
+    }
+
+    private IgniteCache<Object, Object> cache(String name) {
+        IgniteCache<Object, Object> cache = Stub()
+        cache.getName() >> name
+        return cache
+    }
+}
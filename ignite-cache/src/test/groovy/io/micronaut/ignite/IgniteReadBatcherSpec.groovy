@@ -0,0 +1,129 @@
+package io.micronaut.ignite
+
+import io.micronaut.scheduling.TaskScheduler
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.IgniteException
+import org.apache.ignite.internal.util.future.IgniteFinishedFutureImpl
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import javax.cache.CacheException
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class IgniteReadBatcherSpec extends Specification {
+
+    @AutoCleanup("shutdown")
+    ExecutorService executor = Executors.newSingleThreadExecutor()
+    IgniteCache<Object, Object> nativeCache = Mock()
+    TaskScheduler taskScheduler = Mock()
+    List<Runnable> scheduled = []
+
+    def setup() {
+        taskScheduler.schedule(_ as Duration, _ as Runnable) >> { Duration delay, Runnable task ->
+            scheduled << task
+            null
+        }
+    }
+
+    def "reads within the window are sent as one request"() {
+        given:
+        IgniteReadBatcher batcher = new IgniteReadBatcher(nativeCache, taskScheduler, executor, Duration.ofMillis(5), 10)
+
+        when:
+        CompletableFuture<Object> one = batcher.get("one")
+        CompletableFuture<Object> two = batcher.get("two")
+        CompletableFuture<Object> again = batcher.get("one")
+        CompletableFuture<Object> missing = batcher.get("three")
+
+        then:
+        0 * nativeCache.getAllAsync(_)
+        again.is(one)
+        scheduled.size() == 1
+        !one.done
+
+        when:
+        scheduled.remove(0).run()
+
+        then:
+        1 * nativeCache.getAllAsync({ new HashSet(it) == (["one", "two", "three"] as Set) }) >> new IgniteFinishedFutureImpl<>([one: 1, two: 2])
+        one.get(5, TimeUnit.SECONDS) == 1
+        two.get(5, TimeUnit.SECONDS) == 2
+        missing.get(5, TimeUnit.SECONDS) == null
+    }
+
+    def "a full batch is sent without waiting for the window"() {
+        given:
+        IgniteReadBatcher batcher = new IgniteReadBatcher(nativeCache, taskScheduler, executor, Duration.ofMinutes(1), 2)
+
+        when:
+        CompletableFuture<Object> one = batcher.get("one")
+        CompletableFuture<Object> two = batcher.get("two")
+
+        then:
+        1 * nativeCache.getAllAsync({ new HashSet(it) == (["one", "two"] as Set) }) >> new IgniteFinishedFutureImpl<>([one: 1, two: 2])
+        one.get(5, TimeUnit.SECONDS) == 1
+        two.get(5, TimeUnit.SECONDS) == 2
+
+        when:
+        CompletableFuture<Object> three = batcher.get("three")
+
+        then:
+        0 * nativeCache.getAllAsync(_)
+        !three.done
+    }
+
+    def "closing sends the pending reads and later reads are sent on their own"() {
+        given:
+        IgniteReadBatcher batcher = new IgniteReadBatcher(nativeCache, taskScheduler, executor, Duration.ofMinutes(1), 10)
+        CompletableFuture<Object> pending = batcher.get("one")
+
+        when:
+        batcher.close()
+
+        then:
+        1 * nativeCache.getAllAsync({ new HashSet(it) == (["one"] as Set) }) >> new IgniteFinishedFutureImpl<>([one: 1])
+        pending.get(5, TimeUnit.SECONDS) == 1
+
+        when:
+        CompletableFuture<Object> late = batcher.get("two")
+
+        then:
+        1 * nativeCache.getAllAsync({ new HashSet(it) == (["two"] as Set) }) >> new IgniteFinishedFutureImpl<>([two: 2])
+        late.get(5, TimeUnit.SECONDS) == 2
+    }
+
+    def "a failed request fails every read of the batch"() {
+        given:
+        IgniteReadBatcher batcher = new IgniteReadBatcher(nativeCache, taskScheduler, executor, Duration.ofMinutes(1), 2)
+
+        when:
+        CompletableFuture<Object> one = batcher.get("one")
+        CompletableFuture<Object> two = batcher.get("two")
+        one.get(5, TimeUnit.SECONDS)
+
+        then:
+        1 * nativeCache.getAllAsync(_) >> { throw failure }
+        def e = thrown(ExecutionException)
+        e.cause.is(failure)
+        two.isCompletedExceptionally()
+
+        when:
+        CompletableFuture<Object> three = batcher.get("three")
+        CompletableFuture<Object> four = batcher.get("four")
+        three.get(5, TimeUnit.SECONDS)
+
+        then:
+        1 * nativeCache.getAllAsync(_) >> new IgniteFinishedFutureImpl<>(new IgniteException("node left"))
+        e = thrown(ExecutionException)
+        e.cause instanceof IgniteException
+        four.isCompletedExceptionally()
+
+        where:
+        failure = new CacheException("cache closed")
+    }
+}
@@ -0,0 +1,132 @@
+package io.micronaut.ignite
+
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import org.apache.ignite.client.ClientCache
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class IgniteSingleFlightSpec extends Specification {
+
+    def "concurrent loads of the same key run the loader once"() {
+        given:
+        IgniteSingleFlight singleFlight = new IgniteSingleFlight()
+        AtomicInteger calls = new AtomicInteger()
+        CountDownLatch loading = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        List<String> results = Collections.synchronizedList([])
+        Thread loader = Thread.start {
+            results << singleFlight.load("key", {
+                calls.incrementAndGet()
+                loading.countDown()
+                release.await()
+                "value"
+            })
+        }
+        loading.await()
+
+        when:
+        List<Thread> waiters = (1..7).collect {
+            Thread.start { results << singleFlight.load("key", { calls.incrementAndGet(); "other" }) }
+        }
+        new PollingConditions(timeout: 10).eventually {
+            assert waiters.every { it.state == Thread.State.WAITING }
+        }
+        release.countDown()
+        ([loader] + waiters)*.join()
+
+        then:
+        results.size() == 8
+        results.every { it == "value" }
+        calls.get() == 1
+    }
+
+    def "waiting callers receive the loader failure"() {
+        given:
+        IgniteSingleFlight singleFlight = new IgniteSingleFlight()
+        CompletableFuture<String> pending = new CompletableFuture<>()
+
+        when:
+        CompletableFuture<String> first = singleFlight.loadAsync("key", { pending })
+        CompletableFuture<String> second = singleFlight.loadAsync("key", { CompletableFuture.completedFuture("other") })
+        pending.completeExceptionally(new IllegalStateException("boom"))
+
+        then:
+        first.isCompletedExceptionally()
+        second.isCompletedExceptionally()
+
+        when:
+        CompletableFuture<String> third = singleFlight.loadAsync("key", { CompletableFuture.completedFuture("value") })
+
+        then:
+        third.get() == "value"
+    }
+
+    def "a loader loading its own key fails instead of waiting for itself"() {
+        given:
+        IgniteSingleFlight singleFlight = new IgniteSingleFlight()
+
+        when:
+        singleFlight.load("key", { singleFlight.load("key", { "nested" }) })
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == "The loader of key [key] loads the same key again"
+
+        when:
+        CompletableFuture<String> future = singleFlight.loadAsync("key", { singleFlight.loadAsync("key", { CompletableFuture.completedFuture("nested") }) })
+        future.join()
+
+        then:
+        e = thrown(CompletionException)
+        e.cause instanceof IllegalStateException
+
+        expect:
+        singleFlight.load("key", { "value" }) == "value"
+        singleFlight.load("key", { singleFlight.load("other", { "nested" }) }) == "nested"
+    }
+
+    def "concurrent cache reads of a missing key run the supplier once"() {
+        given:
+        Map<Object, Object> entries = new ConcurrentHashMap<>()
+        ClientCache<Object, Object> nativeCache = Stub {
+            get(_) >> { args -> entries.get(args[0]) }
+            getAndPutIfAbsent(_, _) >> { Object key, Object value -> entries.putIfAbsent(key, value) }
+        }
+        IgniteThinSyncCache cache = new IgniteThinSyncCache(ConversionService.SHARED, null, nativeCache)
+        AtomicInteger calls = new AtomicInteger()
+        CountDownLatch ready = new CountDownLatch(8)
+        CountDownLatch start = new CountDownLatch(1)
+        def pool = Executors.newFixedThreadPool(8)
+
+        when:
+        def futures = (1..8).collect {
+            pool.submit({
+                ready.countDown()
+                start.await()
+                cache.get("key", Argument.of(String), {
+                    calls.incrementAndGet()
+                    "value"
+                })
+            } as Callable)
+        }
+        ready.await()
+        start.countDown()
+
+        then:
+        futures*.get().every { it == "value" }
+        calls.get() == 1
+        entries == [key: "value"]
+
+        cleanup:
+        pool.shutdown()
+    }
+}
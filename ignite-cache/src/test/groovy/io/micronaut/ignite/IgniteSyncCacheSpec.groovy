@@ -0,0 +1,117 @@
+package io.micronaut.ignite
+
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.CacheAtomicityMode
+import org.apache.ignite.configuration.CacheConfiguration
+import org.apache.ignite.lang.IgniteCallable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class IgniteSyncCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    Ignite ignite = IgniteTestNode.start("sync-cache")
+
+    @Unroll
+    def "getOrLoad stores the loaded value of a missing key in a #mode cache"() {
+        given:
+        IgniteCache<Object, Object> nativeCache = ignite.getOrCreateCache(new CacheConfiguration<Object, Object>("load-" + mode).setAtomicityMode(mode))
+        IgniteSyncCache cache = new IgniteSyncCache(ConversionService.SHARED, nativeCache, null)
+        CountingLoader.calls.set(0)
+
+        when:
+        Optional<String> loaded = cache.getOrLoad("key", Argument.of(String), new CountingLoader("value"))
+        Optional<String> existing = cache.getOrLoad("key", Argument.of(String), new CountingLoader("other"))
+
+        then:
+        loaded == Optional.of("value")
+        existing == Optional.of("value")
+        nativeCache.get("key") == "value"
+        CountingLoader.calls.get() == 1
+
+        when:
+        Optional<String> missing = cache.getOrLoad("null", Argument.of(String), new CountingLoader(null))
+
+        then:
+        missing == Optional.empty()
+        !nativeCache.containsKey("null")
+
+        cleanup:
+        nativeCache.destroy()
+
+        where:
+        mode << [CacheAtomicityMode.ATOMIC, CacheAtomicityMode.TRANSACTIONAL]
+    }
+
+    def "concurrent putIfAbsent calls store a single value"() {
+        given:
+        IgniteCache<Object, Object> nativeCache = ignite.getOrCreateCache("put-if-absent")
+        IgniteSyncCache cache = new IgniteSyncCache(ConversionService.SHARED, nativeCache, null)
+        CountDownLatch start = new CountDownLatch(1)
+        def pool = Executors.newFixedThreadPool(8)
+
+        when:
+        def futures = (1..8).collect { int i ->
+            pool.submit({
+                start.await()
+                cache.putIfAbsent("key", "value-" + i)
+            } as Callable)
+        }
+        start.countDown()
+        List<Optional<String>> results = futures*.get()
+        String stored = nativeCache.get("key")
+
+        then:
+        results.count { !it.present } == 1
+        results.findAll { it.present }.every { it.get() == stored }
+
+        cleanup:
+        pool.shutdown()
+        nativeCache.destroy()
+    }
+
+    def "a loaded value does not overwrite a value stored concurrently"() {
+        given:
+        IgniteCache<Object, Object> nativeCache = ignite.getOrCreateCache("concurrent-load")
+        IgniteSyncCache cache = new IgniteSyncCache(ConversionService.SHARED, nativeCache, null)
+
+        when:
+        String value = cache.get("key", Argument.of(String), {
+            nativeCache.put("key", "stored")
+            "loaded"
+        })
+
+        then:
+        value == "stored"
+        nativeCache.get("key") == "stored"
+
+        cleanup:
+        nativeCache.destroy()
+    }
+
+    static class CountingLoader implements IgniteCallable<String> {
+        static final AtomicInteger calls = new AtomicInteger()
+        final String value
+
+        CountingLoader(String value) {
+            this.value = value
+        }
+
+        @Override
+        String call() {
+            calls.incrementAndGet()
+            return value
+        }
+    }
+}
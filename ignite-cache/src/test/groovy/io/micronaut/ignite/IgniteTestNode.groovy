@@ -0,0 +1,28 @@
+package io.micronaut.ignite
+
+import org.apache.ignite.Ignite
+import org.apache.ignite.Ignition
+import org.apache.ignite.configuration.ClientConnectorConfiguration
+import org.apache.ignite.configuration.IgniteConfiguration
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder
+
+/**
+ * Starts in-process Ignite nodes on the loopback interface, which only discover each other. The first node accepts
+ * thin clients on {@link #CLIENT_PORT}.
+ */
+class IgniteTestNode {
+    static final int CLIENT_PORT = 10950
+
+    static Ignite start(String name, boolean client = false) {
+        TcpDiscoveryVmIpFinder ipFinder = new TcpDiscoveryVmIpFinder(true)
+        ipFinder.setAddresses(["127.0.0.1:48500..48509"])
+        return Ignition.start(new IgniteConfiguration()
+            .setIgniteInstanceName(name)
+            .setClientMode(client)
+            .setLocalHost("127.0.0.1")
+            .setMetricsLogFrequency(0)
+            .setClientConnectorConfiguration(new ClientConnectorConfiguration().setPort(CLIENT_PORT))
+            .setDiscoverySpi(new TcpDiscoverySpi().setLocalPort(48500).setLocalPortRange(10).setIpFinder(ipFinder)))
+    }
+}
@@ -0,0 +1,146 @@
+package io.micronaut.ignite
+
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import io.micronaut.ignite.configuration.DefaultThinClientNearCacheConfiguration
+import io.micronaut.ignite.metrics.IgniteCacheMetrics
+import io.micronaut.scheduling.TaskScheduler
+import org.apache.ignite.cache.query.QueryCursor
+import org.apache.ignite.client.ClientCache
+import org.apache.ignite.client.ClientException
+import org.apache.ignite.client.IgniteClientFuture
+import org.apache.ignite.internal.client.thin.IgniteClientFutureImpl
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.AtomicInteger
+
+class IgniteThinAsyncCacheSpec extends Specification {
+
+    @AutoCleanup("shutdown")
+    ExecutorService io = Executors.newSingleThreadExecutor({ Runnable r -> new Thread(r, "test-io") } as ThreadFactory)
+    Map<Object, Object> entries = new ConcurrentHashMap<>()
+    ClientCache<Object, Object> nativeCache = Mock {
+        getName() >> "accounts"
+        getAsync(_) >> { args -> future(entries.get(args[0])) }
+        getAndPutIfAbsentAsync(_, _) >> { args -> future(entries.putIfAbsent(args[0], args[1])) }
+        putAsync(_, _) >> { args -> entries.put(args[0], args[1]); future(null) }
+        removeAsync(_) >> { args -> future(entries.remove(args[0]) != null) }
+    }
+
+    def "values are read and converted"() {
+        given:
+        IgniteThinAsyncCache cache = new IgniteThinAsyncCache(ConversionService.SHARED, nativeCache, io)
+        entries.put("one", 1)
+
+        expect:
+        cache.get("one", Argument.of(String)).get() == Optional.of("1")
+        cache.get("two", Argument.of(String)).get() == Optional.empty()
+    }
+
+    def "value suppliers run on the executor and their value is stored once"() {
+        given:
+        IgniteThinAsyncCache cache = new IgniteThinAsyncCache(ConversionService.SHARED, nativeCache, io)
+        AtomicInteger calls = new AtomicInteger()
+        List<String> threads = []
+
+        when:
+        String value = cache.get("key", Argument.of(String), {
+            calls.incrementAndGet()
+            threads << Thread.currentThread().name
+            "value"
+        }).get()
+
+        then:
+        value == "value"
+        entries == [key: "value"]
+        threads == ["test-io"]
+
+        when:
+        String cached = cache.get("key", Argument.of(String), { calls.incrementAndGet(); "other" }).get()
+
+        then:
+        cached == "value"
+        calls.get() == 1
+    }
+
+    def "a value stored concurrently wins over the supplied value"() {
+        given:
+        IgniteThinAsyncCache cache = new IgniteThinAsyncCache(ConversionService.SHARED, nativeCache, io)
+
+        when:
+        String value = cache.get("key", Argument.of(String), {
+            entries.put("key", "concurrent")
+            "supplied"
+        }).get()
+
+        then:
+        value == "concurrent"
+    }
+
+    def "supplier failures complete the future"() {
+        given:
+        IgniteThinAsyncCache cache = new IgniteThinAsyncCache(ConversionService.SHARED, nativeCache, io)
+
+        when:
+        CompletableFuture<String> future = cache.get("key", Argument.of(String), { throw new IllegalStateException("boom") })
+        future.join()
+
+        then:
+        def e = thrown(Exception)
+        e.cause instanceof IllegalStateException
+        entries.isEmpty()
+    }
+
+    def "reads don't register the near cache query on the calling thread"() {
+        given:
+        nativeCache.query(_, _) >> { throw new ClientException("disconnected") }
+        TaskScheduler taskScheduler = Mock()
+        IgniteThinNearCache nearCache = new IgniteThinNearCache(nativeCache, new DefaultThinClientNearCacheConfiguration("accounts"), taskScheduler)
+        IgniteThinAsyncCache cache = new IgniteThinAsyncCache(ConversionService.SHARED, nativeCache, io, nearCache, new IgniteSingleFlight(), IgniteCacheMetrics.NOOP)
+        entries.put("one", "1")
+
+        when:
+        Optional<String> value = cache.get("one", Argument.of(String)).get()
+
+        then:
+        0 * nativeCache.query(_, _)
+        value == Optional.of("1")
+        !nearCache.registered
+    }
+
+    def "writes invalidate the near cache"() {
+        given:
+        nativeCache.query(_, _) >> Stub(QueryCursor)
+        IgniteThinNearCache nearCache = new IgniteThinNearCache(nativeCache, new DefaultThinClientNearCacheConfiguration("accounts"), Mock(TaskScheduler))
+        IgniteThinAsyncCache cache = new IgniteThinAsyncCache(ConversionService.SHARED, nativeCache, io, nearCache, new IgniteSingleFlight(), IgniteCacheMetrics.NOOP)
+        entries.put("one", "1")
+        cache.get("one", Argument.of(String)).get()
+
+        expect:
+        nearCache.size() == 1
+
+        when:
+        cache.put("one", "2").get()
+
+        then:
+        nearCache.size() == 0
+        cache.get("one", Argument.of(String)).get() == Optional.of("2")
+
+        when:
+        cache.invalidate("one").get()
+
+        then:
+        nearCache.size() == 0
+        cache.get("one", Argument.of(String)).get() == Optional.empty()
+    }
+
+    private static <T> IgniteClientFuture<T> future(T value) {
+        return new IgniteClientFutureImpl<T>(CompletableFuture.completedFuture(value))
+    }
+}
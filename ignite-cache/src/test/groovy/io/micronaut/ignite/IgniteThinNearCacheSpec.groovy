@@ -0,0 +1,197 @@
+package io.micronaut.ignite
+
+import io.micronaut.ignite.configuration.DefaultThinClientNearCacheConfiguration
+import io.micronaut.scheduling.TaskScheduler
+import org.apache.ignite.cache.query.ContinuousQuery
+import org.apache.ignite.cache.query.QueryCursor
+import org.apache.ignite.client.ClientCache
+import org.apache.ignite.client.ClientDisconnectListener
+import org.apache.ignite.client.ClientException
+import spock.lang.Specification
+
+import javax.cache.Cache
+import javax.cache.event.CacheEntryEvent
+import javax.cache.event.CacheEntryUpdatedListener
+import javax.cache.event.EventType
+import java.time.Duration
+
+class IgniteThinNearCacheSpec extends Specification {
+
+    ClientCache<Object, Object> nativeCache = Mock()
+    TaskScheduler taskScheduler = Mock()
+    List<Runnable> scheduled = []
+    List<Duration> delays = []
+    CacheEntryUpdatedListener<Object, Object> listener
+    ClientDisconnectListener disconnectListener
+
+    def setup() {
+        taskScheduler.schedule(_ as Duration, _ as Runnable) >> { Duration delay, Runnable task ->
+            delays << delay
+            scheduled << task
+            null
+        }
+    }
+
+    def "remote updates invalidate the near cache"() {
+        given:
+        1 * nativeCache.query(_, _) >> { ContinuousQuery query, ClientDisconnectListener onDisconnected -> registered(query, onDisconnected) }
+        IgniteThinNearCache nearCache = new IgniteThinNearCache(nativeCache, new DefaultThinClientNearCacheConfiguration("accounts"), taskScheduler)
+
+        when:
+        def first = nearCache.get(1)
+        def cached = nearCache.get(1)
+
+        then:
+        1 * nativeCache.get(1) >> "one"
+        first == "one"
+        cached == "one"
+        nearCache.size() == 1
+
+        when:
+        listener.onUpdated([event(EventType.CREATED, 2), event(EventType.UPDATED, 1)])
+        def updated = nearCache.get(1)
+
+        then:
+        1 * nativeCache.get(1) >> "uno"
+        updated == "uno"
+
+        when:
+        listener.onUpdated([event(EventType.REMOVED, 1)])
+
+        then:
+        nearCache.size() == 0
+    }
+
+    def "reads bypass the near cache while disconnected and the query is registered again in the background"() {
+        given:
+        nativeCache.query(_, _) >> { ContinuousQuery query, ClientDisconnectListener onDisconnected -> registered(query, onDisconnected) }
+        IgniteThinNearCache nearCache = new IgniteThinNearCache(nativeCache, new DefaultThinClientNearCacheConfiguration("accounts"), taskScheduler)
+        nativeCache.get(1) >> "one"
+        nearCache.get(1)
+
+        when:
+        disconnectListener.onDisconnected(new ClientException("connection lost"))
+        nearCache.get(1)
+        nearCache.get(1)
+
+        then:
+        2 * nativeCache.get(1) >> "one"
+        0 * nativeCache.query(_, _)
+        !nearCache.registered
+        nearCache.size() == 0
+        scheduled.size() == 1
+
+        when:
+        scheduled.remove(0).run()
+
+        then:
+        1 * nativeCache.query(_, _) >> { throw new ClientException("still disconnected") }
+        !nearCache.registered
+        delays == [Duration.ZERO, Duration.ofMillis(100)]
+
+        when:
+        scheduled.remove(0).run()
+        nearCache.get(1)
+        nearCache.get(1)
+
+        then:
+        1 * nativeCache.query(_, _) >> { ContinuousQuery query, ClientDisconnectListener onDisconnected -> registered(query, onDisconnected) }
+        1 * nativeCache.get(1) >> "one"
+        nearCache.registered
+        scheduled.empty
+    }
+
+    def "failed registrations back off up to a maximum delay"() {
+        given:
+        nativeCache.query(_, _) >> { throw new ClientException("unavailable") }
+        IgniteThinNearCache nearCache = new IgniteThinNearCache(nativeCache, new DefaultThinClientNearCacheConfiguration("accounts"), taskScheduler)
+
+        when:
+        12.times { scheduled.remove(0).run() }
+
+        then:
+        delays.take(4) == [Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMillis(400), Duration.ofMillis(800)]
+        delays.last() == Duration.ofSeconds(30)
+
+        when:
+        nearCache.close()
+        scheduled.remove(0).run()
+
+        then:
+        0 * nativeCache.query(_, _)
+        scheduled.empty
+    }
+
+    def "an invalidation racing with the store of a loaded value removes it"() {
+        given:
+        nativeCache.query(_, _) >> { ContinuousQuery query, ClientDisconnectListener onDisconnected -> registered(query, onDisconnected) }
+        IgniteThinNearCache nearCache = new IgniteThinNearCache(nativeCache, new DefaultThinClientNearCacheConfiguration("accounts"), taskScheduler)
+        RacingKey key = new RacingKey()
+        key.onNextHash = {
+            // another thread updates the key after it was read, while the read value is being stored
+            Thread.start { nearCache.invalidate(key) }.join()
+        }
+
+        when:
+        def loaded = nearCache.get(key)
+
+        then:
+        1 * nativeCache.get(key) >> {
+            key.armed = true
+            "old"
+        }
+        loaded == "old"
+        nearCache.size() == 0
+
+        when:
+        def reloaded = nearCache.get(key)
+
+        then:
+        1 * nativeCache.get(key) >> "new"
+        reloaded == "new"
+    }
+
+    private QueryCursor registered(ContinuousQuery<Object, Object> query, ClientDisconnectListener onDisconnected) {
+        listener = query.localListener
+        disconnectListener = onDisconnected
+        return Stub(QueryCursor)
+    }
+
+    private CacheEntryEvent<Object, Object> event(EventType type, Object key) {
+        return new TestEvent(Stub(Cache), type, key)
+    }
+
+    static class TestEvent extends CacheEntryEvent<Object, Object> {
+        final Object key
+
+        TestEvent(Cache source, EventType type, Object key) {
+            super(source, type)
+            this.key = key
+        }
+
+        Object getValue() { null }
+
+        Object getOldValue() { null }
+
+        boolean isOldValueAvailable() { false }
+
+        def <T> T unwrap(Class<T> clazz) { throw new IllegalArgumentException() }
+    }
+
+    /**
+     * A key running a task on the first hash after it is armed, which is when the near cache stores its value.
+     */
+    static class RacingKey {
+        volatile boolean armed
+        Closure<?> onNextHash
+
+        @Override
+        int hashCode() {
+            if (armed) {
+                armed = false
+                onNextHash.call()
+            }
+            return 1
+        }
+    }
+}
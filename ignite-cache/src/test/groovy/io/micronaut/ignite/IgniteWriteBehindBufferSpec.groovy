@@ -0,0 +1,280 @@
+package io.micronaut.ignite
+
+import io.micronaut.scheduling.TaskScheduler
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.IgniteException
+import org.apache.ignite.internal.util.future.GridFutureAdapter
+import org.apache.ignite.internal.util.future.IgniteFinishedFutureImpl
+import org.apache.ignite.internal.util.future.IgniteFutureImpl
+import org.apache.ignite.lang.IgniteFuture
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.atomic.AtomicBoolean
+
+class IgniteWriteBehindBufferSpec extends Specification {
+
+    IgniteCache<Object, Object> nativeCache = Mock {
+        getName() >> "accounts"
+    }
+    TaskScheduler taskScheduler = Mock()
+    Runnable periodicFlush
+    List<Runnable> retries = []
+
+    def setup() {
+        taskScheduler.scheduleAtFixedRate(_, _, _ as Runnable) >> { Duration delay, Duration period, Runnable task ->
+            periodicFlush = task
+            Stub(ScheduledFuture)
+        }
+        taskScheduler.schedule(_ as Duration, _ as Runnable) >> { Duration delay, Runnable task ->
+            retries << task
+            null
+        }
+    }
+
+    def "only the latest write of a key is sent"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(10, 3)
+
+        when:
+        buffer.put("a", 1)
+        buffer.put("a", 2)
+        buffer.put("b", 1)
+        buffer.remove("b")
+        buffer.put("c", 3)
+        buffer.remove("d")
+        buffer.flush().join()
+
+        then:
+        1 * nativeCache.putAllAsync([a: 2, c: 3]) >> done()
+        1 * nativeCache.removeAllAsync({ new HashSet(it) == (["b", "d"] as Set) }) >> done()
+    }
+
+    def "comparable keys are sent in their natural order"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(100, 3)
+        List<String> keys = (1..60).collect { String.format("key-%02d", it) }
+        List<Object> puts = []
+        List<Object> removes = []
+
+        when:
+        keys.reverse().each { it < "key-51" ? buffer.put(it, 1) : buffer.remove(it) }
+        buffer.flush().join()
+
+        then:
+        1 * nativeCache.putAllAsync(_) >> { Map<Object, Object> values -> puts.addAll(values.keySet()); done() }
+        1 * nativeCache.removeAllAsync(_) >> { Set<Object> values -> removes.addAll(values); done() }
+        puts == keys.take(50)
+        removes == keys.drop(50)
+    }
+
+    def "keys of mixed types are sent unsorted"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(10, 3)
+
+        when:
+        buffer.put("a", 1)
+        buffer.put(2, 2)
+        buffer.flush().join()
+
+        then:
+        1 * nativeCache.putAllAsync({ !(it instanceof SortedMap) && it == ["a": 1, 2: 2] }) >> done()
+    }
+
+    def "the buffer is flushed once it holds the flush size"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(2, 3)
+
+        when:
+        buffer.put("a", 1)
+
+        then:
+        0 * nativeCache.putAllAsync(_)
+
+        when:
+        buffer.put("b", 2)
+
+        then:
+        1 * nativeCache.putAllAsync([a: 1, b: 2]) >> done()
+    }
+
+    def "the buffer is flushed every interval"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(10, 3)
+        buffer.put("a", 1)
+
+        when:
+        periodicFlush.run()
+
+        then:
+        1 * nativeCache.putAllAsync([a: 1]) >> done()
+
+        when:
+        periodicFlush.run()
+
+        then:
+        0 * nativeCache.putAllAsync(_)
+    }
+
+    def "buffered writes are visible until they are written"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(10, 3)
+        GridFutureAdapter<Void> inFlight = new GridFutureAdapter<>()
+        nativeCache.putAllAsync(_) >> new IgniteFutureImpl<>(inFlight)
+        buffer.put("a", 1)
+        buffer.remove("b")
+
+        expect:
+        buffer.lookup("a") == 1
+
+        when:
+        CompletableFuture<Void> flushed = buffer.flush()
+
+        then:
+        1 * nativeCache.removeAllAsync(_) >> done()
+        buffer.lookup("a") == 1
+        buffer.lookup("b") == IgniteWriteBehindBuffer.REMOVED
+        !buffer.flush("a").done
+
+        when:
+        buffer.put("a", 2)
+
+        then:
+        buffer.lookup("a") == 2
+
+        when:
+        inFlight.onDone()
+
+        then:
+        flushed.done
+        buffer.lookup("a") == 2
+        buffer.lookup("b") == null
+    }
+
+    def "a reader always sees the latest write while batches are flushed"() {
+        given:
+        Map<Object, Object> cluster = new ConcurrentHashMap<>()
+        nativeCache.putAllAsync(_) >> { Map<Object, Object> values -> cluster.putAll(values); done() }
+        IgniteWriteBehindBuffer buffer = buffer(1000, 3)
+        AtomicBoolean writing = new AtomicBoolean(true)
+        List<String> errors = Collections.synchronizedList([])
+        buffer.put("key", 0)
+
+        when:
+        Thread reader = Thread.start {
+            int last = 0
+            while (writing.get()) {
+                Object buffered = buffer.lookup("key")
+                int value = (buffered != null ? buffered : cluster.get("key")) as int
+                if (value < last) {
+                    errors << "read " + value + " after " + last
+                }
+                last = value
+            }
+        }
+        (1..20000).each { int i ->
+            buffer.put("key", i)
+            if (i % 7 == 0) {
+                buffer.flush()
+            }
+        }
+        writing.set(false)
+        reader.join()
+
+        then:
+        errors.empty
+    }
+
+    def "a failed batch is sent again before the batches after it"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(10, 3)
+        buffer.put("a", 1)
+
+        when:
+        CompletableFuture<Void> first = buffer.flush()
+
+        then:
+        1 * nativeCache.putAllAsync([a: 1]) >> failed(new IgniteException("timeout"))
+        !first.done
+        retries.size() == 1
+        buffer.lookup("a") == 1
+
+        when:
+        buffer.put("a", 2)
+        CompletableFuture<Void> second = buffer.flush()
+
+        then:
+        0 * nativeCache.putAllAsync(_)
+        buffer.lookup("a") == 2
+
+        when:
+        retries.remove(0).run()
+
+        then:
+        1 * nativeCache.putAllAsync([a: 1]) >> done()
+
+        then:
+        1 * nativeCache.putAllAsync([a: 2]) >> done()
+        first.done
+        second.done
+        buffer.lookup("a") == null
+    }
+
+    def "a batch failing every attempt is dropped and reported"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(10, 2)
+        nativeCache.putAllAsync(_) >> { throw new IgniteException("cache stopped") }
+        buffer.put("a", 1)
+
+        when:
+        CompletableFuture<Void> flushed = buffer.flush()
+        retries.remove(0).run()
+        flushed.join()
+
+        then:
+        def e = thrown(CompletionException)
+        e.cause.message == "cache stopped"
+        retries.empty
+        buffer.lookup("a") == null
+
+        when:
+        buffer.close()
+
+        then:
+        e = thrown(IgniteException)
+        e.message.contains("Buffered writes of cache [accounts] were dropped")
+    }
+
+    def "flushing a key waits for the batch holding it"() {
+        given:
+        IgniteWriteBehindBuffer buffer = buffer(10, 1)
+        nativeCache.putAllAsync(_) >> failed(new IgniteException("rejected"))
+        buffer.put("a", 1)
+
+        when:
+        buffer.flush("a").join()
+
+        then:
+        def e = thrown(CompletionException)
+        e.cause instanceof IgniteException
+
+        expect:
+        buffer.flush("b").done
+    }
+
+    private IgniteWriteBehindBuffer buffer(int flushSize, int maxAttempts) {
+        return new IgniteWriteBehindBuffer(nativeCache, taskScheduler, Duration.ofSeconds(1), flushSize, maxAttempts)
+    }
+
+    private static IgniteFuture<Void> done() {
+        return new IgniteFinishedFutureImpl<Void>()
+    }
+
+    private static IgniteFuture<Void> failed(Throwable throwable) {
+        return new IgniteFinishedFutureImpl<Void>(throwable)
+    }
+}
@@ -0,0 +1,136 @@
+package io.micronaut.ignite.metrics
+
+import io.micrometer.core.instrument.Meter
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.config.MeterFilter
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import io.micronaut.ignite.IgniteSingleFlight
+import io.micronaut.ignite.IgniteSyncCache
+import org.apache.ignite.IgniteCache
+import spock.lang.Specification
+
+import javax.cache.CacheException
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ExecutorService
+
+class MicrometerIgniteCacheMetricsSpec extends Specification {
+
+    def "lookups and operations are recorded with the cache tags"() {
+        given:
+        SimpleMeterRegistry registry = new SimpleMeterRegistry()
+        IgniteCacheMetrics metrics = new MicrometerIgniteCacheMetricsFactory(registry, false).create("accounts", IgniteCacheMetricsFactory.THIN)
+
+        when:
+        metrics.recordGet(metrics.start(), true)
+        metrics.recordGet(metrics.start(), false)
+        metrics.record(IgniteCacheMetrics.Operation.PUT_IF_ABSENT, metrics.start())
+
+        then:
+        registry.get("ignite.cache.gets").tags("cache", "accounts", "client", "thin", "result", "hit").counter().count() == 1
+        registry.get("ignite.cache.gets").tags("result", "miss").counter().count() == 1
+        registry.get("ignite.cache.operations").tags("operation", "get", "outcome", "success", "exception", "none").timer().count() == 2
+        registry.get("ignite.cache.operations").tags("operation", "put-if-absent", "outcome", "success").timer().count() == 1
+    }
+
+    def "the operation timers publish a percentile histogram when it is enabled"() {
+        given:
+        SimpleMeterRegistry registry = new SimpleMeterRegistry()
+        List<DistributionStatisticConfig> configs = []
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.name == "ignite.cache.operations") {
+                    configs << config
+                }
+                return config
+            }
+        })
+
+        when:
+        ApplicationContext ctx = ApplicationContext.run([(MicrometerIgniteCacheMetricsFactory.PERCENTILE_HISTOGRAM): enabled])
+        ctx.registerSingleton(MeterRegistry, registry)
+        IgniteCacheMetrics metrics = ctx.getBean(IgniteCacheMetricsFactory).create("accounts", IgniteCacheMetricsFactory.THICK)
+        metrics.recordFailure(IgniteCacheMetrics.Operation.PUT, metrics.start(), new IllegalStateException())
+
+        then:
+        configs.size() == IgniteCacheMetrics.Operation.values().length + 1
+        configs.every { (it.isPercentileHistogram() == Boolean.TRUE) == enabled }
+
+        cleanup:
+        ctx.close()
+
+        where:
+        enabled << [true, false]
+    }
+
+    def "failed operations are recorded with the exception"() {
+        given:
+        SimpleMeterRegistry registry = new SimpleMeterRegistry()
+        IgniteCacheMetrics metrics = new MicrometerIgniteCacheMetricsFactory(registry, false).create("accounts", IgniteCacheMetricsFactory.THICK)
+
+        when:
+        metrics.recordFailure(IgniteCacheMetrics.Operation.LOAD, metrics.start(), new IllegalStateException())
+        metrics.recordFailure(IgniteCacheMetrics.Operation.LOAD, metrics.start(), new CompletionException(new CacheException()))
+
+        then:
+        registry.get("ignite.cache.operations").tags("operation", "load", "outcome", "failure", "exception", "IllegalStateException").timer().count() == 1
+        registry.get("ignite.cache.operations").tags("operation", "load", "outcome", "failure", "exception", "CacheException").timer().count() == 1
+        registry.get("ignite.cache.operations").tags("operation", "load", "outcome", "success").timer().count() == 0
+        registry.get("ignite.cache.gets").counters().every { it.count() == 0 }
+    }
+
+    def "synchronous cache operations that throw are recorded as failures"() {
+        given:
+        SimpleMeterRegistry registry = new SimpleMeterRegistry()
+        IgniteCacheMetrics metrics = new MicrometerIgniteCacheMetricsFactory(registry, false).create("accounts", IgniteCacheMetricsFactory.THICK)
+        IgniteCache nativeCache = Stub()
+        nativeCache.get(_) >> { throw new CacheException("node left") }
+        nativeCache.put(_, _) >> { throw new CacheException("node left") }
+        IgniteSyncCache cache = new IgniteSyncCache(ConversionService.SHARED, nativeCache, Mock(ExecutorService),
+            new IgniteSingleFlight(), null, null, metrics)
+
+        when:
+        cache.get("one", Argument.of(String))
+
+        then:
+        thrown(CacheException)
+        registry.get("ignite.cache.operations").tags("operation", "get", "outcome", "failure", "exception", "CacheException").timer().count() == 1
+
+        when:
+        cache.put("one", "1")
+
+        then:
+        thrown(CacheException)
+        registry.get("ignite.cache.operations").tags("operation", "put", "outcome", "failure", "exception", "CacheException").timer().count() == 1
+        registry.get("ignite.cache.operations").tags("operation", "put", "outcome", "success").timer().count() == 0
+    }
+
+    def "asynchronous operations are recorded once they complete"() {
+        given:
+        SimpleMeterRegistry registry = new SimpleMeterRegistry()
+        IgniteCacheMetrics metrics = new MicrometerIgniteCacheMetricsFactory(registry, false).create("accounts", IgniteCacheMetricsFactory.THICK)
+        CompletableFuture<Optional<String>> lookup = new CompletableFuture<>()
+        CompletableFuture<Boolean> put = new CompletableFuture<>()
+
+        when:
+        metrics.recordGet(metrics.start(), lookup)
+        metrics.record(IgniteCacheMetrics.Operation.PUT, metrics.start(), put)
+
+        then:
+        registry.get("ignite.cache.operations").tags("operation", "get", "outcome", "success").timer().count() == 0
+
+        when:
+        lookup.complete(Optional.of("value"))
+        put.completeExceptionally(new IllegalStateException())
+
+        then:
+        registry.get("ignite.cache.gets").tags("client", "thick", "result", "hit").counter().count() == 1
+        registry.get("ignite.cache.operations").tags("operation", "put", "outcome", "success").timer().count() == 0
+        registry.get("ignite.cache.operations").tags("operation", "put", "outcome", "failure", "exception", "IllegalStateException").timer().count() == 1
+    }
+}
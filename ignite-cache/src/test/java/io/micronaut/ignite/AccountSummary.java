@@ -0,0 +1,31 @@
+package io.micronaut.ignite;
+
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected
+public class AccountSummary {
+    private final String owner;
+    private final long balance;
+    private String currency;
+
+    public AccountSummary(String owner, long balance) {
+        this.owner = owner;
+        this.balance = balance;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+}
@@ -0,0 +1,33 @@
+package io.micronaut.ignite;
+
+import java.util.List;
+
+public class CachedAccount {
+    private final String owner;
+    private final long balance;
+    private final String currency;
+    private final List<String> history;
+
+    public CachedAccount(String owner, long balance, String currency, List<String> history) {
+        this.owner = owner;
+        this.balance = balance;
+        this.currency = currency;
+        this.history = history;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public List<String> getHistory() {
+        return history;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import io.micronaut.context.BeanContext;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.lifecycle.LifecycleBean;
+import org.apache.ignite.lifecycle.LifecycleEventType;
+
+import java.util.Optional;
+
+/**
+ * Lifecycle bean added by {@link IgniteFactory} to the configuration of the nodes it starts, so the
+ * {@link BeanContext} that started a node can be found from the node. It is part of the configuration before the node
+ * joins the cluster, so jobs and cache stores that run while the node is still starting find it as well.
+ */
+public final class IgniteBeanContextLifecycleBean implements LifecycleBean {
+    private final BeanContext beanContext;
+
+    /**
+     * @param beanContext the bean context that starts the node
+     */
+    IgniteBeanContextLifecycleBean(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * Find the bean context that started a node.
+     *
+     * @param ignite the node
+     * @return the bean context, or empty if the node was not started by {@link IgniteFactory}
+     */
+    public static Optional<BeanContext> find(Ignite ignite) {
+        LifecycleBean[] lifecycleBeans = ignite.configuration().getLifecycleBeans();
+        if (lifecycleBeans != null) {
+            for (LifecycleBean lifecycleBean : lifecycleBeans) {
+                if (lifecycleBean instanceof IgniteBeanContextLifecycleBean) {
+                    return Optional.of(((IgniteBeanContextLifecycleBean) lifecycleBean).beanContext);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void onLifecycleEvent(LifecycleEventType evt) {
+        // only carries the bean context
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.ignite.configuration.DefaultIgniteExecutorConfiguration;
+import org.apache.ignite.Ignite;
+
+import javax.inject.Singleton;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Factory for the distributed {@link ExecutorService} instances configured under {@code ignite.executors}.
+ */
+@Factory
+public class IgniteExecutorServiceFactory {
+
+    /**
+     * Create a {@link ExecutorService} that runs its tasks on the nodes selected by the configuration. The tasks are
+     * balanced over the nodes by the load balancing SPI and run again on another node by the failover SPI when a
+     * node fails.
+     *
+     * @param ignite the ignite node
+     * @param configuration the executor configuration
+     * @return the distributed executor service
+     */
+    @Singleton
+    @EachBean(DefaultIgniteExecutorConfiguration.class)
+    @Bean(preDestroy = "shutdown")
+    public ExecutorService executorService(Ignite ignite, DefaultIgniteExecutorConfiguration configuration) {
+        return ignite.executorService(configuration.clusterGroup(ignite.cluster()));
+    }
+}
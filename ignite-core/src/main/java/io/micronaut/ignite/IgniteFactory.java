@@ -16,20 +16,31 @@
 package io.micronaut.ignite;
 
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.ignite.configuration.DefaultCacheConfiguration;
+import io.micronaut.ignite.configuration.IgniteStartupConfiguration;
+import io.micronaut.ignite.store.IgniteCacheStoreFactory;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.store.CacheStore;
+import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.lifecycle.LifecycleBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Factory for the implementation of {@link Ignite}.
@@ -37,10 +48,27 @@ import java.util.List;
 @Factory
 public class IgniteFactory implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(IgniteFactory.class);
-    private List<Ignite> instances = new ArrayList<>(2);
+    private final BeanContext beanContext;
+    private final IgniteStartup startup;
+    private final AtomicBoolean startedAll = new AtomicBoolean();
+    private volatile boolean closed;
+    private final List<Ignite> instances = new CopyOnWriteArrayList<>();
 
     /**
-     * Create {@link Ignite} instance from {@link IgniteConfiguration}.
+     * Default constructor.
+     *
+     * @param beanContext the bean context
+     * @param startup     starts the nodes
+     */
+    public IgniteFactory(BeanContext beanContext, IgniteStartup startup) {
+        this.beanContext = beanContext;
+        this.startup = startup;
+    }
+
+    /**
+     * Create {@link Ignite} instance from {@link IgniteConfiguration}. When nodes start in parallel, the first node
+     * needed starts all configured nodes. When they start in the background, the instance is a proxy that waits for
+     * the node to be started when it is used.
      *
      * @param name name of the bean
      * @param configuration ignite configuration
@@ -50,22 +78,90 @@ public class IgniteFactory implements AutoCloseable {
     @EachBean(IgniteConfiguration.class)
     @Bean(preDestroy = "close")
     public Ignite ignite(@Parameter String name, IgniteConfiguration configuration) {
-        configuration.setIgniteInstanceName(name);
-        try {
-            Ignite instance = Ignition.start(configuration);
-            instances.add(instance);
-            return instance;
-        } catch (Exception e) {
-            LOG.error("Failed to instantiate an Ignite node: " + e.getMessage(), e);
-            throw e;
+        IgniteStartupConfiguration startupConfiguration = startup.getConfiguration();
+        if (startupConfiguration.isParallel() && startedAll.compareAndSet(false, true)) {
+            for (BeanRegistration<IgniteConfiguration> registration : beanContext.getBeanRegistrations(IgniteConfiguration.class)) {
+                start(registration.getIdentifier().getName(), registration.getBean());
+            }
+        }
+        CompletableFuture<Ignite> instance = start(name, configuration);
+        if (startupConfiguration.isBackground()) {
+            return IgniteLazyProxy.create(Ignite.class, name, instance, () -> startup.abort(instance));
+        }
+        return IgniteStartup.await(instance);
+    }
+
+    private CompletableFuture<Ignite> start(String name, IgniteConfiguration configuration) {
+        return startup.startNode(name, () -> {
+            configuration.setIgniteInstanceName(name);
+            beanContextLifecycleBean(configuration);
+            if (configuration.getCacheConfiguration() != null) {
+                List<CacheConfiguration<?, ?>> caches = new ArrayList<>();
+                for (CacheConfiguration<?, ?> cache : configuration.getCacheConfiguration()) {
+                    cacheStore(cache);
+                    if (!Boolean.TRUE.equals(configuration.isClientMode()) || !hasNearCache(cache)) {
+                        caches.add(cache);
+                    }
+                }
+                configuration.setCacheConfiguration(caches.toArray(new CacheConfiguration<?, ?>[0]));
+            }
+            try {
+                Ignite instance = Ignition.start(configuration);
+                instances.add(instance);
+                if (closed) {
+                    instance.close();
+                    throw new IgniteException("Ignite node [" + name + "] started after the application was closed");
+                }
+                return instance;
+            } catch (Exception e) {
+                LOG.error("Failed to instantiate an Ignite node: " + e.getMessage(), e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Adds the bean context to the configuration before the node starts, so it is found by
+     * {@link IgniteBeanContextLifecycleBean#find(Ignite)} from the moment the node joins the cluster.
+     */
+    private void beanContextLifecycleBean(IgniteConfiguration configuration) {
+        List<LifecycleBean> lifecycleBeans = new ArrayList<>();
+        if (configuration.getLifecycleBeans() != null) {
+            for (LifecycleBean lifecycleBean : configuration.getLifecycleBeans()) {
+                if (!(lifecycleBean instanceof IgniteBeanContextLifecycleBean)) {
+                    lifecycleBeans.add(lifecycleBean);
+                }
+            }
         }
+        lifecycleBeans.add(new IgniteBeanContextLifecycleBean(beanContext));
+        configuration.setLifecycleBeans(lifecycleBeans.toArray(new LifecycleBean[0]));
+    }
+
+    /**
+     * A cache without a store is backed by the {@link CacheStore} bean named after it, if there is one.
+     */
+    private <K, V> void cacheStore(CacheConfiguration<K, V> cache) {
+        if (cache.getCacheStoreFactory() == null && beanContext.containsBean(CacheStore.class, Qualifiers.byName(cache.getName()))) {
+            cache.setCacheStoreFactory(new IgniteCacheStoreFactory<>(cache.getName()));
+        }
+    }
+
+    /**
+     * A client node doesn't start the caches with a near cache with the node: it couldn't add the near cache to them
+     * afterwards, and setting it in their configuration would start it on the server nodes too. They are started with
+     * their near cache when first used, by {@link IgniteRegistry#getOrCreateCache(Ignite, String)}.
+     */
+    private static boolean hasNearCache(CacheConfiguration<?, ?> cache) {
+        return cache instanceof DefaultCacheConfiguration && ((DefaultCacheConfiguration<?, ?>) cache).findNearConfiguration().isPresent();
     }
 
     /**
-     * Stop all instances of Ignite.
+     * Stop all instances of Ignite, and abort the nodes that are still starting.
      */
     @Override
     public void close() {
+        closed = true;
+        startup.getNodes().values().forEach(startup::abort);
         for (Ignite ignite : instances) {
             try {
                 ignite.close();
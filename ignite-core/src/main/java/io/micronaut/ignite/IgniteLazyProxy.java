@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proxy of a node or thin client started in the background. Each call waits for the start, and fails if the start
+ * failed. Closing the proxy aborts the start if it is still running, and closes the instance if it was started. The
+ * proxy interfaces are registered for GraalVM native images in {@code META-INF/native-image}.
+ *
+ * @param <T> the type of the instance
+ */
+final class IgniteLazyProxy<T> implements InvocationHandler {
+    private final Class<T> type;
+    private final String name;
+    private final CompletableFuture<T> target;
+    private final Runnable abort;
+
+    private IgniteLazyProxy(Class<T> type, String name, CompletableFuture<T> target, Runnable abort) {
+        this.type = type;
+        this.name = name;
+        this.target = target;
+        this.abort = abort;
+    }
+
+    /**
+     * Create a proxy of an instance started in the background.
+     *
+     * @param type   the interface of the instance
+     * @param name   the name of the instance
+     * @param target the future of the instance
+     * @param abort  aborts the start when the proxy is closed before the instance is started
+     * @param <T>    the type of the instance
+     * @return the proxy
+     */
+    static <T> T create(Class<T> type, String name, CompletableFuture<T> target, Runnable abort) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            new IgniteLazyProxy<>(type, name, target, abort)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        int arguments = args == null ? 0 : args.length;
+        switch (method.getName()) {
+            case "equals":
+                if (arguments == 1) {
+                    return proxy == args[0];
+                }
+                break;
+            case "hashCode":
+                if (arguments == 0) {
+                    return System.identityHashCode(proxy);
+                }
+                break;
+            case "toString":
+                if (arguments == 0 && !target.isDone()) {
+                    return type.getSimpleName() + "[" + name + ", starting]";
+                }
+                break;
+            case "close":
+                if (arguments == 0) {
+                    if (!target.isDone()) {
+                        abort.run();
+                    }
+                    T instance = target.handle((started, failure) -> started).join();
+                    return instance == null ? null : call(instance, method, args);
+                }
+                break;
+            default:
+                break;
+        }
+        return call(IgniteStartup.await(target), method, args);
+    }
+
+    private static Object call(Object instance, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(instance, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import org.apache.ignite.cache.query.QueryCursor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Emits the results of an ignite query cursor as they are requested. The cursor is opened for each subscriber on the
+ * first request and is iterated on the given executor, since fetching a page from the cluster blocks. Only the
+ * requested results are read, so the cursor never holds more than a page of results that were not requested. The
+ * cursor is closed when the results are exhausted, when the query fails or when the subscription is cancelled.
+ *
+ * @param <T> the type of the results
+ */
+final class IgniteQueryPublisher<T> implements Publisher<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteQueryPublisher.class);
+
+    private final Supplier<QueryCursor<T>> query;
+    private final Executor executor;
+
+    /**
+     * @param query    runs the query and returns its cursor
+     * @param executor the executor that iterates the cursor
+     */
+    IgniteQueryPublisher(Supplier<QueryCursor<T>> query, Executor executor) {
+        this.query = query;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new QuerySubscription(subscriber));
+    }
+
+    /**
+     * The subscription of a subscriber, owning its cursor. The cursor is only used by the drain loop, which runs on
+     * one thread at a time.
+     */
+    private final class QuerySubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private QueryCursor<T> cursor;
+        private Iterator<T> iterator;
+        private boolean done;
+
+        QuerySubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Request must be positive, was: " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    wip.set(0);
+                    if (!done) {
+                        done = true;
+                        subscriber.onError(e);
+                    }
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            try {
+                if (cancelled) {
+                    close();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    close();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                if (iterator == null) {
+                    cursor = query.get();
+                    iterator = cursor.iterator();
+                }
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand) {
+                    if (cancelled) {
+                        close();
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        close();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+                if (cancelled) {
+                    close();
+                } else if (!iterator.hasNext()) {
+                    close();
+                    subscriber.onComplete();
+                } else if (demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+            } catch (Throwable t) {
+                close();
+                subscriber.onError(t);
+            }
+        }
+
+        private void close() {
+            done = true;
+            if (cursor != null) {
+                try {
+                    cursor.close();
+                } catch (RuntimeException e) {
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("Error closing query cursor: " + e.getMessage(), e);
+                    }
+                }
+                cursor = null;
+                iterator = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import io.micronaut.scheduling.TaskExecutors;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.Query;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cache.query.TextQuery;
+import org.apache.ignite.client.ClientCache;
+import org.reactivestreams.Publisher;
+
+import javax.cache.Cache;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs ignite queries and emits their results as a {@link Publisher}. The query runs when the publisher is
+ * subscribed to and its results are read from the cursor as they are requested, one page of {@link Query#getPageSize()}
+ * results at a time, on the {@link TaskExecutors#IO} executor. The cursor is closed when all results were emitted or
+ * the subscription is cancelled. Each subscription runs the query again.
+ */
+@Singleton
+public class IgniteReactiveQueries {
+    private final ExecutorService executorService;
+
+    /**
+     * Default constructor.
+     *
+     * @param executorService the executor that reads the query results
+     */
+    public IgniteReactiveQueries(@Named(TaskExecutors.IO) ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Emit the results of a query on a cache.
+     *
+     * @param cache the cache
+     * @param query the query
+     * @param <R>   the type of the results
+     * @return the results
+     */
+    public <R> Publisher<R> query(IgniteCache<?, ?> cache, Query<R> query) {
+        return new IgniteQueryPublisher<>(() -> cache.query(query), executorService);
+    }
+
+    /**
+     * Emit the results of a query on a cache of a thin client.
+     *
+     * @param cache the cache
+     * @param query the query
+     * @param <R>   the type of the results
+     * @return the results
+     */
+    public <R> Publisher<R> query(ClientCache<?, ?> cache, Query<R> query) {
+        return new IgniteQueryPublisher<>(() -> cache.query(query), executorService);
+    }
+
+    /**
+     * Emit the entries of a cache matching a scan query.
+     *
+     * @param cache the cache
+     * @param query the scan query
+     * @param <K>   the type of the keys
+     * @param <V>   the type of the values
+     * @return the entries
+     */
+    public <K, V> Publisher<Cache.Entry<K, V>> scan(IgniteCache<K, V> cache, ScanQuery<K, V> query) {
+        return query(cache, query);
+    }
+
+    /**
+     * Emit the entries of a cache of a thin client matching a scan query.
+     *
+     * @param cache the cache
+     * @param query the scan query
+     * @param <K>   the type of the keys
+     * @param <V>   the type of the values
+     * @return the entries
+     */
+    public <K, V> Publisher<Cache.Entry<K, V>> scan(ClientCache<K, V> cache, ScanQuery<K, V> query) {
+        return query(cache, query);
+    }
+
+    /**
+     * Emit the entries of a cache matching a full text query.
+     *
+     * @param cache the cache
+     * @param query the text query
+     * @param <K>   the type of the keys
+     * @param <V>   the type of the values
+     * @return the entries
+     */
+    public <K, V> Publisher<Cache.Entry<K, V>> text(IgniteCache<K, V> cache, TextQuery<K, V> query) {
+        return query(cache, query);
+    }
+
+    /**
+     * Emit the rows of a SQL query. A copy of the query runs in lazy mode, so the rows are read from the tables as the
+     * pages are fetched instead of being collected on the server nodes first. The given query is left unchanged.
+     *
+     * @param cache the cache the query runs on
+     * @param query the SQL query
+     * @return the rows
+     */
+    public Publisher<List<?>> sql(IgniteCache<?, ?> cache, SqlFieldsQuery query) {
+        return query(cache, query.copy().setLazy(true));
+    }
+
+    /**
+     * Emit the rows of a SQL query run by a thin client. A copy of the query runs in lazy mode, and the given query is
+     * left unchanged.
+     *
+     * @param cache the cache the query runs on
+     * @param query the SQL query
+     * @return the rows
+     */
+    public Publisher<List<?>> sql(ClientCache<?, ?> cache, SqlFieldsQuery query) {
+        return query(cache, query.copy().setLazy(true));
+    }
+}
@@ -19,18 +19,34 @@ import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Prototype;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.ShutdownEvent;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.ignite.annotation.IgniteCacheRef;
+import io.micronaut.ignite.annotation.IgniteDataStreamerRef;
+import io.micronaut.ignite.configuration.DefaultCacheConfiguration;
+import io.micronaut.ignite.configuration.DefaultDataStreamerConfiguration;
 import io.micronaut.inject.InjectionPoint;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.configuration.NearCacheConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Factory
-public class IgniteRegistry {
+public class IgniteRegistry implements ApplicationEventListener<ShutdownEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteRegistry.class);
 
     private final BeanContext beanContext;
+    private final Map<String, IgniteDataStreamer<?, ?>> dataStreamers = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
@@ -67,9 +83,127 @@ public class IgniteRegistry {
     public <K, V> IgniteCache<K, V> resolveIgniteCache(AnnotationMetadata metadata) {
         AnnotationValue<IgniteCacheRef> igniteCache = metadata.findAnnotation(IgniteCacheRef.class)
             .orElseThrow(() -> new IllegalStateException("Requires @IgniteCache"));
-        String instance = igniteCache.stringValue("client").orElse("default");
+        String instance = igniteCache.stringValue("instanceName").orElse("default");
         String name = igniteCache.stringValue("value").orElseThrow(() -> new IllegalStateException("Missing value for cache"));
         Ignite ignite = beanContext.getBean(Ignite.class, Qualifiers.byName(instance));
+        return getOrCreateCache(ignite, name);
+    }
+
+    /**
+     * Get or create a cache of the given node. On a client node, a cache with a {@code near-configuration} is
+     * returned with its near cache, so that the entries read often are served locally. The cache is created from its
+     * configuration if it doesn't exist yet, and the near cache is only started on the client node.
+     *
+     * @param ignite the node
+     * @param name   the name of the cache
+     * @param <K>    key
+     * @param <V>    value
+     * @return The cache
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> IgniteCache<K, V> getOrCreateCache(Ignite ignite, String name) {
+        Optional<DefaultCacheConfiguration> configuration = beanContext.findBean(DefaultCacheConfiguration.class, Qualifiers.byName(name));
+        if (configuration.isPresent() && ignite.cluster().localNode().isClient()) {
+            DefaultCacheConfiguration<K, V> cacheConfiguration = configuration.get();
+            Optional<NearCacheConfiguration<K, V>> near = cacheConfiguration.findNearConfiguration();
+            if (near.isPresent()) {
+                return ignite.getOrCreateCache(cacheConfiguration, near.get());
+            }
+        }
         return ignite.getOrCreateCache(name);
     }
+
+    /**
+     * Find the near cache a cache of the given node is read through. Only client nodes have one, when the cache has a
+     * {@code near-configuration}.
+     *
+     * @param ignite the node
+     * @param name   the name of the cache
+     * @param <K>    key
+     * @param <V>    value
+     * @return The near cache configuration
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Optional<NearCacheConfiguration<K, V>> findNearConfiguration(Ignite ignite, String name) {
+        Optional<DefaultCacheConfiguration> configuration = beanContext.findBean(DefaultCacheConfiguration.class, Qualifiers.byName(name));
+        if (configuration.isPresent() && ignite.cluster().localNode().isClient()) {
+            return configuration.get().findNearConfiguration();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Create {@link IgniteDataStreamer} from the given injection point.
+     *
+     * @param injectionPoint The injection point
+     * @param <K>            the key
+     * @param <V>            the value
+     * @return ignite data streamer
+     */
+    @Prototype
+    @Bean
+    protected <K, V> IgniteDataStreamer<K, V> igniteDataStreamer(InjectionPoint<?> injectionPoint) {
+        AnnotationMetadata metadata = injectionPoint.getAnnotationMetadata();
+        return resolveIgniteDataStreamer(metadata);
+    }
+
+    /**
+     * Resolve the {@link IgniteDataStreamer} of a cache from metadata. The streamer is created once per cache and
+     * instance, and is flushed and closed on shutdown, so it must not be closed by the caller.
+     *
+     * @param metadata annotation metadata
+     * @param <K>      key
+     * @param <V>      value
+     * @return The data streamer
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> IgniteDataStreamer<K, V> resolveIgniteDataStreamer(AnnotationMetadata metadata) {
+        AnnotationValue<IgniteDataStreamerRef> dataStreamer = metadata.findAnnotation(IgniteDataStreamerRef.class)
+            .orElseThrow(() -> new IllegalStateException("Requires @IgniteDataStreamerRef"));
+        String instance = dataStreamer.stringValue("instanceName").orElse("default");
+        String name = dataStreamer.stringValue("value").orElseThrow(() -> new IllegalStateException("Missing value for data streamer"));
+        return (IgniteDataStreamer<K, V>) dataStreamers.computeIfAbsent(instance + "." + name, key -> {
+            Ignite ignite = beanContext.getBean(Ignite.class, Qualifiers.byName(instance));
+            getOrCreateCache(ignite, name);
+            IgniteDataStreamer<K, V> streamer = ignite.dataStreamer(name);
+            beanContext.findBean(DefaultDataStreamerConfiguration.class, Qualifiers.byName(name))
+                .ifPresent(configuration -> configure(streamer, configuration));
+            return streamer;
+        });
+    }
+
+    /**
+     * Flush and close the data streamers before the Ignite instances are stopped.
+     *
+     * @param event the shutdown event
+     */
+    @Override
+    public void onApplicationEvent(ShutdownEvent event) {
+        dataStreamers.forEach((name, streamer) -> {
+            try {
+                streamer.close(false);
+            } catch (IgniteException | IllegalStateException ex) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error(String.format("Error closing data streamer [%s]: %s", name, ex.getMessage()), ex);
+                }
+            }
+        });
+        dataStreamers.clear();
+    }
+
+    private static void configure(IgniteDataStreamer<?, ?> streamer, DefaultDataStreamerConfiguration configuration) {
+        streamer.perNodeBufferSize(configuration.getPerNodeBufferSize());
+        streamer.perThreadBufferSize(configuration.getPerThreadBufferSize());
+        if (configuration.getPerNodeParallelOperations() != null) {
+            streamer.perNodeParallelOperations(configuration.getPerNodeParallelOperations());
+        }
+        if (configuration.getAutoFlushFrequency() != null) {
+            streamer.autoFlushFrequency(configuration.getAutoFlushFrequency().toMillis());
+        }
+        if (configuration.getTimeout() != null) {
+            streamer.timeout(configuration.getTimeout().toMillis());
+        }
+        streamer.allowOverwrite(configuration.isAllowOverwrite());
+        streamer.skipStore(configuration.isSkipStore());
+    }
 }
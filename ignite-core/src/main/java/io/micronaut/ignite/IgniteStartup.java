@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite;
+
+import io.micronaut.ignite.configuration.IgniteStartupConfiguration;
+import io.micronaut.scheduling.TaskExecutors;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.client.IgniteClient;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Starts the ignite nodes and thin clients, in parallel or in the background as configured under
+ * {@code ignite.startup}, and tracks when they are ready.
+ */
+@Singleton
+public class IgniteStartup {
+    private final IgniteStartupConfiguration configuration;
+    private final ExecutorService executorService;
+    private final Map<String, CompletableFuture<Ignite>> nodes = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<IgniteClient>> clients = new ConcurrentHashMap<>();
+    private final Set<Object> started = ConcurrentHashMap.newKeySet();
+    private final Map<CompletableFuture<?>, Thread> starting = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param configuration   the startup configuration
+     * @param executorService the executor the nodes and clients are started on
+     */
+    public IgniteStartup(IgniteStartupConfiguration configuration, @Named(TaskExecutors.IO) ExecutorService executorService) {
+        this.configuration = configuration;
+        this.executorService = executorService;
+    }
+
+    /**
+     * @return the startup configuration
+     */
+    public IgniteStartupConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * The future completed once the node with the given name is started.
+     *
+     * @param name the name of the node
+     * @return the started node
+     */
+    public CompletableFuture<Ignite> node(String name) {
+        return nodes.computeIfAbsent(name, key -> new CompletableFuture<>());
+    }
+
+    /**
+     * The future completed once the thin client with the given name is connected.
+     *
+     * @param name the name of the thin client
+     * @return the connected thin client
+     */
+    public CompletableFuture<IgniteClient> client(String name) {
+        return clients.computeIfAbsent(name, key -> new CompletableFuture<>());
+    }
+
+    /**
+     * The future completed once all nodes and thin clients whose start was requested are ready. It fails if one of
+     * them failed to start.
+     *
+     * @return the readiness
+     */
+    public CompletableFuture<Void> ready() {
+        List<CompletableFuture<?>> futures = new ArrayList<>(nodes.values());
+        futures.addAll(clients.values());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * @return the nodes by name, with the future completed once each is started
+     */
+    public Map<String, CompletableFuture<Ignite>> getNodes() {
+        return Collections.unmodifiableMap(nodes);
+    }
+
+    /**
+     * @return the thin clients by name, with the future completed once each is connected
+     */
+    public Map<String, CompletableFuture<IgniteClient>> getClients() {
+        return Collections.unmodifiableMap(clients);
+    }
+
+    /**
+     * Start a node once. It is started on the calling thread, unless nodes start in parallel or in the background.
+     *
+     * @param name    the name of the node
+     * @param starter starts the node
+     * @return the future of the node
+     */
+    CompletableFuture<Ignite> startNode(String name, Supplier<Ignite> starter) {
+        return start(node(name), starter);
+    }
+
+    /**
+     * Connect a thin client once. It is connected on the calling thread, unless clients start in parallel or in the
+     * background.
+     *
+     * @param name    the name of the thin client
+     * @param starter connects the thin client
+     * @return the future of the thin client
+     */
+    CompletableFuture<IgniteClient> startClient(String name, Supplier<IgniteClient> starter) {
+        return start(client(name), starter);
+    }
+
+    private <T> CompletableFuture<T> start(CompletableFuture<T> future, Supplier<T> starter) {
+        if (!started.add(future)) {
+            return future;
+        }
+        Runnable start = () -> {
+            starting.put(future, Thread.currentThread());
+            try {
+                future.complete(starter.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                starting.remove(future);
+                Thread.interrupted();
+            }
+        };
+        if (configuration.isParallel() || configuration.isBackground()) {
+            executorService.execute(start);
+        } else {
+            start.run();
+        }
+        return future;
+    }
+
+    /**
+     * Abort the start of a node or thin client that is started in parallel or in the background, by interrupting the
+     * thread starting it. A node that can't join the cluster would otherwise keep retrying.
+     *
+     * @param future the future of the node or thin client
+     */
+    void abort(CompletableFuture<?> future) {
+        Thread thread = starting.get(future);
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Wait for a node or thin client to be started.
+     *
+     * @param future the future of the node or thin client
+     * @param <T>    the type of the instance
+     * @return the started instance
+     */
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -15,13 +15,18 @@
  */
 package io.micronaut.ignite;
 
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Parameter;
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.ignite.annotation.IgnitePrimary;
 import io.micronaut.ignite.configuration.DefaultIgniteThinClientConfiguration;
+import io.micronaut.ignite.configuration.IgniteStartupConfiguration;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.Ignition;
 import org.apache.ignite.client.IgniteClient;
 import org.apache.ignite.configuration.ClientConfiguration;
@@ -30,8 +35,10 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Named;
 import javax.inject.Singleton;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Factory for the implementation of {@link IgniteClient}.
@@ -39,7 +46,22 @@ import java.util.List;
 @Factory
 public class IgniteThinClientFactory implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(IgniteThinClientFactory.class);
-    private List<IgniteClient> instances = new ArrayList<>(2);
+    private final BeanContext beanContext;
+    private final IgniteStartup startup;
+    private final AtomicBoolean startedAll = new AtomicBoolean();
+    private volatile boolean closed;
+    private final List<IgniteClient> instances = new CopyOnWriteArrayList<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param beanContext the bean context
+     * @param startup     starts the thin clients
+     */
+    public IgniteThinClientFactory(BeanContext beanContext, IgniteStartup startup) {
+        this.beanContext = beanContext;
+        this.startup = startup;
+    }
 
     /**
      * Ignite {@link ClientConfiguration}.
@@ -55,36 +77,66 @@ public class IgniteThinClientFactory implements AutoCloseable {
     }
 
     /**
+     * Create {@link IgniteClient} from {@link ClientConfiguration}. When thin clients start in parallel, the first
+     * client needed connects all configured clients. When they start in the background, the instance is a proxy that
+     * waits for the client to be connected when it is used.
      *
+     * @param name name of the bean
      * @param configuration client configuration
      * @return Ignite Thin client
      */
     @EachBean(ClientConfiguration.class)
     @Singleton
     @Bean(preDestroy = "close")
-    public IgniteClient igniteThinClient(ClientConfiguration configuration) {
-        try {
-            IgniteClient client = Ignition.startClient(configuration);
-            instances.add(client);
-            return client;
-        } catch (Exception e) {
-            LOG.error("Failed to instantiate Ignite Client: " + e.getMessage(), e);
-            throw e;
+    public IgniteClient igniteThinClient(@Parameter String name, ClientConfiguration configuration) {
+        IgniteStartupConfiguration startupConfiguration = startup.getConfiguration();
+        if (startupConfiguration.isParallel() && startedAll.compareAndSet(false, true)) {
+            for (BeanRegistration<ClientConfiguration> registration : beanContext.getBeanRegistrations(ClientConfiguration.class)) {
+                start(registration.getIdentifier().getName(), registration.getBean());
+            }
+        }
+        CompletableFuture<IgniteClient> client = start(name, configuration);
+        if (startupConfiguration.isBackground()) {
+            return IgniteLazyProxy.create(IgniteClient.class, name, client, () -> startup.abort(client));
         }
+        return IgniteStartup.await(client);
+    }
+
+    private CompletableFuture<IgniteClient> start(String name, ClientConfiguration configuration) {
+        return startup.startClient(name, () -> {
+            try {
+                IgniteClient client = Ignition.startClient(configuration);
+                instances.add(client);
+                if (closed) {
+                    close(client);
+                    throw new IgniteException("Ignite thin client [" + name + "] connected after the application was closed");
+                }
+                return client;
+            } catch (Exception e) {
+                LOG.error("Failed to instantiate Ignite Client: " + e.getMessage(), e);
+                throw e;
+            }
+        });
     }
 
     /**
-     * Stop all instances of Ignite.
+     * Stop all instances of Ignite, and abort the thin clients that are still connecting.
      */
     @Override
     public void close() {
+        closed = true;
+        startup.getClients().values().forEach(startup::abort);
         for (IgniteClient client : instances) {
-            try {
-                client.close();
-            } catch (Exception e) {
-                if (LOG.isWarnEnabled()) {
-                    LOG.warn(String.format("Error closing ignite node [%s]: %s", client, e.getMessage()), e);
-                }
+            close(client);
+        }
+    }
+
+    private static void close(IgniteClient client) {
+        try {
+            client.close();
+        } catch (Exception e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn(String.format("Error closing ignite node [%s]: %s", client, e.getMessage()), e);
             }
         }
     }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.annotation;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.ignite.intercept.IgniteAffinityRunInterceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a method on the ignite node that is primary for a key of a cache. The method is sent to that node with
+ * {@link org.apache.ignite.IgniteCompute#affinityCall(String, Object, org.apache.ignite.lang.IgniteCallable)} and
+ * called on the bean of the same type from the application context of that node. Arguments and the result have to be
+ * serializable by ignite.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Around
+@Executable
+@Type(IgniteAffinityRunInterceptor.class)
+public @interface IgniteAffinityRun {
+
+    /**
+     * The name of the cache the key belongs to.
+     * @return the cache name
+     */
+    String cache();
+
+    /**
+     * The name of the method argument that holds the affinity key. uses the first argument by default.
+     * @return the argument name
+     */
+    String key() default "";
+
+    /**
+     * ignite node by id. uses primary node by default.
+     * @return ignite node id
+     */
+    String igniteInstance() default "default";
+}
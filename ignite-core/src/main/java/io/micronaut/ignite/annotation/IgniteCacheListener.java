@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.annotation;
+
+import io.micronaut.context.annotation.Executable;
+
+import javax.cache.event.CacheEntryEventFilter;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Receives the changes of a cache with an ignite {@link org.apache.ignite.cache.query.ContinuousQuery}. The annotated
+ * method takes either a single {@link javax.cache.event.CacheEntryEvent} or a {@link java.util.List} of them, to receive
+ * the events in the batches they were sent by the server nodes. The query is configured from
+ * {@code ignite.continuous-queries.<cache name>}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+@Executable(processOnStartup = true)
+public @interface IgniteCacheListener {
+
+    /**
+     * Name of the cache to listen to.
+     *
+     * @return the cache name.
+     */
+    String value();
+
+    /**
+     * The filter the server nodes apply to the events before they are sent. The class is created on the server nodes,
+     * so it needs a public no-arg constructor and has to be on their classpath. all events are sent if not specified.
+     *
+     * @return the remote filter
+     */
+    @SuppressWarnings("rawtypes")
+    Class<? extends CacheEntryEventFilter> filter() default CacheEntryEventFilter.class;
+
+    /**
+     * The ignite instance to listen with. uses primary if not specified.
+     *
+     * @return the ignite instance name
+     */
+    String instanceName() default "default";
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the {@link org.apache.ignite.IgniteDataStreamer} of a cache. The streamer is shared by the injection points
+ * of the same cache, is configured from {@code ignite.data-streamers.<cache name>} and is flushed and closed when the
+ * context shuts down.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.CONSTRUCTOR, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE})
+public @interface IgniteDataStreamerRef {
+
+    /**
+     * Name of the cache to stream to.
+     *
+     * @return the cache name.
+     */
+    String value();
+
+    /**
+     * The ignite instance to stream with. uses primary if not specified.
+     *
+     * @return the ignite instance name
+     */
+    String instanceName() default "default";
+
+}
@@ -40,4 +40,134 @@ public @interface IgniteTransaction {
      * @return ignite client id
      */
     String igniteInstance() default "default";
+
+    /**
+     * How the method joins the transaction already active on the calling thread.
+     * @return the propagation
+     */
+    Propagation propagation() default Propagation.REQUIRED;
+
+    /**
+     * The concurrency of the transaction. uses the default concurrency of the ignite instance if not specified.
+     * @return the transaction concurrency
+     */
+    Concurrency concurrency() default Concurrency.DEFAULT;
+
+    /**
+     * The isolation of the transaction. uses the default isolation of the ignite instance if not specified.
+     * @return the transaction isolation
+     */
+    Isolation isolation() default Isolation.DEFAULT;
+
+    /**
+     * The timeout of the transaction, as a duration such as {@code 500ms}. uses the default timeout of the ignite
+     * instance if not specified.
+     * @return the transaction timeout
+     */
+    String timeout() default "";
+
+    /**
+     * The expected number of entries in the transaction.
+     * @return the transaction size
+     */
+    int txSize() default 0;
+
+    /**
+     * A label shown for the transaction in the ignite metrics and logs.
+     * @return the transaction label
+     */
+    String label() default "";
+
+    /**
+     * The number of times the method is retried when the transaction fails with an optimistic, deadlock or timeout
+     * error. Each retry runs in a new transaction.
+     * @return the maximum number of retries
+     */
+    int retries() default 0;
+
+    /**
+     * The delay before the first retry. The delay doubles with each retry, with some random jitter.
+     * @return the retry delay
+     */
+    String retryDelay() default "10ms";
+
+    /**
+     * The maximum delay between two retries.
+     * @return the maximum retry delay
+     */
+    String maxRetryDelay() default "1s";
+
+    /**
+     * The time the publisher returned by a reactive method has to be subscribed to. Its transaction is rolled back if
+     * it is not subscribed to in time.
+     * @return the subscribe timeout
+     */
+    String subscribeTimeout() default "30s";
+
+    /**
+     * The concurrency of a transaction, as in {@link org.apache.ignite.transactions.TransactionConcurrency}.
+     */
+    enum Concurrency {
+        /**
+         * The default concurrency of the ignite instance.
+         */
+        DEFAULT,
+        /**
+         * {@link org.apache.ignite.transactions.TransactionConcurrency#OPTIMISTIC}.
+         */
+        OPTIMISTIC,
+        /**
+         * {@link org.apache.ignite.transactions.TransactionConcurrency#PESSIMISTIC}.
+         */
+        PESSIMISTIC
+    }
+
+    /**
+     * The isolation of a transaction, as in {@link org.apache.ignite.transactions.TransactionIsolation}.
+     */
+    enum Isolation {
+        /**
+         * The default isolation of the ignite instance.
+         */
+        DEFAULT,
+        /**
+         * {@link org.apache.ignite.transactions.TransactionIsolation#READ_COMMITTED}.
+         */
+        READ_COMMITTED,
+        /**
+         * {@link org.apache.ignite.transactions.TransactionIsolation#REPEATABLE_READ}.
+         */
+        REPEATABLE_READ,
+        /**
+         * {@link org.apache.ignite.transactions.TransactionIsolation#SERIALIZABLE}.
+         */
+        SERIALIZABLE
+    }
+
+    /**
+     * How a transactional method behaves when a transaction is already active on the calling thread.
+     */
+    enum Propagation {
+        /**
+         * Join the active transaction, or start a new one if there is none.
+         */
+        REQUIRED,
+        /**
+         * Suspend the active transaction and start a new one. The suspended transaction is resumed once the method
+         * returns.
+         */
+        REQUIRES_NEW,
+        /**
+         * Join the active transaction, fail if there is none.
+         */
+        MANDATORY,
+        /**
+         * Join the active transaction, or run without a transaction if there is none.
+         */
+        SUPPORTS,
+        /**
+         * Run without a transaction, fail if one is active.
+         */
+        NEVER
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.binary;
+
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.binary.BinaryReader;
+import org.apache.ignite.binary.BinarySerializer;
+import org.apache.ignite.binary.BinaryWriter;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link BinarySerializer} that reads and writes the properties of a type through its {@link BeanIntrospection},
+ * without reflection. Every readable property is written as a field of the same name and every writable property is
+ * read back from it. Fields are written with the same binary types as the reflection based serializer, so values
+ * written by either one can be read by the other.
+ *
+ * @param <T> the serialized type
+ */
+public class IntrospectedBinarySerializer<T> implements BinarySerializer {
+    private final List<Field<T>> readable = new ArrayList<>();
+    private final List<Field<T>> writable = new ArrayList<>();
+
+    /**
+     * @param introspection the introspection of the serialized type
+     */
+    public IntrospectedBinarySerializer(BeanIntrospection<T> introspection) {
+        for (BeanProperty<T, Object> property : introspection.getBeanProperties()) {
+            Field<T> field = new Field<>(property);
+            if (!property.isWriteOnly()) {
+                readable.add(field);
+            }
+            if (!property.isReadOnly()) {
+                writable.add(field);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void writeBinary(Object obj, BinaryWriter writer) throws BinaryObjectException {
+        T bean = (T) obj;
+        for (int i = 0; i < readable.size(); i++) {
+            readable.get(i).write(bean, writer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void readBinary(Object obj, BinaryReader reader) throws BinaryObjectException {
+        T bean = (T) obj;
+        for (int i = 0; i < writable.size(); i++) {
+            writable.get(i).read(bean, reader);
+        }
+    }
+
+    /**
+     * The binary types of the fields.
+     */
+    private enum Kind {
+        BOOLEAN, BYTE, SHORT, CHAR, INT, LONG, FLOAT, DOUBLE, STRING, UUID, DATE, TIMESTAMP, DECIMAL, BYTE_ARRAY, ENUM, OBJECT;
+
+        static Kind of(Class<?> type) {
+            if (type == boolean.class || type == Boolean.class) {
+                return BOOLEAN;
+            } else if (type == byte.class || type == Byte.class) {
+                return BYTE;
+            } else if (type == short.class || type == Short.class) {
+                return SHORT;
+            } else if (type == char.class || type == Character.class) {
+                return CHAR;
+            } else if (type == int.class || type == Integer.class) {
+                return INT;
+            } else if (type == long.class || type == Long.class) {
+                return LONG;
+            } else if (type == float.class || type == Float.class) {
+                return FLOAT;
+            } else if (type == double.class || type == Double.class) {
+                return DOUBLE;
+            } else if (type == String.class) {
+                return STRING;
+            } else if (type == java.util.UUID.class) {
+                return UUID;
+            } else if (type == Date.class) {
+                return DATE;
+            } else if (type == Timestamp.class) {
+                return TIMESTAMP;
+            } else if (type == BigDecimal.class) {
+                return DECIMAL;
+            } else if (type == byte[].class) {
+                return BYTE_ARRAY;
+            } else if (type.isEnum()) {
+                return ENUM;
+            }
+            return OBJECT;
+        }
+
+        boolean isPrimitive() {
+            return ordinal() <= DOUBLE.ordinal();
+        }
+    }
+
+    /**
+     * A property written as a binary field.
+     *
+     * @param <T> the serialized type
+     */
+    private static final class Field<T> {
+        private final BeanProperty<T, Object> property;
+        private final String name;
+        private final Kind kind;
+        private final boolean nullable;
+
+        Field(BeanProperty<T, Object> property) {
+            this.property = property;
+            this.name = property.getName();
+            this.kind = Kind.of(property.getType());
+            this.nullable = !property.getType().isPrimitive();
+        }
+
+        void write(T bean, BinaryWriter writer) {
+            Object value = property.get(bean);
+            if (value == null && kind.isPrimitive()) {
+                // a missing field is read back as null
+                return;
+            }
+            switch (kind) {
+                case BOOLEAN:
+                    writer.writeBoolean(name, (Boolean) value);
+                    break;
+                case BYTE:
+                    writer.writeByte(name, (Byte) value);
+                    break;
+                case SHORT:
+                    writer.writeShort(name, (Short) value);
+                    break;
+                case CHAR:
+                    writer.writeChar(name, (Character) value);
+                    break;
+                case INT:
+                    writer.writeInt(name, (Integer) value);
+                    break;
+                case LONG:
+                    writer.writeLong(name, (Long) value);
+                    break;
+                case FLOAT:
+                    writer.writeFloat(name, (Float) value);
+                    break;
+                case DOUBLE:
+                    writer.writeDouble(name, (Double) value);
+                    break;
+                case STRING:
+                    writer.writeString(name, (String) value);
+                    break;
+                case UUID:
+                    writer.writeUuid(name, (UUID) value);
+                    break;
+                case DATE:
+                    writer.writeDate(name, (Date) value);
+                    break;
+                case TIMESTAMP:
+                    writer.writeTimestamp(name, (Timestamp) value);
+                    break;
+                case DECIMAL:
+                    writer.writeDecimal(name, (BigDecimal) value);
+                    break;
+                case BYTE_ARRAY:
+                    writer.writeByteArray(name, (byte[]) value);
+                    break;
+                case ENUM:
+                    writer.writeEnum(name, (Enum) value);
+                    break;
+                default:
+                    writer.writeObject(name, value);
+            }
+        }
+
+        void read(T bean, BinaryReader reader) {
+            Object value;
+            if (nullable && kind.isPrimitive()) {
+                value = reader.readObject(name);
+            } else {
+                switch (kind) {
+                    case BOOLEAN:
+                        value = reader.readBoolean(name);
+                        break;
+                    case BYTE:
+                        value = reader.readByte(name);
+                        break;
+                    case SHORT:
+                        value = reader.readShort(name);
+                        break;
+                    case CHAR:
+                        value = reader.readChar(name);
+                        break;
+                    case INT:
+                        value = reader.readInt(name);
+                        break;
+                    case LONG:
+                        value = reader.readLong(name);
+                        break;
+                    case FLOAT:
+                        value = reader.readFloat(name);
+                        break;
+                    case DOUBLE:
+                        value = reader.readDouble(name);
+                        break;
+                    case STRING:
+                        value = reader.readString(name);
+                        break;
+                    case UUID:
+                        value = reader.readUuid(name);
+                        break;
+                    case DATE:
+                        value = reader.readDate(name);
+                        break;
+                    case TIMESTAMP:
+                        value = reader.readTimestamp(name);
+                        break;
+                    case DECIMAL:
+                        value = reader.readDecimal(name);
+                        break;
+                    case BYTE_ARRAY:
+                        value = reader.readByteArray(name);
+                        break;
+                    case ENUM:
+                        value = reader.readEnum(name);
+                        break;
+                    default:
+                        value = reader.readObject(name);
+                }
+            }
+            property.set(bean, value);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.binary;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.ignite.annotation.IgniteBinaryType;
+import org.apache.ignite.binary.BinaryIdMapper;
+import org.apache.ignite.binary.BinaryNameMapper;
+import org.apache.ignite.binary.BinaryTypeConfiguration;
+import org.apache.ignite.configuration.BinaryConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Registers the types annotated with {@link IgniteBinaryType} in a {@link BinaryConfiguration}.
+ */
+public final class IntrospectedBinaryTypes {
+
+    private IntrospectedBinaryTypes() {
+    }
+
+    /**
+     * Add a type configuration with an {@link IntrospectedBinarySerializer} for every type annotated with
+     * {@link IgniteBinaryType}, keeping the type configurations already present, and set the mappers when given.
+     *
+     * @param configuration the binary configuration
+     * @param idMapper      the id mapper
+     * @param nameMapper    the name mapper
+     * @return the binary configuration
+     */
+    @NonNull
+    public static BinaryConfiguration configure(@NonNull BinaryConfiguration configuration, @Nullable BinaryIdMapper idMapper,
+                                                @Nullable BinaryNameMapper nameMapper) {
+        if (idMapper != null) {
+            configuration.setIdMapper(idMapper);
+        }
+        if (nameMapper != null) {
+            configuration.setNameMapper(nameMapper);
+        }
+        List<BinaryTypeConfiguration> typeConfigurations = new ArrayList<>();
+        if (configuration.getTypeConfigurations() != null) {
+            typeConfigurations.addAll(configuration.getTypeConfigurations());
+        }
+        Collection<BeanIntrospection<Object>> introspections = BeanIntrospector.SHARED.findIntrospections(IgniteBinaryType.class);
+        for (BeanIntrospection<Object> introspection : introspections) {
+            BinaryTypeConfiguration typeConfiguration = new BinaryTypeConfiguration(introspection.getBeanType().getName());
+            typeConfiguration.setSerializer(new IntrospectedBinarySerializer<>(introspection));
+            typeConfigurations.add(typeConfiguration);
+        }
+        configuration.setTypeConfigurations(typeConfigurations);
+        return configuration;
+    }
+}
@@ -15,35 +15,58 @@
  */
 package io.micronaut.ignite.configuration;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.convert.format.ReadableBytes;
 import io.micronaut.core.naming.Named;
-import io.micronaut.ignite.annotation.IgnitePrimary;
 import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * Ignite cache configuration.
  *
  * @param <K> the cache key
  * @param <V> the cache value
  */
-@IgnitePrimary
 @EachProperty(value = DefaultCacheConfiguration.PREFIX, excludes = {"cacheLoaderFactory", "cacheWriterFactory",
     "expiryPolicyFactory", "evictionPolicyFactory", "affinity", "cacheStoreFactory", "nearConfiguration", "evictionFilter", "nodeFilter",
     "interceptor", "pluginConfigurations", "topologyValidator", "cacheStoreSessionListenerFactories", "affinityMapper", "keyConfiguration"})
 public class DefaultCacheConfiguration<K, V> extends CacheConfiguration<K, V> implements Named {
     public static final String PREFIX = DefaultIgniteConfiguration.PREFIX + "." + "cache-configurations";
+    private static final long serialVersionUID = 1L;
+
     private final String name;
+    private final NearConfiguration near;
 
     /**
      * Construct a new instance.
      * @param name the name to use.
+     * @param near the near cache of the client nodes, if configured.
+     * @param expiry the expiry of the entries, if configured.
+     * @param eviction the on-heap eviction of the entries, if configured.
      */
-    public DefaultCacheConfiguration(@Parameter String name) {
+    public DefaultCacheConfiguration(@Parameter String name,
+                                     @Nullable NearConfiguration near,
+                                     @Nullable ExpiryConfiguration expiry,
+                                     @Nullable EvictionConfiguration eviction) {
         super();
         this.name = name;
+        this.near = near;
         super.setName(name);
+        if (expiry != null) {
+            setExpiryPolicyFactory(expiry.getPolicy().create(expiry.getDuration()));
+        }
+        if (eviction != null) {
+            setOnheapCacheEnabled(true);
+            setEvictionPolicyFactory(eviction.getPolicy().create(eviction.getMaxSize(), eviction.getMaxMemorySize(), eviction.getBatchSize()));
+        }
     }
 
     @NotNull
@@ -52,4 +75,248 @@ public class DefaultCacheConfiguration<K, V> extends CacheConfiguration<K, V> im
         return name;
     }
 
+    /**
+     * The near cache kept by the client nodes in front of this cache, when {@code near-configuration} is set. It is
+     * not part of the cache configuration, so server nodes don't keep a near cache.
+     *
+     * @return the near cache configuration
+     */
+    public Optional<NearCacheConfiguration<K, V>> findNearConfiguration() {
+        return Optional.ofNullable(near).map(NearConfiguration::toNearCacheConfiguration);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultCacheConfiguration) || !super.equals(o)) {
+            return false;
+        }
+        return name.equals(((DefaultCacheConfiguration<?, ?>) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), name);
+    }
+
+    /**
+     * Configuration of the near cache of a client node.
+     */
+    @ConfigurationProperties("near-configuration")
+    public static class NearConfiguration {
+        private int startSize = DFLT_NEAR_START_SIZE;
+        private EvictionPolicyType evictionPolicy = EvictionPolicyType.LRU;
+        private int maxSize = DFLT_CACHE_SIZE;
+        private long maxMemorySize;
+        private int batchSize = 1;
+
+        /**
+         * @return the initial capacity of the near cache
+         */
+        public int getStartSize() {
+            return startSize;
+        }
+
+        /**
+         * Sets the initial capacity of the near cache. Default value ({@value CacheConfiguration#DFLT_NEAR_START_SIZE}).
+         *
+         * @param startSize the start size
+         */
+        public void setStartSize(int startSize) {
+            this.startSize = startSize;
+        }
+
+        /**
+         * @return the policy evicting entries from the near cache
+         */
+        public EvictionPolicyType getEvictionPolicy() {
+            return evictionPolicy;
+        }
+
+        /**
+         * Sets the policy evicting entries from the near cache. Default value (LRU).
+         *
+         * @param evictionPolicy the eviction policy
+         */
+        public void setEvictionPolicy(EvictionPolicyType evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+        }
+
+        /**
+         * @return the maximum number of entries in the near cache
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of entries in the near cache, 0 for no limit. Default value
+         * ({@value CacheConfiguration#DFLT_CACHE_SIZE}).
+         *
+         * @param maxSize the maximum size
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * @return the maximum memory used by the entries of the near cache
+         */
+        public long getMaxMemorySize() {
+            return maxMemorySize;
+        }
+
+        /**
+         * Sets the maximum memory used by the entries of the near cache, such as {@code 64MB}. Default value (0, no
+         * limit).
+         *
+         * @param maxMemorySize the maximum memory size
+         */
+        public void setMaxMemorySize(@ReadableBytes long maxMemorySize) {
+            this.maxMemorySize = maxMemorySize;
+        }
+
+        /**
+         * @return the number of entries evicted at once
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Sets the number of entries evicted at once when the near cache is full. Default value (1).
+         *
+         * @param batchSize the batch size
+         */
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <K, V> NearCacheConfiguration<K, V> toNearCacheConfiguration() {
+            return new NearCacheConfiguration<K, V>()
+                .setNearStartSize(startSize)
+                .setNearEvictionPolicyFactory(evictionPolicy.create(maxSize, maxMemorySize, batchSize));
+        }
+    }
+
+    /**
+     * Configuration of the expiry of the cache entries.
+     */
+    @ConfigurationProperties("expiry")
+    public static class ExpiryConfiguration {
+        private ExpiryPolicyType policy = ExpiryPolicyType.MODIFIED;
+        private Duration duration;
+
+        /**
+         * @return the policy expiring the entries
+         */
+        public ExpiryPolicyType getPolicy() {
+            return policy;
+        }
+
+        /**
+         * Sets the policy expiring the entries. Default value (MODIFIED).
+         *
+         * @param policy the expiry policy
+         */
+        public void setPolicy(ExpiryPolicyType policy) {
+            this.policy = policy;
+        }
+
+        /**
+         * @return the time to live of the entries
+         */
+        public Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * Sets the time to live of the entries, such as {@code 10m}. Required unless the policy is ETERNAL.
+         *
+         * @param duration the duration
+         */
+        public void setDuration(Duration duration) {
+            this.duration = duration;
+        }
+    }
+
+    /**
+     * Configuration of the on-heap eviction of the cache entries. Setting it enables the on-heap cache.
+     */
+    @ConfigurationProperties("eviction")
+    public static class EvictionConfiguration {
+        private EvictionPolicyType policy = EvictionPolicyType.LRU;
+        private int maxSize = DFLT_CACHE_SIZE;
+        private long maxMemorySize;
+        private int batchSize = 1;
+
+        /**
+         * @return the policy evicting entries from the on-heap cache
+         */
+        public EvictionPolicyType getPolicy() {
+            return policy;
+        }
+
+        /**
+         * Sets the policy evicting entries from the on-heap cache. Default value (LRU).
+         *
+         * @param policy the eviction policy
+         */
+        public void setPolicy(EvictionPolicyType policy) {
+            this.policy = policy;
+        }
+
+        /**
+         * @return the maximum number of entries in the on-heap cache
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of entries in the on-heap cache, 0 for no limit. Default value
+         * ({@value CacheConfiguration#DFLT_CACHE_SIZE}).
+         *
+         * @param maxSize the maximum size
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * @return the maximum memory used by the entries of the on-heap cache
+         */
+        public long getMaxMemorySize() {
+            return maxMemorySize;
+        }
+
+        /**
+         * Sets the maximum memory used by the entries of the on-heap cache, such as {@code 64MB}. Default value (0, no
+         * limit).
+         *
+         * @param maxMemorySize the maximum memory size
+         */
+        public void setMaxMemorySize(@ReadableBytes long maxMemorySize) {
+            this.maxMemorySize = maxMemorySize;
+        }
+
+        /**
+         * @return the number of entries evicted at once
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Sets the number of entries evicted at once when the on-heap cache is full. Default value (1).
+         *
+         * @param batchSize the batch size
+         */
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
 }
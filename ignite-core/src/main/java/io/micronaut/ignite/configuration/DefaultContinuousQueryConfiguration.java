@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.naming.Named;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.TaskExecutors;
+import org.apache.ignite.cache.query.ContinuousQuery;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link ContinuousQuery} of the {@link io.micronaut.ignite.annotation.IgniteCacheListener}
+ * methods of a cache.
+ */
+@EachProperty(value = DefaultContinuousQueryConfiguration.PREFIX)
+@Requires(property = DefaultIgniteConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class DefaultContinuousQueryConfiguration implements Named {
+    public static final String PREFIX = DefaultIgniteConfiguration.PREFIX + "." + "continuous-queries";
+
+    private final String name;
+    private int bufferSize = ContinuousQuery.DFLT_PAGE_SIZE;
+    private Duration timeInterval;
+    private boolean includeExpired;
+    private String executor = TaskExecutors.IO;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the name of the cache.
+     */
+    public DefaultContinuousQueryConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of events a server node buffers before it sends them.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the number of events a server node buffers before it sends them in a batch. Default value ({@value ContinuousQuery#DFLT_PAGE_SIZE}).
+     *
+     * @param bufferSize the buffer size
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @return the time after which a server node sends the buffered events.
+     */
+    @Nullable
+    public Duration getTimeInterval() {
+        return timeInterval;
+    }
+
+    /**
+     * Sets the time after which a server node sends the buffered events, even if the buffer isn't full. Events are
+     * only sent when the buffer is full if not set.
+     *
+     * @param timeInterval the time interval
+     */
+    public void setTimeInterval(@Nullable Duration timeInterval) {
+        this.timeInterval = timeInterval;
+    }
+
+    /**
+     * @return whether expired events are sent.
+     */
+    public boolean isIncludeExpired() {
+        return includeExpired;
+    }
+
+    /**
+     * Sets whether events are sent when entries expire. Default value (false).
+     *
+     * @param includeExpired True if they are.
+     */
+    public void setIncludeExpired(boolean includeExpired) {
+        this.includeExpired = includeExpired;
+    }
+
+    /**
+     * @return the name of the executor the events are delivered on.
+     */
+    @NonNull
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the name of the executor the events are delivered on. Default value ({@value TaskExecutors#IO}).
+     *
+     * @param executor the executor name
+     */
+    public void setExecutor(@NonNull String executor) {
+        this.executor = executor;
+    }
+}
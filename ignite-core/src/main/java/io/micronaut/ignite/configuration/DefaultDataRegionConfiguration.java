@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.context.annotation.ConfigurationBuilder;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.naming.Named;
+import io.micronaut.core.util.StringUtils;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+
+/**
+ * Ignite data region configuration. The region named {@code default}
+ * replaces the default data region of the node.
+ */
+@EachProperty(value = DefaultDataRegionConfiguration.PREFIX)
+@Requires(property = DefaultIgniteConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class DefaultDataRegionConfiguration implements Named {
+    public static final String PREFIX = DefaultIgniteConfiguration.PREFIX_DATA_STORAGE + "." + "regions";
+
+    @ConfigurationBuilder(excludes = {"name", "maxSize", "initialSize", "checkpointPageBufferSize", "warmUpConfiguration"})
+    final DataRegionConfiguration dataRegionConfiguration = new DataRegionConfiguration();
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the name of the region.
+     */
+    public DefaultDataRegionConfiguration(@Parameter String name) {
+        dataRegionConfiguration.setName(name);
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return dataRegionConfiguration.getName();
+    }
+
+    /**
+     * @return the data region configuration
+     */
+    public DataRegionConfiguration getDataRegionConfiguration() {
+        return dataRegionConfiguration;
+    }
+
+    /**
+     * Sets the maximum size of the region, such as {@code 512MB}. Default value is 20% of the physical memory.
+     *
+     * @param maxSize the maximum size
+     */
+    public void setMaxSize(@ReadableBytes long maxSize) {
+        dataRegionConfiguration.setMaxSize(maxSize);
+    }
+
+    /**
+     * Sets the initial size of the region, such as {@code 256MB}. Default value is 256MB, or the maximum size if lower.
+     *
+     * @param initialSize the initial size
+     */
+    public void setInitialSize(@ReadableBytes long initialSize) {
+        dataRegionConfiguration.setInitialSize(initialSize);
+    }
+
+    /**
+     * Sets the size of the checkpoint page buffer of a persistent region, such as {@code 1GB}.
+     *
+     * @param checkpointPageBufferSize the buffer size
+     */
+    public void setCheckpointPageBufferSize(@ReadableBytes long checkpointPageBufferSize) {
+        dataRegionConfiguration.setCheckpointPageBufferSize(checkpointPageBufferSize);
+    }
+}
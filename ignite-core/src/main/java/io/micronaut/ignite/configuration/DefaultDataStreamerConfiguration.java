@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.naming.Named;
+import io.micronaut.core.util.StringUtils;
+import org.apache.ignite.IgniteDataStreamer;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link IgniteDataStreamer} of a cache.
+ */
+@EachProperty(value = DefaultDataStreamerConfiguration.PREFIX)
+@Requires(property = DefaultIgniteConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class DefaultDataStreamerConfiguration implements Named {
+    public static final String PREFIX = DefaultIgniteConfiguration.PREFIX + "." + "data-streamers";
+
+    private final String name;
+    private int perNodeBufferSize = IgniteDataStreamer.DFLT_PER_NODE_BUFFER_SIZE;
+    private int perThreadBufferSize = IgniteDataStreamer.DFLT_PER_THREAD_BUFFER_SIZE;
+    private Integer perNodeParallelOperations;
+    private Duration autoFlushFrequency;
+    private boolean allowOverwrite;
+    private boolean skipStore;
+    private Duration timeout;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the name of the cache.
+     */
+    public DefaultDataStreamerConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of entries buffered for each node before they are sent.
+     */
+    public int getPerNodeBufferSize() {
+        return perNodeBufferSize;
+    }
+
+    /**
+     * Sets the number of entries buffered for each node before they are sent. Default value ({@value IgniteDataStreamer#DFLT_PER_NODE_BUFFER_SIZE}).
+     *
+     * @param perNodeBufferSize the buffer size
+     */
+    public void setPerNodeBufferSize(int perNodeBufferSize) {
+        this.perNodeBufferSize = perNodeBufferSize;
+    }
+
+    /**
+     * @return the number of entries buffered by each thread before they are added to the node buffers.
+     */
+    public int getPerThreadBufferSize() {
+        return perThreadBufferSize;
+    }
+
+    /**
+     * Sets the number of entries buffered by each thread before they are added to the node buffers. Default value ({@value IgniteDataStreamer#DFLT_PER_THREAD_BUFFER_SIZE}).
+     *
+     * @param perThreadBufferSize the buffer size
+     */
+    public void setPerThreadBufferSize(int perThreadBufferSize) {
+        this.perThreadBufferSize = perThreadBufferSize;
+    }
+
+    /**
+     * @return the maximum number of batches sent in parallel to each node.
+     */
+    @Nullable
+    public Integer getPerNodeParallelOperations() {
+        return perNodeParallelOperations;
+    }
+
+    /**
+     * Sets the maximum number of batches sent in parallel to each node. Defaults to a multiple of the data streamer
+     * thread pool size of the node.
+     *
+     * @param perNodeParallelOperations the number of operations
+     */
+    public void setPerNodeParallelOperations(@Nullable Integer perNodeParallelOperations) {
+        this.perNodeParallelOperations = perNodeParallelOperations;
+    }
+
+    /**
+     * @return how often the buffered entries are flushed.
+     */
+    @Nullable
+    public Duration getAutoFlushFrequency() {
+        return autoFlushFrequency;
+    }
+
+    /**
+     * Sets how often the buffered entries are flushed. Entries are only flushed when the buffers are full if not set.
+     *
+     * @param autoFlushFrequency the flush frequency
+     */
+    public void setAutoFlushFrequency(@Nullable Duration autoFlushFrequency) {
+        this.autoFlushFrequency = autoFlushFrequency;
+    }
+
+    /**
+     * @return whether existing entries are overwritten.
+     */
+    public boolean isAllowOverwrite() {
+        return allowOverwrite;
+    }
+
+    /**
+     * Sets whether existing entries are overwritten. Default value (false).
+     *
+     * @param allowOverwrite True if they are.
+     */
+    public void setAllowOverwrite(boolean allowOverwrite) {
+        this.allowOverwrite = allowOverwrite;
+    }
+
+    /**
+     * @return whether the cache store is skipped.
+     */
+    public boolean isSkipStore() {
+        return skipStore;
+    }
+
+    /**
+     * Sets whether the cache store is skipped. Default value (false).
+     *
+     * @param skipStore True if it is.
+     */
+    public void setSkipStore(boolean skipStore) {
+        this.skipStore = skipStore;
+    }
+
+    /**
+     * @return the timeout of the flush and add operations.
+     */
+    @Nullable
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the timeout of the flush and add operations. Operations wait without limit if not set.
+     *
+     * @param timeout the timeout
+     */
+    public void setTimeout(@Nullable Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -19,20 +19,32 @@ import io.micronaut.context.annotation.ConfigurationBuilder;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.Toggleable;
 import io.micronaut.ignite.annotation.IgnitePrimary;
+import io.micronaut.ignite.binary.IntrospectedBinaryTypes;
+import org.apache.ignite.binary.BinaryIdMapper;
+import org.apache.ignite.binary.BinaryNameMapper;
 import org.apache.ignite.configuration.AtomicConfiguration;
+import org.apache.ignite.configuration.BinaryConfiguration;
 import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.ipfinder.TcpDiscoveryIpFinder;
+import org.apache.ignite.spi.failover.always.AlwaysFailoverSpi;
+import org.apache.ignite.spi.loadbalancing.LoadBalancingSpi;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Ignite cache configuration.
@@ -53,6 +65,8 @@ import java.util.Optional;
 public class DefaultIgniteConfiguration extends IgniteConfiguration implements Toggleable {
     public static final String PREFIX = "ignite";
     public static final String PREFIX_DISCOVERY = "ignite.discovery-spi";
+    public static final String PREFIX_LOAD_BALANCING = "ignite.load-balancing-spi";
+    public static final String PREFIX_DATA_STORAGE = "ignite.data-storage";
 
     @ConfigurationBuilder(value = "communication-spi", excludes = {"addressResolver", "listener"})
     final TcpCommunicationSpi communicationSpi = new TcpCommunicationSpi();
@@ -61,24 +75,69 @@ public class DefaultIgniteConfiguration extends IgniteConfiguration implements T
         "listener", "metricsProvider", "internalListener", "ipFinder", "addressResolver"})
     final TcpDiscoverySpi discoverySpi = new TcpDiscoverySpi();
 
+    @ConfigurationBuilder(value = "failover-spi", excludes = {"name"})
+    final AlwaysFailoverSpi failoverSpi = new AlwaysFailoverSpi();
+
     @ConfigurationBuilder(value = "atomic-configuration")
     final AtomicConfiguration atomicConfiguration = new AtomicConfiguration();
 
+    @ConfigurationBuilder(value = "binary-configuration", excludes = {"idMapper", "nameMapper", "serializer",
+        "typeConfigurations", "classNames"})
+    final BinaryConfiguration binaryConfiguration = new BinaryConfiguration();
+
+    @ConfigurationBuilder(value = "data-storage", excludes = {"dataRegionConfigurations", "defaultDataRegionConfiguration",
+        "fileIOFactory", "defaultWarmUpConfiguration", "encryptionConfiguration"})
+    final DataStorageConfiguration dataStorageConfiguration = new DataStorageConfiguration();
+
     private boolean enabled;
 
     /**
      * Default Ignite configuration.
      *
      * @param ipFinder            ip finder
-     * @param cacheConfigurations list of cacheConfigurations
+     * @param cacheConfigurations list of configured cacheConfigurations
+     * @param primaryCaches       list of cacheConfigurations provided by factories
+     * @param dataRegions         list of data regions
+     * @param loadBalancingSpis   load balancing spi, at most one
+     * @param idMapper            binary id mapper
+     * @param nameMapper          binary name mapper
      */
     @Inject
     DefaultIgniteConfiguration(@IgnitePrimary Optional<TcpDiscoveryIpFinder> ipFinder,
-                               @IgnitePrimary Collection<CacheConfiguration> cacheConfigurations) {
+                               Collection<DefaultCacheConfiguration> cacheConfigurations,
+                               @IgnitePrimary Collection<CacheConfiguration> primaryCaches,
+                               Collection<DefaultDataRegionConfiguration> dataRegions,
+                               @IgnitePrimary Collection<LoadBalancingSpi> loadBalancingSpis,
+                               Optional<BinaryIdMapper> idMapper,
+                               Optional<BinaryNameMapper> nameMapper) {
         super.setCommunicationSpi(communicationSpi);
         super.setAtomicConfiguration(atomicConfiguration);
+        super.setFailoverSpi(failoverSpi);
+        if (loadBalancingSpis.size() > 1) {
+            throw new ConfigurationException("Only one load balancing SPI can be enabled under " + PREFIX_LOAD_BALANCING + ", found: " +
+                loadBalancingSpis.stream().map(spi -> spi.getClass().getSimpleName()).collect(Collectors.joining(", ")));
+        }
+        if (!loadBalancingSpis.isEmpty()) {
+            super.setLoadBalancingSpi(loadBalancingSpis.iterator().next());
+        }
+        super.setBinaryConfiguration(IntrospectedBinaryTypes.configure(binaryConfiguration, idMapper.orElse(null), nameMapper.orElse(null)));
         ipFinder.ifPresent(discoverySpi::setIpFinder);
-        super.setCacheConfiguration(cacheConfigurations.toArray(new CacheConfiguration[0]));
+        List<CacheConfiguration> caches = new ArrayList<>(cacheConfigurations);
+        caches.addAll(primaryCaches);
+        super.setCacheConfiguration(caches.toArray(new CacheConfiguration[0]));
+        List<DataRegionConfiguration> regions = new ArrayList<>();
+        for (DefaultDataRegionConfiguration dataRegion : dataRegions) {
+            DataRegionConfiguration region = dataRegion.getDataRegionConfiguration();
+            if (DataStorageConfiguration.DFLT_DATA_REG_DEFAULT_NAME.equals(region.getName())) {
+                dataStorageConfiguration.setDefaultDataRegionConfiguration(region);
+            } else {
+                regions.add(region);
+            }
+        }
+        if (!regions.isEmpty()) {
+            dataStorageConfiguration.setDataRegionConfigurations(regions.toArray(new DataRegionConfiguration[0]));
+        }
+        super.setDataStorageConfiguration(dataStorageConfiguration);
         super.setDiscoverySpi(discoverySpi);
     }
 
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.naming.Named;
+import io.micronaut.core.util.StringUtils;
+import org.apache.ignite.IgniteCluster;
+import org.apache.ignite.cluster.ClusterGroup;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configuration of a distributed {@link java.util.concurrent.ExecutorService} that runs its tasks on the nodes of a
+ * {@link ClusterGroup}.
+ */
+@EachProperty(value = DefaultIgniteExecutorConfiguration.PREFIX)
+@Requires(property = DefaultIgniteConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class DefaultIgniteExecutorConfiguration implements Named {
+    public static final String PREFIX = DefaultIgniteConfiguration.PREFIX + "." + "executors";
+
+    private final String name;
+    private Nodes nodes = Nodes.SERVERS;
+    private String cacheName;
+    private Map<String, String> attributes = Collections.emptyMap();
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the name of the executor.
+     */
+    public DefaultIgniteExecutorConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the nodes the tasks run on.
+     */
+    @NonNull
+    public Nodes getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Sets the nodes the tasks run on. Default value (SERVERS).
+     *
+     * @param nodes the nodes
+     */
+    public void setNodes(@NonNull Nodes nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * @return the cache whose data nodes run the tasks.
+     */
+    @Nullable
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * Sets the name of a cache, so that only the nodes that store data of the cache run the tasks.
+     *
+     * @param cacheName the cache name
+     */
+    public void setCacheName(@Nullable String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * @return the user attributes a node needs to run the tasks.
+     */
+    @NonNull
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Sets the user attributes a node needs to run the tasks, see
+     * {@link org.apache.ignite.configuration.IgniteConfiguration#setUserAttributes(Map)}.
+     *
+     * @param attributes the attributes
+     */
+    public void setAttributes(@Nullable Map<String, String> attributes) {
+        this.attributes = attributes == null ? Collections.emptyMap() : attributes;
+    }
+
+    /**
+     * Narrows the nodes of the cluster to the nodes that run the tasks of this executor.
+     *
+     * @param cluster the cluster
+     * @return the nodes running the tasks
+     */
+    @NonNull
+    public ClusterGroup clusterGroup(@NonNull IgniteCluster cluster) {
+        ClusterGroup group = nodes.select(cluster);
+        if (cacheName != null) {
+            group = group.forDataNodes(cacheName);
+        }
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            group = group.forAttribute(attribute.getKey(), attribute.getValue());
+        }
+        return group;
+    }
+
+    /**
+     * The nodes of the cluster that run the tasks.
+     */
+    public enum Nodes {
+        /**
+         * All nodes, including the local node and clients.
+         */
+        ALL,
+        /**
+         * The server nodes.
+         */
+        SERVERS,
+        /**
+         * The client nodes.
+         */
+        CLIENTS,
+        /**
+         * All nodes except the local node.
+         */
+        REMOTES,
+        /**
+         * The server nodes except the local node.
+         */
+        REMOTE_SERVERS;
+
+        private ClusterGroup select(IgniteCluster cluster) {
+            switch (this) {
+                case ALL:
+                    return cluster;
+                case CLIENTS:
+                    return cluster.forClients();
+                case REMOTES:
+                    return cluster.forRemotes();
+                case REMOTE_SERVERS:
+                    return cluster.forRemotes().forServers();
+                case SERVERS:
+                default:
+                    return cluster.forServers();
+            }
+        }
+    }
+}
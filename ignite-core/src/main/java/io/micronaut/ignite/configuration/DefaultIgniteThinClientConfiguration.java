@@ -21,9 +21,15 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.util.Toggleable;
 import io.micronaut.ignite.annotation.IgnitePrimary;
+import org.apache.ignite.binary.BinaryIdMapper;
+import org.apache.ignite.binary.BinaryNameMapper;
+import org.apache.ignite.configuration.BinaryConfiguration;
 import org.apache.ignite.configuration.ClientConfiguration;
 import org.apache.ignite.configuration.ClientTransactionConfiguration;
 
+import javax.inject.Inject;
+import java.util.Optional;
+
 /**
  * The thin client configuration.
  */
@@ -41,10 +47,30 @@ public class DefaultIgniteThinClientConfiguration implements Toggleable {
     @ConfigurationBuilder(value = "transactionConfiguration")
     private final ClientTransactionConfiguration transaction = configuration.getTransactionConfiguration();
 
+    @ConfigurationBuilder(value = "binary-configuration", excludes = {"idMapper", "nameMapper", "serializer",
+        "typeConfigurations", "classNames"})
+    private final BinaryConfiguration binaryConfiguration = new BinaryConfiguration();
+
     /**
      * The default Ignite Thin configuration.
      */
     public DefaultIgniteThinClientConfiguration() {
+        this(Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * The default Ignite Thin configuration. The types annotated with
+     * {@link io.micronaut.ignite.annotation.IgniteBinaryType} are not registered, because the thin client of Ignite
+     * 2.11 cannot register types with a serializer before it is connected.
+     *
+     * @param idMapper   binary id mapper
+     * @param nameMapper binary name mapper
+     */
+    @Inject
+    public DefaultIgniteThinClientConfiguration(Optional<BinaryIdMapper> idMapper, Optional<BinaryNameMapper> nameMapper) {
+        idMapper.ifPresent(binaryConfiguration::setIdMapper);
+        nameMapper.ifPresent(binaryConfiguration::setNameMapper);
+        configuration.setBinaryConfiguration(binaryConfiguration);
     }
 
     /**
@@ -65,6 +91,15 @@ public class DefaultIgniteThinClientConfiguration implements Toggleable {
         return transaction;
     }
 
+    /**
+     * The binary configuration of the thin client.
+     *
+     * @return The BinaryConfiguration
+     */
+    public final BinaryConfiguration getBinaryConfiguration() {
+        return binaryConfiguration;
+    }
+
     /**
      * The Ignite ClientConfiguration.
      *
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.naming.Named;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the client side near cache kept in front of a thin client cache.
+ */
+@EachProperty(value = DefaultThinClientNearCacheConfiguration.PREFIX)
+@Requires(property = DefaultIgniteThinClientConfiguration.PREFIX + "." + "enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class DefaultThinClientNearCacheConfiguration implements Named, Toggleable {
+    public static final String PREFIX = DefaultIgniteThinClientConfiguration.PREFIX + "." + "near-caches";
+    public static final long DEFAULT_MAX_SIZE = 10_000;
+
+    private final String name;
+    private boolean enabled = true;
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private Duration expireAfterWrite;
+    private Duration expireAfterAccess;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the name of the cache.
+     */
+    public DefaultThinClientNearCacheConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the near cache is enabled. Default value (true).
+     *
+     * @param enabled True if it is.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the maximum number of entries held by the near cache.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of entries held by the near cache. Default value ({@value #DEFAULT_MAX_SIZE}).
+     *
+     * @param maxSize the maximum size
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return how long an entry is kept after it was loaded.
+     */
+    @Nullable
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * Sets how long an entry is kept after it was loaded from the cluster.
+     *
+     * @param expireAfterWrite the expiry duration
+     */
+    public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * @return how long an entry is kept after it was last read.
+     */
+    @Nullable
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    /**
+     * Sets how long an entry is kept after it was last read.
+     *
+     * @param expireAfterAccess the expiry duration
+     */
+    public void setExpireAfterAccess(@Nullable Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+}
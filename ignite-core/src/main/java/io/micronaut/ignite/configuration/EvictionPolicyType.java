@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import org.apache.ignite.cache.eviction.AbstractEvictionPolicyFactory;
+import org.apache.ignite.cache.eviction.fifo.FifoEvictionPolicyFactory;
+import org.apache.ignite.cache.eviction.lru.LruEvictionPolicyFactory;
+import org.apache.ignite.cache.eviction.sorted.SortedEvictionPolicyFactory;
+
+/**
+ * The on-heap eviction policies that can be configured.
+ */
+public enum EvictionPolicyType {
+    /**
+     * Evict the least recently used entries.
+     */
+    LRU,
+    /**
+     * Evict the entries in the order they were added.
+     */
+    FIFO,
+    /**
+     * Evict the entries with the lowest keys first. The keys must be {@link Comparable}.
+     */
+    SORTED;
+
+    /**
+     * Create the factory of the eviction policy.
+     *
+     * @param maxSize       the maximum number of entries, 0 for no limit
+     * @param maxMemorySize the maximum memory used by the entries, 0 for no limit
+     * @param batchSize     the number of entries evicted at once
+     * @param <K>           the cache key
+     * @param <V>           the cache value
+     * @return the eviction policy factory
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> AbstractEvictionPolicyFactory create(int maxSize, long maxMemorySize, int batchSize) {
+        AbstractEvictionPolicyFactory factory;
+        switch (this) {
+            case FIFO:
+                factory = new FifoEvictionPolicyFactory<K, V>();
+                break;
+            case SORTED:
+                factory = new SortedEvictionPolicyFactory<K, V>();
+                break;
+            default:
+                factory = new LruEvictionPolicyFactory<K, V>();
+        }
+        factory.setMaxSize(maxSize);
+        factory.setMaxMemorySize(maxMemorySize);
+        factory.setBatchSize(batchSize);
+        return factory;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.context.exceptions.ConfigurationException;
+
+import javax.cache.configuration.Factory;
+import javax.cache.expiry.AccessedExpiryPolicy;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.EternalExpiryPolicy;
+import javax.cache.expiry.ExpiryPolicy;
+import javax.cache.expiry.ModifiedExpiryPolicy;
+import javax.cache.expiry.TouchedExpiryPolicy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The expiry policies that can be configured.
+ */
+public enum ExpiryPolicyType {
+    /**
+     * Expire the entries once the duration has passed since they were created.
+     */
+    CREATED,
+    /**
+     * Expire the entries once the duration has passed since they were created or last read.
+     */
+    ACCESSED,
+    /**
+     * Expire the entries once the duration has passed since they were created or last updated.
+     */
+    MODIFIED,
+    /**
+     * Expire the entries once the duration has passed since they were created, last read or last updated.
+     */
+    TOUCHED,
+    /**
+     * Never expire the entries.
+     */
+    ETERNAL;
+
+    /**
+     * Create the factory of the expiry policy.
+     *
+     * @param duration the time to live of the entries, ignored by {@link #ETERNAL}
+     * @return the expiry policy factory
+     * @throws ConfigurationException if no duration is given to a policy other than {@link #ETERNAL}
+     */
+    public Factory<? extends ExpiryPolicy> create(@Nullable Duration duration) {
+        if (this == ETERNAL) {
+            return EternalExpiryPolicy.factoryOf();
+        }
+        if (duration == null) {
+            throw new ConfigurationException("The " + name().toLowerCase() + " expiry policy requires a duration");
+        }
+        javax.cache.expiry.Duration ttl = new javax.cache.expiry.Duration(TimeUnit.MILLISECONDS, duration.toMillis());
+        switch (this) {
+            case CREATED:
+                return CreatedExpiryPolicy.factoryOf(ttl);
+            case ACCESSED:
+                return AccessedExpiryPolicy.factoryOf(ttl);
+            case TOUCHED:
+                return TouchedExpiryPolicy.factoryOf(ttl);
+            default:
+                return ModifiedExpiryPolicy.factoryOf(ttl);
+        }
+    }
+}
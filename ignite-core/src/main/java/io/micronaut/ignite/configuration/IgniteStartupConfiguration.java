@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * Configuration of how the ignite nodes and thin clients are started.
+ */
+@ConfigurationProperties(IgniteStartupConfiguration.PREFIX)
+public class IgniteStartupConfiguration {
+    public static final String PREFIX = DefaultIgniteConfiguration.PREFIX + "." + "startup";
+
+    private boolean parallel;
+    private boolean background;
+
+    /**
+     * @return whether the nodes and thin clients are started in parallel
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether all nodes and thin clients are started in parallel once the first of them is needed, instead of
+     * one after the other as they are needed. Default value (false).
+     *
+     * @param parallel True if they are.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * @return whether the nodes and thin clients are started in the background
+     */
+    public boolean isBackground() {
+        return background;
+    }
+
+    /**
+     * Sets whether the nodes and thin clients are started in the background. Their beans are then proxies that wait
+     * for the start when they are first used, so the application can start before the nodes joined the cluster.
+     * Default value (false).
+     *
+     * @param background True if they are.
+     */
+    public void setBackground(boolean background) {
+        this.background = background;
+    }
+}
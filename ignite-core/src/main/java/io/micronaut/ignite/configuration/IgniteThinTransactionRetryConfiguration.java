@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.configuration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration of which failures of a thin client transaction cause an {@link io.micronaut.ignite.annotation.IgniteTransaction}
+ * method with retries to be retried.
+ */
+@ConfigurationProperties(IgniteThinTransactionRetryConfiguration.PREFIX)
+public class IgniteThinTransactionRetryConfiguration {
+    public static final String PREFIX = DefaultIgniteThinClientConfiguration.PREFIX + "." + "transaction-retry";
+
+    /**
+     * The messages of the server errors of optimistic conflicts, deadlocks and lock timeouts.
+     */
+    public static final List<String> DEFAULT_ERRORS = Collections.unmodifiableList(Arrays.asList(
+        "Failed to prepare transaction", "Deadlock detected", "Failed to acquire lock within provided timeout"));
+
+    private List<String> errors = DEFAULT_ERRORS;
+
+    /**
+     * @return the messages of the retried server errors
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Sets the messages of the server errors that are retried. The thin client reports the errors of the server as a
+     * {@link org.apache.ignite.client.ClientException} with the message of the server exception, so a failure is
+     * retried when its message contains one of them. Default value (the messages of optimistic conflicts, deadlocks
+     * and lock timeouts).
+     *
+     * @param errors the messages of the retried server errors
+     */
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
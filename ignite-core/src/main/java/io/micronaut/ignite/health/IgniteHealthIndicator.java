@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.health;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.ignite.IgniteStartup;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import org.reactivestreams.Publisher;
+
+import javax.inject.Singleton;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reports the ignite nodes and thin clients as down until they are started, so the application is only considered
+ * healthy once they are ready.
+ */
+@Singleton
+@Requires(classes = HealthIndicator.class)
+@Requires(property = IgniteHealthIndicator.ENABLED, notEquals = "false")
+public class IgniteHealthIndicator implements HealthIndicator {
+    public static final String NAME = "ignite";
+    public static final String ENABLED = "endpoints.health.ignite.enabled";
+
+    private final IgniteStartup startup;
+
+    /**
+     * Default constructor.
+     *
+     * @param startup starts the nodes and thin clients
+     */
+    public IgniteHealthIndicator(IgniteStartup startup) {
+        this.startup = startup;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        Map<String, String> details = new LinkedHashMap<>();
+        HealthStatus status = HealthStatus.UP;
+        for (Map.Entry<String, ? extends CompletableFuture<?>> node : startup.getNodes().entrySet()) {
+            status = worst(status, node.getValue());
+            details.put("node." + node.getKey(), state(node.getValue()));
+        }
+        for (Map.Entry<String, ? extends CompletableFuture<?>> client : startup.getClients().entrySet()) {
+            status = worst(status, client.getValue());
+            details.put("client." + client.getKey(), state(client.getValue()));
+        }
+        return Publishers.just(HealthResult.builder(NAME, status).details(details).build());
+    }
+
+    private static HealthStatus worst(HealthStatus status, CompletableFuture<?> instance) {
+        return instance.isDone() && !instance.isCompletedExceptionally() ? status : HealthStatus.DOWN;
+    }
+
+    private static String state(CompletableFuture<?> instance) {
+        if (!instance.isDone()) {
+            return "starting";
+        }
+        return instance.isCompletedExceptionally() ? "failed" : "started";
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.intercept;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.ignite.IgniteBeanContextLifecycleBean;
+import io.micronaut.inject.MethodExecutionHandle;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.compute.ComputeJobContext;
+import org.apache.ignite.lang.IgniteCallable;
+import org.apache.ignite.resources.IgniteInstanceResource;
+import org.apache.ignite.resources.JobContextResource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The call of a method annotated with {@link io.micronaut.ignite.annotation.IgniteAffinityRun}, sent to the node that
+ * is primary for the affinity key. The method is called on the bean from the application context of that node. When
+ * the method returns a {@link CompletionStage} that has not completed yet, the job is held instead of blocking a
+ * thread of the public pool, and continues once the stage completes.
+ */
+final class IgniteAffinityCall implements IgniteCallable<Object> {
+    private static final long serialVersionUID = 1L;
+    private static final ThreadLocal<Boolean> DISPATCHED = new ThreadLocal<>();
+
+    private final Class<?> beanType;
+    private final String methodName;
+    private final Class<?>[] argumentTypes;
+    private final Object[] arguments;
+
+    @IgniteInstanceResource
+    private transient Ignite ignite;
+
+    @JobContextResource
+    private transient ComputeJobContext jobContext;
+
+    private transient volatile CompletableFuture<?> pending;
+
+    /**
+     * @param beanType the type of the bean
+     * @param methodName the name of the method
+     * @param argumentTypes the argument types of the method
+     * @param arguments the arguments
+     */
+    IgniteAffinityCall(Class<?> beanType, String methodName, Class<?>[] argumentTypes, Object[] arguments) {
+        this.beanType = beanType;
+        this.methodName = methodName;
+        this.argumentTypes = argumentTypes;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Whether the current call of an intercepted method was dispatched by an affinity call. Clears the flag, so
+     * calls made by the method itself are routed again.
+     *
+     * @return true if the method should run locally
+     */
+    static boolean consumeDispatched() {
+        if (DISPATCHED.get() == null) {
+            return false;
+        }
+        DISPATCHED.remove();
+        return true;
+    }
+
+    @Override
+    public Object call() throws Exception {
+        CompletableFuture<?> future = pending;
+        if (future != null) {
+            // continued by the completion of the stage
+            return result(future);
+        }
+        BeanContext beanContext = IgniteBeanContextLifecycleBean.find(ignite).orElseThrow(() -> new IllegalStateException("Ignite node [" +
+            ignite.name() + "] was not started by a Micronaut application, can't call " + beanType.getName() + "#" + methodName));
+        Object bean = beanContext.getBean(beanType);
+        MethodExecutionHandle<Object, Object> handle = beanContext.findExecutionHandle(bean, methodName, argumentTypes)
+            .orElseThrow(() -> new IllegalStateException("No executable method " + beanType.getName() + "#" + methodName));
+        DISPATCHED.set(Boolean.TRUE);
+        Object result;
+        try {
+            result = handle.invoke(arguments);
+        } finally {
+            DISPATCHED.remove();
+        }
+        if (result instanceof CompletionStage) {
+            future = ((CompletionStage<?>) result).toCompletableFuture();
+            if (future.isDone()) {
+                return result(future);
+            }
+            pending = future;
+            jobContext.holdcc();
+            future.whenComplete((value, throwable) -> jobContext.callcc());
+            return null;
+        }
+        return result;
+    }
+
+    private static Object result(CompletableFuture<?> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.intercept;
+
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.ignite.annotation.IgniteAffinityRun;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteException;
+
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interceptor implementation for the {@link IgniteAffinityRun} annotation.
+ */
+@Singleton
+public class IgniteAffinityRunInterceptor implements MethodInterceptor<Object, Object> {
+    private final BeanContext beanContext;
+    private final Map<ExecutableMethod<?, ?>, AffinityDefinition> definitions = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param beanContext the bean context
+     */
+    public IgniteAffinityRunInterceptor(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (IgniteAffinityCall.consumeDispatched()) {
+            return context.proceed();
+        }
+        Optional<AnnotationValue<IgniteAffinityRun>> opt = context.findAnnotation(IgniteAffinityRun.class);
+        if (!opt.isPresent()) {
+            return context.proceed();
+        }
+        AffinityDefinition definition = definitions.computeIfAbsent(context.getExecutableMethod(),
+            method -> resolveDefinition(context, opt.get()));
+
+        Object[] arguments = context.getParameterValues();
+        Object key = arguments[definition.keyIndex];
+        Ignite ignite = definition.ignite;
+        if (ignite.affinity(definition.cache).isPrimary(ignite.cluster().localNode(), key)) {
+            return context.proceed();
+        }
+        ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        IgniteAffinityCall call = new IgniteAffinityCall(context.getDeclaringType(), method.getMethodName(),
+            method.getArgumentTypes(), arguments);
+        if (definition.async) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            ignite.compute().affinityCallAsync(definition.cache, key, call).listen(done -> {
+                try {
+                    future.complete(done.get());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(unwrap(e));
+                }
+            });
+            return future;
+        }
+        try {
+            return ignite.compute().affinityCall(definition.cache, key, call);
+        } catch (IgniteException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private AffinityDefinition resolveDefinition(MethodInvocationContext<Object, Object> context, AnnotationValue<IgniteAffinityRun> affinityRun) {
+        String instance = affinityRun.stringValue("igniteInstance").orElse("default");
+        Ignite ignite = beanContext.findBean(Ignite.class, Qualifiers.byName(instance))
+            .orElseThrow(() -> new IllegalStateException("No Ignite node named [" + instance + "] for @IgniteAffinityRun: " + context));
+        String cache = affinityRun.stringValue("cache")
+            .orElseThrow(() -> new IllegalStateException("No cache set for @IgniteAffinityRun: " + context));
+        Class<Object> returnType = context.getReturnType().getType();
+        if (Publishers.isConvertibleToPublisher(returnType)) {
+            throw new IllegalStateException("Reactive return types are not supported by @IgniteAffinityRun: " + context);
+        }
+        Argument<?>[] arguments = context.getArguments();
+        if (arguments.length == 0) {
+            throw new IllegalStateException("A method annotated with @IgniteAffinityRun needs an affinity key argument: " + context);
+        }
+        int keyIndex = 0;
+        String key = affinityRun.stringValue("key").orElse(null);
+        if (StringUtils.isNotEmpty(key)) {
+            keyIndex = -1;
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i].getName().equals(key)) {
+                    keyIndex = i;
+                }
+            }
+            if (keyIndex < 0) {
+                throw new IllegalStateException("No argument named [" + key + "] for the affinity key of @IgniteAffinityRun: " + context);
+            }
+        }
+        return new AffinityDefinition(ignite, cache, keyIndex, CompletionStage.class.isAssignableFrom(returnType));
+    }
+
+    private static RuntimeException unwrap(RuntimeException e) {
+        Throwable cause = e;
+        while (cause instanceof IgniteException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : e;
+    }
+
+    /**
+     * The resolved settings of an affinity run method.
+     */
+    private static final class AffinityDefinition {
+        private final Ignite ignite;
+        private final String cache;
+        private final int keyIndex;
+        private final boolean async;
+
+        private AffinityDefinition(Ignite ignite, String cache, int keyIndex, boolean async) {
+            this.ignite = ignite;
+            this.cache = cache;
+            this.keyIndex = keyIndex;
+            this.async = async;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.intercept;
+
+import org.apache.ignite.transactions.Transaction;
+
+/**
+ * A transaction of an Ignite node.
+ */
+final class IgniteNodeTransactionHandle implements IgniteSuspendableTransactionHandle {
+    private final Transaction tx;
+
+    /**
+     * @param tx the transaction
+     */
+    IgniteNodeTransactionHandle(Transaction tx) {
+        this.tx = tx;
+    }
+
+    @Override
+    public void commit() {
+        tx.commit();
+    }
+
+    @Override
+    public void rollback() {
+        tx.rollback();
+    }
+
+    @Override
+    public void setRollbackOnly() {
+        tx.setRollbackOnly();
+    }
+
+    @Override
+    public void suspend() {
+        tx.suspend();
+    }
+
+    @Override
+    public void resume() {
+        tx.resume();
+    }
+
+    @Override
+    public void close() {
+        tx.close();
+    }
+}
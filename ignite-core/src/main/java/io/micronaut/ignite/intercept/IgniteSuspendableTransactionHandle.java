@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.intercept;
+
+/**
+ * A transaction that can be detached from the thread that started it and attached to another one, as needed by the
+ * methods returning a {@link java.util.concurrent.CompletionStage} or a publisher and by
+ * {@link io.micronaut.ignite.annotation.IgniteTransaction.Propagation#REQUIRES_NEW}.
+ */
+interface IgniteSuspendableTransactionHandle extends IgniteTransactionHandle {
+
+    /**
+     * Detach the transaction from the current thread.
+     */
+    void suspend();
+
+    /**
+     * Attach the suspended transaction to the current thread.
+     */
+    void resume();
+}
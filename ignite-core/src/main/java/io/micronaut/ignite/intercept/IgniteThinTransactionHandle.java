@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.intercept;
+
+import org.apache.ignite.client.ClientTransaction;
+import org.apache.ignite.transactions.TransactionRollbackException;
+
+/**
+ * A transaction of a thin client. Thin client transactions are bound to the thread that started them and can't be
+ * suspended, so the transaction is tracked in a thread local until it is closed.
+ */
+final class IgniteThinTransactionHandle implements IgniteTransactionHandle {
+    private final ClientTransaction tx;
+    private final ThreadLocal<IgniteThinTransactionHandle> active;
+    private boolean rollbackOnly;
+
+    /**
+     * @param tx     the transaction
+     * @param active the transactions active on each thread
+     */
+    IgniteThinTransactionHandle(ClientTransaction tx, ThreadLocal<IgniteThinTransactionHandle> active) {
+        this.tx = tx;
+        this.active = active;
+        active.set(this);
+    }
+
+    @Override
+    public void commit() {
+        if (rollbackOnly) {
+            tx.rollback();
+            throw new TransactionRollbackException("The transaction was marked as rollback only");
+        }
+        tx.commit();
+    }
+
+    @Override
+    public void rollback() {
+        tx.rollback();
+    }
+
+    @Override
+    public void setRollbackOnly() {
+        rollbackOnly = true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            tx.close();
+        } finally {
+            active.remove();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.intercept;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.ignite.annotation.IgniteTransaction;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteTransactions;
+import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.ClientTransactions;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.configuration.ClientConfiguration;
+import org.apache.ignite.configuration.TransactionConfiguration;
+import org.apache.ignite.transactions.Transaction;
+import org.apache.ignite.transactions.TransactionConcurrency;
+import org.apache.ignite.transactions.TransactionDeadlockException;
+import org.apache.ignite.transactions.TransactionIsolation;
+import org.apache.ignite.transactions.TransactionOptimisticException;
+import org.apache.ignite.transactions.TransactionTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The resolved attributes of an {@link IgniteTransaction} method, bound to the transactions of an Ignite node or of a
+ * thin client.
+ */
+abstract class IgniteTransactionDefinition {
+    final TransactionConcurrency concurrency;
+    final TransactionIsolation isolation;
+    final long timeout;
+    final int txSize;
+    final String label;
+    private final IgniteTransaction.Propagation propagation;
+    private final int retries;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+    private final Duration subscribeTimeout;
+
+    /**
+     * @param transaction        the annotation
+     * @param defaultConcurrency the concurrency used when the annotation doesn't set one
+     * @param defaultIsolation   the isolation used when the annotation doesn't set one
+     * @param defaultTimeout     the timeout used when the annotation doesn't set one
+     */
+    IgniteTransactionDefinition(AnnotationValue<IgniteTransaction> transaction, TransactionConcurrency defaultConcurrency,
+                                TransactionIsolation defaultIsolation, long defaultTimeout) {
+        this.propagation = transaction.enumValue("propagation", IgniteTransaction.Propagation.class)
+            .orElse(IgniteTransaction.Propagation.REQUIRED);
+        this.concurrency = transaction.enumValue("concurrency", IgniteTransaction.Concurrency.class)
+            .filter(value -> value != IgniteTransaction.Concurrency.DEFAULT)
+            .map(value -> TransactionConcurrency.valueOf(value.name()))
+            .orElse(defaultConcurrency);
+        this.isolation = transaction.enumValue("isolation", IgniteTransaction.Isolation.class)
+            .filter(value -> value != IgniteTransaction.Isolation.DEFAULT)
+            .map(value -> TransactionIsolation.valueOf(value.name()))
+            .orElse(defaultIsolation);
+        this.timeout = duration(transaction, "timeout", Duration.ofMillis(defaultTimeout)).toMillis();
+        this.txSize = transaction.intValue("txSize").orElse(0);
+        this.label = transaction.stringValue("label").orElse("");
+        this.retries = transaction.intValue("retries").orElse(0);
+        this.retryDelay = duration(transaction, "retryDelay", Duration.ofMillis(10)).toMillis();
+        this.maxRetryDelay = duration(transaction, "maxRetryDelay", Duration.ofSeconds(1)).toMillis();
+        this.subscribeTimeout = duration(transaction, "subscribeTimeout", Duration.ofSeconds(30));
+    }
+
+    /**
+     * @param ignite      the ignite instance
+     * @param transaction the annotation
+     * @return the definition of a method using the transactions of an Ignite node
+     */
+    static IgniteTransactionDefinition of(Ignite ignite, AnnotationValue<IgniteTransaction> transaction) {
+        return new NodeDefinition(ignite, transaction);
+    }
+
+    /**
+     * @param client        the thin client
+     * @param configuration the thin client configuration
+     * @param retryErrors   the messages of the server errors that are retried
+     * @param active        the thin client transactions active on each thread
+     * @param transaction   the annotation
+     * @return the definition of a method using the transactions of a thin client
+     */
+    static IgniteTransactionDefinition of(IgniteClient client, ClientConfiguration configuration, List<String> retryErrors,
+                                          ThreadLocal<IgniteThinTransactionHandle> active,
+                                          AnnotationValue<IgniteTransaction> transaction) {
+        return new ThinDefinition(client, configuration, retryErrors, active, transaction);
+    }
+
+    /**
+     * @return the propagation of the method
+     */
+    IgniteTransaction.Propagation getPropagation() {
+        return propagation;
+    }
+
+    /**
+     * @return the time the publisher returned by the method has to be subscribed to
+     */
+    Duration getSubscribeTimeout() {
+        return subscribeTimeout;
+    }
+
+    /**
+     * @return whether the transactions started are {@link IgniteSuspendableTransactionHandle suspendable}
+     */
+    abstract boolean isSuspendable();
+
+    /**
+     * @return the transaction active on the current thread, or null
+     */
+    abstract IgniteTransactionHandle current();
+
+    /**
+     * @return a new transaction started on the current thread
+     */
+    abstract IgniteTransactionHandle start();
+
+    /**
+     * Whether a failed attempt should be retried in a new transaction.
+     *
+     * @param attempt   the number of the failed attempt, starting at 0
+     * @param throwable the failure
+     * @return true if the failure is an optimistic, deadlock or timeout error and retries are left
+     */
+    boolean shouldRetry(int attempt, Throwable throwable) {
+        if (attempt >= retries) {
+            return false;
+        }
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (isRetryable(cause)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param cause a failure or one of its causes
+     * @return whether it is an optimistic, deadlock or timeout error
+     */
+    boolean isRetryable(Throwable cause) {
+        return cause instanceof TransactionOptimisticException || cause instanceof TransactionDeadlockException
+            || cause instanceof TransactionTimeoutException;
+    }
+
+    /**
+     * The delay before a retry, doubled for each attempt up to the maximum delay, with a random jitter so that the
+     * transactions that conflicted don't retry at the same time.
+     *
+     * @param attempt the number of the failed attempt, starting at 0
+     * @return the delay in milliseconds
+     */
+    long retryDelay(int attempt) {
+        long delay = Math.min(maxRetryDelay, retryDelay << Math.min(attempt, 30));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private static Duration duration(AnnotationValue<IgniteTransaction> transaction, String member, Duration defaultValue) {
+        return transaction.stringValue(member)
+            .filter(value -> !value.isEmpty())
+            .map(value -> ConversionService.SHARED.convert(value, Duration.class)
+                .orElseThrow(() -> new IllegalStateException("Invalid duration [" + value + "] for " + member)))
+            .orElse(defaultValue);
+    }
+
+    /**
+     * Transactions of an Ignite node.
+     */
+    private static final class NodeDefinition extends IgniteTransactionDefinition {
+        private final IgniteTransactions transactions;
+
+        NodeDefinition(Ignite ignite, AnnotationValue<IgniteTransaction> transaction) {
+            this(ignite, ignite.configuration().getTransactionConfiguration(), transaction);
+        }
+
+        private NodeDefinition(Ignite ignite, TransactionConfiguration configuration, AnnotationValue<IgniteTransaction> transaction) {
+            super(transaction, configuration.getDefaultTxConcurrency(), configuration.getDefaultTxIsolation(),
+                configuration.getDefaultTxTimeout());
+            this.transactions = label.isEmpty() ? ignite.transactions() : ignite.transactions().withLabel(label);
+        }
+
+        @Override
+        boolean isSuspendable() {
+            return true;
+        }
+
+        @Override
+        IgniteTransactionHandle current() {
+            Transaction tx = transactions.tx();
+            return tx == null ? null : new IgniteNodeTransactionHandle(tx);
+        }
+
+        @Override
+        IgniteTransactionHandle start() {
+            return new IgniteNodeTransactionHandle(transactions.txStart(concurrency, isolation, timeout, txSize));
+        }
+    }
+
+    /**
+     * Transactions of a thin client.
+     */
+    private static final class ThinDefinition extends IgniteTransactionDefinition {
+        private final ClientTransactions transactions;
+        private final List<String> retryErrors;
+        private final ThreadLocal<IgniteThinTransactionHandle> active;
+
+        ThinDefinition(IgniteClient client, ClientConfiguration configuration, List<String> retryErrors,
+                       ThreadLocal<IgniteThinTransactionHandle> active, AnnotationValue<IgniteTransaction> transaction) {
+            super(transaction, configuration.getTransactionConfiguration().getDefaultTxConcurrency(),
+                configuration.getTransactionConfiguration().getDefaultTxIsolation(),
+                configuration.getTransactionConfiguration().getDefaultTxTimeout());
+            this.transactions = label.isEmpty() ? client.transactions() : client.transactions().withLabel(label);
+            this.retryErrors = retryErrors;
+            this.active = active;
+        }
+
+        @Override
+        boolean isSuspendable() {
+            return false;
+        }
+
+        @Override
+        IgniteTransactionHandle current() {
+            return active.get();
+        }
+
+        @Override
+        IgniteTransactionHandle start() {
+            return new IgniteThinTransactionHandle(transactions.txStart(concurrency, isolation, timeout), active);
+        }
+
+        /**
+         * The thin client reports server errors as {@link ClientException} with the message of the server exception,
+         * without a status code telling the transaction errors apart, so they are recognized by their message.
+         */
+        @Override
+        boolean isRetryable(Throwable cause) {
+            if (cause instanceof ClientException && cause.getMessage() != null) {
+                String message = cause.getMessage();
+                for (String error : retryErrors) {
+                    if (message.contains(error)) {
+                        return true;
+                    }
+                }
+            }
+            return super.isRetryable(cause);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.intercept;
+
+/**
+ * A transaction of an Ignite node or of a thin client, as used by the {@link IgniteTransactionInterceptor}.
+ */
+interface IgniteTransactionHandle extends AutoCloseable {
+
+    /**
+     * Commit the transaction.
+     */
+    void commit();
+
+    /**
+     * Roll back the transaction.
+     */
+    void rollback();
+
+    /**
+     * Mark the transaction so that it can only be rolled back.
+     */
+    void setRollbackOnly();
+
+    /**
+     * End the transaction, rolling it back if it was not committed.
+     */
+    @Override
+    void close();
+}
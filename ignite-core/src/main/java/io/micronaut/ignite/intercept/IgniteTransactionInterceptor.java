@@ -20,21 +20,27 @@ import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.async.publisher.Publishers;
-import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.ignite.annotation.IgniteTransaction;
+import io.micronaut.ignite.configuration.IgniteThinTransactionRetryConfiguration;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.qualifiers.Qualifiers;
-import io.reactivex.Flowable;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
 import org.apache.ignite.Ignite;
-import org.apache.ignite.IgniteTransactions;
-import org.apache.ignite.transactions.Transaction;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.configuration.ClientConfiguration;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.inject.Named;
 import javax.inject.Singleton;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Interceptor implementation for the {@link IgniteTransaction} annotation.
@@ -42,15 +48,20 @@ import java.util.concurrent.CompletionStage;
 @Singleton
 public class IgniteTransactionInterceptor implements MethodInterceptor<Object, Object> {
     private static final Logger LOG = LoggerFactory.getLogger(IgniteTransactionInterceptor.class);
-    private BeanContext beanContext;
+    private final BeanContext beanContext;
+    private final TaskScheduler taskScheduler;
+    private final Map<ExecutableMethod<?, ?>, IgniteTransactionDefinition> definitions = new ConcurrentHashMap<>();
+    private final Map<String, ThreadLocal<IgniteThinTransactionHandle>> thinTransactions = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
      *
-     * @param beanContext the bean context
+     * @param beanContext   the bean context
+     * @param taskScheduler the scheduler rolling back the transactions of publishers that are not subscribed to
      */
-    public IgniteTransactionInterceptor(BeanContext beanContext) {
+    public IgniteTransactionInterceptor(BeanContext beanContext, @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
         this.beanContext = beanContext;
+        this.taskScheduler = taskScheduler;
     }
 
     @Override
@@ -59,62 +70,155 @@ public class IgniteTransactionInterceptor implements MethodInterceptor<Object, O
         if (!opt.isPresent()) {
             return context.proceed();
         }
-        AnnotationValue<IgniteTransaction> transaction = opt.get();
-        String clientId = transaction.stringValue("client").orElse("default");
-        Ignite ignite = beanContext.getBean(Ignite.class, Qualifiers.byName(clientId));
-        IgniteTransactions txHandler = ignite.transactions();
+        IgniteTransactionDefinition definition = definitions.computeIfAbsent(context.getExecutableMethod(),
+            method -> resolveDefinition(opt.get()));
 
-        try (Transaction tx = txHandler.txStart()) {
-            ReturnType<Object> returnType = context.getReturnType();
-            Class<Object> javaReturnType = returnType.getType();
-            if (CompletionStage.class.isAssignableFrom(javaReturnType)) {
-                Object result = context.proceed();
-                if (result == null) {
-                    return result;
-                } else {
-                    CompletableFuture newFuture = new CompletableFuture();
-                    ((CompletableFuture<?>) result).whenComplete((value, exception) -> {
-                        if (exception == null) {
-                            tx.commit();
-                            newFuture.complete(value);
-                            return;
-                        }
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
-                        }
-                        tx.rollback();
-                        newFuture.completeExceptionally(exception);
-                    });
-                    return newFuture;
+        IgniteTransactionHandle current = definition.current();
+        switch (definition.getPropagation()) {
+            case MANDATORY:
+                if (current == null) {
+                    throw new IllegalStateException("No active transaction for method with propagation MANDATORY: " + context);
                 }
-            } else if (Publishers.isConvertibleToPublisher(returnType)) {
-                ConversionService<?> conversionService = ConversionService.SHARED;
-                Object result = context.proceed();
-                if (result == null) {
-                    return result;
-                } else {
-                    Flowable observable = conversionService
-                        .convert(result, Flowable.class)
-                        .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
-                    Flowable retryObservable = observable.doOnError((throwable -> {
-                        tx.rollback();
-                    })).doOnComplete(() -> {
-                        tx.commit();
-                    });
-                    return conversionService
-                        .convert(retryObservable, returnType.asArgument())
-                        .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+                return proceedInTransaction(context, current);
+            case SUPPORTS:
+                return current == null ? context.proceed() : proceedInTransaction(context, current);
+            case NEVER:
+                if (current != null) {
+                    throw new IllegalStateException("Active transaction for method with propagation NEVER: " + context);
+                }
+                return context.proceed();
+            case REQUIRES_NEW:
+                if (current == null) {
+                    return proceedInNewTransaction(context, definition);
                 }
+                if (!(current instanceof IgniteSuspendableTransactionHandle)) {
+                    throw new IllegalStateException("Thin client transactions can't be suspended, propagation REQUIRES_NEW is not supported within a transaction: " + context);
+                }
+                IgniteSuspendableTransactionHandle suspended = (IgniteSuspendableTransactionHandle) current;
+                suspended.suspend();
+                try {
+                    return proceedInNewTransaction(context, definition);
+                } finally {
+                    suspended.resume();
+                }
+            case REQUIRED:
+            default:
+                return current == null ? proceedInNewTransaction(context, definition) : proceedInTransaction(context, current);
+        }
+    }
+
+    private IgniteTransactionDefinition resolveDefinition(AnnotationValue<IgniteTransaction> transaction) {
+        String instance = transaction.stringValue("igniteInstance").orElse("default");
+        Optional<Ignite> ignite = beanContext.findBean(Ignite.class, Qualifiers.byName(instance));
+        if (ignite.isPresent()) {
+            return IgniteTransactionDefinition.of(ignite.get(), transaction);
+        }
+        IgniteClient client = beanContext.findBean(IgniteClient.class, Qualifiers.byName(instance))
+            .orElseThrow(() -> new IllegalStateException("No Ignite node or thin client named [" + instance + "] for @IgniteTransaction"));
+        ClientConfiguration configuration = beanContext.getBean(ClientConfiguration.class, Qualifiers.byName(instance));
+        IgniteThinTransactionRetryConfiguration retryConfiguration = beanContext.getBean(IgniteThinTransactionRetryConfiguration.class);
+        return IgniteTransactionDefinition.of(client, configuration, retryConfiguration.getErrors(),
+            thinTransactions.computeIfAbsent(instance, name -> new ThreadLocal<>()), transaction);
+    }
+
+    private Object proceedInTransaction(MethodInvocationContext<Object, Object> context, IgniteTransactionHandle tx) {
+        try {
+            return context.proceed();
+        } catch (RuntimeException e) {
+            tx.setRollbackOnly();
+            throw e;
+        }
+    }
+
+    private Object proceedInNewTransaction(MethodInvocationContext<Object, Object> context, IgniteTransactionDefinition definition) {
+        ReturnType<Object> returnType = context.getReturnType();
+        Class<Object> javaReturnType = returnType.getType();
+        boolean isCompletionStage = CompletionStage.class.isAssignableFrom(javaReturnType);
+        if (isCompletionStage || Publishers.isConvertibleToPublisher(javaReturnType)) {
+            if (!definition.isSuspendable()) {
+                throw new IllegalStateException("Thin client transactions are bound to a thread and only support synchronous methods: " + context);
             }
-            Object res;
+            IgniteSuspendableTransactionHandle tx = (IgniteSuspendableTransactionHandle) definition.start();
+            Object result;
             try {
-                res = context.proceed();
-            } catch (Exception e) {
-                tx.rollback();
+                result = context.proceed();
+                if (result == null) {
+                    tx.commit();
+                    tx.close();
+                    return null;
+                }
+                tx.suspend();
+            } catch (RuntimeException e) {
+                tx.close();
                 throw e;
             }
-            tx.commit();
-            return res;
+            if (isCompletionStage) {
+                return completeInTransaction((CompletionStage<?>) result, tx);
+            }
+            Publisher<?> publisher = IgniteTransactionPublisher.create(Publishers.convertPublisher(result, Publisher.class), tx,
+                Publishers.isSingle(javaReturnType), taskScheduler, definition.getSubscribeTimeout());
+            return Publishers.convertPublisher(publisher, javaReturnType);
+        }
+        return proceedWithRetry(context, definition);
+    }
+
+    private CompletableFuture<Object> completeInTransaction(CompletionStage<?> stage, IgniteSuspendableTransactionHandle tx) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        stage.whenComplete((value, exception) -> {
+            try {
+                tx.resume();
+                if (exception == null) {
+                    tx.commit();
+                } else {
+                    tx.rollback();
+                }
+            } catch (RuntimeException e) {
+                if (exception == null) {
+                    future.completeExceptionally(e);
+                    return;
+                }
+                exception.addSuppressed(e);
+            } finally {
+                tx.close();
+            }
+            if (exception == null) {
+                future.complete(value);
+            } else {
+                future.completeExceptionally(exception);
+            }
+        });
+        return future;
+    }
+
+    private Object proceedWithRetry(MethodInvocationContext<Object, Object> context, IgniteTransactionDefinition definition) {
+        for (int attempt = 0; ; attempt++) {
+            RuntimeException failure;
+            try (IgniteTransactionHandle tx = definition.start()) {
+                try {
+                    Object res = attempt == 0 ? context.proceed() : context.proceed(this);
+                    tx.commit();
+                    return res;
+                } catch (RuntimeException e) {
+                    tx.rollback();
+                    failure = e;
+                }
+            }
+            if (!definition.shouldRetry(attempt, failure)) {
+                throw failure;
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Retrying method {} after the transaction failed: {}", context, failure.getMessage());
+            }
+            backoff(definition.retryDelay(attempt), failure);
+        }
+    }
+
+    private static void backoff(long delay, RuntimeException failure) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw failure;
         }
     }
 }
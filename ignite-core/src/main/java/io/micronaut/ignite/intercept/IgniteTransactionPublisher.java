@@ -0,0 +1,295 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.intercept;
+
+import io.micronaut.scheduling.TaskScheduler;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Runs the subscription of a publisher in a suspended transaction. The transaction is resumed while the publisher is
+ * subscribed to, while items are requested and when it terminates, on the thread that does so, and is committed when
+ * the publisher completes or rolled back when it fails or is cancelled. A single result publisher that is cancelled
+ * once it emitted its item is committed, since single types cancel their source after the first item.
+ *
+ * <p>The transaction is attached to one thread at a time. A thread that terminates the publisher while another one
+ * holds the transaction leaves the commit or rollback to that thread, instead of waiting for it, and the first of them wins. The transaction is
+ * rolled back if the publisher is not subscribed to within the subscribe timeout.</p>
+ *
+ * @param <T> the type of the items
+ */
+final class IgniteTransactionPublisher<T> implements Publisher<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteTransactionPublisher.class);
+    private final Publisher<T> upstream;
+    private final IgniteSuspendableTransactionHandle tx;
+    private final boolean single;
+    private final Duration subscribeTimeout;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicBoolean done = new AtomicBoolean();
+    private final AtomicReference<Thread> owner = new AtomicReference<>();
+    private final AtomicReference<Runnable> pendingEnd = new AtomicReference<>();
+    private volatile ScheduledFuture<?> expiry;
+    private volatile boolean expired;
+
+    /**
+     * @param upstream         the publisher returned by the method
+     * @param tx               the suspended transaction
+     * @param single           whether the publisher emits a single item
+     * @param subscribeTimeout the time the publisher has to be subscribed to
+     */
+    private IgniteTransactionPublisher(Publisher<T> upstream, IgniteSuspendableTransactionHandle tx, boolean single, Duration subscribeTimeout) {
+        this.upstream = upstream;
+        this.tx = tx;
+        this.single = single;
+        this.subscribeTimeout = subscribeTimeout;
+    }
+
+    /**
+     * @param upstream         the publisher returned by the method
+     * @param tx               the suspended transaction
+     * @param single           whether the publisher emits a single item
+     * @param taskScheduler    the scheduler rolling back the transaction if the publisher is not subscribed to
+     * @param subscribeTimeout the time the publisher has to be subscribed to
+     * @param <T>              the type of the items
+     * @return the publisher
+     */
+    static <T> IgniteTransactionPublisher<T> create(Publisher<T> upstream, IgniteSuspendableTransactionHandle tx, boolean single,
+                                                    TaskScheduler taskScheduler, Duration subscribeTimeout) {
+        IgniteTransactionPublisher<T> publisher = new IgniteTransactionPublisher<>(upstream, tx, single, subscribeTimeout);
+        publisher.expiry = taskScheduler.schedule(subscribeTimeout, publisher::expire);
+        return publisher;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(expired
+                ? "The transaction was rolled back as the publisher was not subscribed to within " + subscribeTimeout
+                : "A transactional publisher can only be subscribed once"));
+            return;
+        }
+        ScheduledFuture<?> expiry = this.expiry;
+        if (expiry != null) {
+            expiry.cancel(false);
+        }
+        boolean entered = enter();
+        try {
+            upstream.subscribe(new TransactionSubscriber(subscriber));
+        } finally {
+            if (entered) {
+                exit();
+            }
+        }
+    }
+
+    /**
+     * Roll back the transaction of a publisher that was not subscribed to in time.
+     */
+    private void expire() {
+        if (subscribed.compareAndSet(false, true)) {
+            expired = true;
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("A transactional publisher was not subscribed to within {}, its transaction is rolled back", subscribeTimeout);
+            }
+            end(false, null, failure -> {
+                if (failure != null && LOG.isErrorEnabled()) {
+                    LOG.error("Failed to roll back the transaction of a publisher: " + failure.getMessage(), failure);
+                }
+            });
+        }
+    }
+
+    /**
+     * Attach the transaction to the current thread, unless it is attached to a thread already or ended.
+     *
+     * @return whether the transaction was attached and must be detached with {@link #exit()}
+     */
+    private boolean enter() {
+        Thread current = Thread.currentThread();
+        if (owner.get() == current || done.get() || !owner.compareAndSet(null, current)) {
+            return false;
+        }
+        if (done.get()) {
+            owner.set(null);
+            return false;
+        }
+        tx.resume();
+        return true;
+    }
+
+    /**
+     * Detach the transaction from the current thread, and end it if another thread terminated the publisher meanwhile.
+     */
+    private void exit() {
+        if (!done.get()) {
+            tx.suspend();
+        }
+        owner.set(null);
+        Runnable end = pendingEnd.getAndSet(null);
+        if (end != null) {
+            end.run();
+        }
+    }
+
+    /**
+     * Commit or roll back the transaction, then signal the outcome. When the transaction is attached to another thread,
+     * that thread ends it once it detaches it.
+     *
+     * @param commit  whether the transaction is committed
+     * @param failure the failure of the publisher, if any
+     * @param signal  receives the failure to signal downstream, null if the transaction was committed
+     */
+    private void end(boolean commit, Throwable failure, Consumer<Throwable> signal) {
+        Thread current = Thread.currentThread();
+        boolean owned = owner.get() == current;
+        if (!owned) {
+            if (!owner.compareAndSet(null, current)) {
+                if (!pendingEnd.compareAndSet(null, () -> end(commit, failure, signal))) {
+                    return;
+                }
+                if (owner.get() == null) {
+                    Runnable end = pendingEnd.getAndSet(null);
+                    if (end != null) {
+                        end.run();
+                    }
+                }
+                return;
+            }
+            if (done.get()) {
+                owner.set(null);
+                signal.accept(failure);
+                return;
+            }
+        }
+        Throwable result;
+        try {
+            result = finish(commit, failure, !owned);
+        } finally {
+            if (!owned) {
+                owner.set(null);
+            }
+        }
+        signal.accept(result);
+    }
+
+    /**
+     * Commit or roll back the transaction on the current thread.
+     *
+     * @param commit  whether the transaction is committed
+     * @param failure the failure of the publisher, if any
+     * @param resume  whether the transaction must be attached to the current thread first
+     * @return the failure to signal downstream, null if the transaction was committed
+     */
+    private Throwable finish(boolean commit, Throwable failure, boolean resume) {
+        if (!done.compareAndSet(false, true)) {
+            return failure;
+        }
+        try {
+            if (resume) {
+                tx.resume();
+            }
+            if (commit) {
+                tx.commit();
+            } else {
+                tx.rollback();
+            }
+            return failure;
+        } catch (RuntimeException e) {
+            if (failure != null) {
+                failure.addSuppressed(e);
+                return failure;
+            }
+            return e;
+        } finally {
+            tx.close();
+        }
+    }
+
+    /**
+     * Ends the transaction when the publisher terminates.
+     */
+    private final class TransactionSubscriber implements Subscriber<T> {
+        private final Subscriber<? super T> downstream;
+        private volatile boolean received;
+
+        TransactionSubscriber(Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            downstream.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    boolean entered = enter();
+                    try {
+                        subscription.request(n);
+                    } finally {
+                        if (entered) {
+                            exit();
+                        }
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                    end(single && received, null, failure -> { });
+                }
+            });
+        }
+
+        @Override
+        public void onNext(T item) {
+            received = true;
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            end(false, throwable, downstream::onError);
+        }
+
+        @Override
+        public void onComplete() {
+            end(true, null, failure -> {
+                if (failure == null) {
+                    downstream.onComplete();
+                } else {
+                    downstream.onError(failure);
+                }
+            });
+        }
+    }
+}
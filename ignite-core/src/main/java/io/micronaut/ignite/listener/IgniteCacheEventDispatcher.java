@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.listener;
+
+import io.micronaut.inject.ExecutableMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryUpdatedListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local listener of a continuous query that delivers the batches of events to an
+ * {@link io.micronaut.ignite.annotation.IgniteCacheListener} method on an executor. Batches are delivered one at a
+ * time, in the order they were received, so the ignite callback threads are not blocked by the method.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class IgniteCacheEventDispatcher<K, V> implements CacheEntryUpdatedListener<K, V> {
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteCacheEventDispatcher.class);
+
+    private final Object bean;
+    private final ExecutableMethod<Object, Object> method;
+    private final boolean batch;
+    private final Executor executor;
+    private final Queue<List<CacheEntryEvent<? extends K, ? extends V>>> batches = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * @param bean     the listener bean
+     * @param method   the listener method
+     * @param batch    whether the method takes a list of events
+     * @param executor the executor the events are delivered on
+     */
+    IgniteCacheEventDispatcher(Object bean, ExecutableMethod<Object, Object> method, boolean batch, Executor executor) {
+        this.bean = bean;
+        this.method = method;
+        this.batch = batch;
+        this.executor = executor;
+    }
+
+    @Override
+    public void onUpdated(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+        List<CacheEntryEvent<? extends K, ? extends V>> received = new ArrayList<>();
+        events.forEach(received::add);
+        if (received.isEmpty()) {
+            return;
+        }
+        batches.add(received);
+        if (pending.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                batches.clear();
+                pending.set(0);
+                if (LOG.isErrorEnabled()) {
+                    LOG.error(String.format("Dropped cache events for listener [%s]: %s", method, e.getMessage()), e);
+                }
+            }
+        }
+    }
+
+    private void deliver() {
+        int missed = 1;
+        do {
+            for (int i = 0; i < missed; i++) {
+                List<CacheEntryEvent<? extends K, ? extends V>> events = batches.poll();
+                if (events != null) {
+                    deliver(events);
+                }
+            }
+            missed = pending.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliver(List<CacheEntryEvent<? extends K, ? extends V>> events) {
+        if (batch) {
+            invoke(events);
+        } else {
+            events.forEach(this::invoke);
+        }
+    }
+
+    private void invoke(Object argument) {
+        try {
+            method.invoke(bean, argument);
+        } catch (RuntimeException e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error(String.format("Error in cache listener [%s]: %s", method, e.getMessage()), e);
+            }
+        }
+    }
+}
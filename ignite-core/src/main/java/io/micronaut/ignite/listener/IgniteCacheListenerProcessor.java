@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.listener;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.ShutdownEvent;
+import io.micronaut.context.processor.ExecutableMethodProcessor;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.type.Argument;
+import io.micronaut.ignite.IgniteRegistry;
+import io.micronaut.ignite.IgniteStartup;
+import io.micronaut.ignite.annotation.IgniteCacheListener;
+import io.micronaut.ignite.configuration.DefaultContinuousQueryConfiguration;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryEventFilter;
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Registers a {@link ContinuousQuery} for each {@link IgniteCacheListener} method when the context starts, or once
+ * the node is started when it starts in the background, and closes them when the context shuts down. Queries of nodes
+ * that finish starting after the shutdown are not registered.
+ */
+@Singleton
+public class IgniteCacheListenerProcessor implements ExecutableMethodProcessor<IgniteCacheListener>, ApplicationEventListener<ShutdownEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(IgniteCacheListenerProcessor.class);
+
+    private final BeanContext beanContext;
+    private final IgniteStartup startup;
+    private final IgniteRegistry registry;
+    private final Queue<QueryCursor<?>> queries = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+
+    /**
+     * Default constructor.
+     *
+     * @param beanContext the bean context
+     * @param startup     starts the nodes
+     * @param registry    creates the caches with their configuration
+     */
+    public IgniteCacheListenerProcessor(BeanContext beanContext, IgniteStartup startup, IgniteRegistry registry) {
+        this.beanContext = beanContext;
+        this.startup = startup;
+        this.registry = registry;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void process(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
+        AnnotationValue<IgniteCacheListener> listener = method.findAnnotation(IgniteCacheListener.class)
+            .orElseThrow(() -> new IllegalStateException("Requires @IgniteCacheListener"));
+        String cacheName = listener.stringValue().orElseThrow(() -> new IllegalStateException("Missing value for cache listener: " + method));
+        String instance = listener.stringValue("instanceName").orElse("default");
+        Argument<?>[] arguments = method.getArguments();
+        if (arguments.length != 1) {
+            throw new IllegalStateException("A method annotated with @IgniteCacheListener takes a single event or a list of events: " + method);
+        }
+        boolean batch = List.class.isAssignableFrom(arguments[0].getType());
+        if (!batch && !arguments[0].getType().isAssignableFrom(CacheEntryEvent.class)) {
+            throw new IllegalStateException("A method annotated with @IgniteCacheListener takes a single event or a list of events: " + method);
+        }
+        Optional<DefaultContinuousQueryConfiguration> configuration = beanContext.findBean(DefaultContinuousQueryConfiguration.class,
+            Qualifiers.byName(cacheName));
+        String executorName = configuration.map(DefaultContinuousQueryConfiguration::getExecutor).orElse(TaskExecutors.IO);
+        ExecutorService executor = beanContext.getBean(ExecutorService.class, Qualifiers.byName(executorName));
+        Object bean = beanContext.getBean(beanDefinition);
+
+        ContinuousQuery<Object, Object> query = new ContinuousQuery<>();
+        query.setLocalListener(new IgniteCacheEventDispatcher<>(bean, (ExecutableMethod<Object, Object>) method, batch, executor));
+        Class<?> filter = listener.classValue("filter").orElse(CacheEntryEventFilter.class);
+        if (filter != CacheEntryEventFilter.class) {
+            query.setRemoteFilterFactory(FactoryBuilder.factoryOf((Class<CacheEntryEventFilter<Object, Object>>) filter));
+        }
+        configuration.ifPresent(config -> {
+            query.setPageSize(config.getBufferSize());
+            if (config.getTimeInterval() != null) {
+                query.setTimeInterval(config.getTimeInterval().toMillis());
+            }
+            query.setIncludeExpired(config.isIncludeExpired());
+        });
+
+        beanContext.getBean(Ignite.class, Qualifiers.byName(instance));
+        CompletableFuture<Ignite> node = startup.node(instance);
+        if (node.isDone()) {
+            register(node.join(), cacheName, query);
+        } else {
+            node.thenAccept(ignite -> register(ignite, cacheName, query)).whenComplete((ignored, e) -> {
+                if (e != null && LOG.isErrorEnabled()) {
+                    LOG.error(String.format("Failed to register cache listener [%s]: %s", method, e.getMessage()), e);
+                }
+            });
+        }
+    }
+
+    private void register(Ignite ignite, String cacheName, ContinuousQuery<Object, Object> query) {
+        if (closed) {
+            return;
+        }
+        // the registry starts the near cache of a client, which can't be added once the cache is started
+        IgniteCache<Object, Object> cache = registry.getOrCreateCache(ignite, cacheName);
+        QueryCursor<?> cursor = cache.query(query);
+        queries.add(cursor);
+        if (closed && queries.remove(cursor)) {
+            // the context shut down while the query was registered
+            close(cursor);
+        }
+    }
+
+    /**
+     * Close the continuous queries before the Ignite instances are stopped.
+     *
+     * @param event the shutdown event
+     */
+    @Override
+    public void onApplicationEvent(ShutdownEvent event) {
+        closed = true;
+        QueryCursor<?> query;
+        while ((query = queries.poll()) != null) {
+            close(query);
+        }
+    }
+
+    private static void close(QueryCursor<?> query) {
+        try {
+            query.close();
+        } catch (IgniteException | IllegalStateException ex) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn(String.format("Error closing continuous query: %s", ex.getMessage()), ex);
+            }
+        }
+    }
+}
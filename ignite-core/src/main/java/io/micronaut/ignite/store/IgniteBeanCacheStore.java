@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.store;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.ignite.IgniteBeanContextLifecycleBean;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.cache.store.CacheStore;
+import org.apache.ignite.cache.store.CacheStoreSession;
+import org.apache.ignite.lang.IgniteBiInClosure;
+import org.apache.ignite.resources.CacheStoreSessionResource;
+import org.apache.ignite.resources.IgniteInstanceResource;
+
+import javax.cache.Cache;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@link CacheStore} created by Ignite for a cache, which calls the store bean of the cache. The bean is resolved
+ * when the store is first used, as the caches of a node are started before its application context is known.
+ *
+ * <p>Ignite injects its resources into this store only. The bean may be called by the stores of several nodes, so
+ * they are not injected into it: each call is made with the {@link IgniteCacheStoreSession} of this store current.</p>
+ *
+ * @param <K> the cache key
+ * @param <V> the cache value
+ */
+final class IgniteBeanCacheStore<K, V> implements CacheStore<K, V> {
+    private final String cacheName;
+
+    @IgniteInstanceResource
+    private Ignite ignite;
+
+    @CacheStoreSessionResource
+    private CacheStoreSession session;
+
+    private volatile IgniteCacheStoreSession storeSession;
+    private volatile CacheStore<K, V> store;
+
+    /**
+     * @param cacheName the name of the cache
+     */
+    IgniteBeanCacheStore(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    @Override
+    public void loadCache(IgniteBiInClosure<K, V> clo, Object... args) {
+        run(store -> store.loadCache(clo, args));
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public void sessionEnd(boolean commit) {
+        run(store -> store.sessionEnd(commit));
+    }
+
+    @Override
+    public V load(K key) {
+        return call(store -> store.load(key));
+    }
+
+    @Override
+    public Map<K, V> loadAll(Iterable<? extends K> keys) {
+        return call(store -> store.loadAll(keys));
+    }
+
+    @Override
+    public void write(Cache.Entry<? extends K, ? extends V> entry) {
+        run(store -> store.write(entry));
+    }
+
+    @Override
+    public void writeAll(Collection<Cache.Entry<? extends K, ? extends V>> entries) {
+        run(store -> store.writeAll(entries));
+    }
+
+    @Override
+    public void delete(Object key) {
+        run(store -> store.delete(key));
+    }
+
+    @Override
+    public void deleteAll(Collection<?> keys) {
+        run(store -> store.deleteAll(keys));
+    }
+
+    private void run(Consumer<CacheStore<K, V>> operation) {
+        call(store -> {
+            operation.accept(store);
+            return null;
+        });
+    }
+
+    private <R> R call(Function<CacheStore<K, V>, R> operation) {
+        CacheStore<K, V> store = store();
+        IgniteCacheStoreSession previous = storeSession.open();
+        try {
+            return operation.apply(store);
+        } finally {
+            IgniteCacheStoreSession.restore(previous);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheStore<K, V> store() {
+        CacheStore<K, V> store = this.store;
+        if (store == null) {
+            BeanContext beanContext = IgniteBeanContextLifecycleBean.find(ignite).orElseThrow(() -> new IllegalStateException("Ignite node [" +
+                ignite.name() + "] was not started by a Micronaut application, can't use the store of cache [" + cacheName + "]"));
+            store = beanContext.getBean(CacheStore.class, Qualifiers.byName(cacheName));
+            this.storeSession = new IgniteCacheStoreSession(ignite, cacheName, session);
+            this.store = store;
+        }
+        return store;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.store;
+
+import org.apache.ignite.cache.store.CacheStore;
+
+import javax.cache.configuration.Factory;
+
+/**
+ * Creates the {@link CacheStore} of a cache from the Micronaut bean implementing {@link CacheStore} named after the
+ * cache, such as {@code @Named("accounts")}. The factory is sent to every node of the cluster with the cache
+ * configuration, and each node calls the bean from its own application context.
+ *
+ * @param <K> the cache key
+ * @param <V> the cache value
+ */
+public class IgniteCacheStoreFactory<K, V> implements Factory<CacheStore<K, V>> {
+    private static final long serialVersionUID = 1L;
+
+    private final String cacheName;
+
+    /**
+     * @param cacheName the name of the cache, which is the name of the store bean
+     */
+    public IgniteCacheStoreFactory(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * @return the name of the cache
+     */
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    @Override
+    public CacheStore<K, V> create() {
+        return new IgniteBeanCacheStore<>(cacheName);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.ignite.store;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.cache.store.CacheStoreSession;
+
+import java.util.Optional;
+
+/**
+ * The node, cache and Ignite session a store bean is called for. Ignite only injects its resources, such as {@code
+ * @CacheStoreSessionResource}, into the store it creates for a cache, and not into the store bean, which may be
+ * called by the caches of several nodes. The store bean reads them from {@link #current()} instead, on the thread
+ * calling it.
+ */
+public final class IgniteCacheStoreSession {
+    private static final ThreadLocal<IgniteCacheStoreSession> CURRENT = new ThreadLocal<>();
+
+    private final Ignite ignite;
+    private final String cacheName;
+    private final CacheStoreSession session;
+
+    /**
+     * @param ignite    the node calling the store
+     * @param cacheName the name of the cache
+     * @param session   the Ignite session
+     */
+    IgniteCacheStoreSession(Ignite ignite, String cacheName, @Nullable CacheStoreSession session) {
+        this.ignite = ignite;
+        this.cacheName = cacheName;
+        this.session = session;
+    }
+
+    /**
+     * @return the session of the store call in progress on the current thread, if any
+     */
+    @NonNull
+    public static Optional<IgniteCacheStoreSession> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * @return the node calling the store
+     */
+    @NonNull
+    public Ignite getIgnite() {
+        return ignite;
+    }
+
+    /**
+     * @return the name of the cache
+     */
+    @NonNull
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * @return the Ignite session, with the transaction of the operation and the attachments of the store
+     */
+    @Nullable
+    public CacheStoreSession getSession() {
+        return session;
+    }
+
+    /**
+     * Make this session current while the store is called.
+     *
+     * @return the session it replaces, to be restored with {@link #restore(IgniteCacheStoreSession)}
+     */
+    IgniteCacheStoreSession open() {
+        IgniteCacheStoreSession previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * @param previous the session current before {@link #open()}
+     */
+    static void restore(@Nullable IgniteCacheStoreSession previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
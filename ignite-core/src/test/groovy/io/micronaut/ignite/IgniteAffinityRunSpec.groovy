@@ -0,0 +1,122 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.apache.ignite.Ignite
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+class IgniteAffinityRunSpec extends Specification {
+
+    @Shared @AutoCleanup
+    ApplicationContext remote = ApplicationContext.run(["spec.name": "IgniteAffinityRunSpec", "affinity-spec.node": "remote"])
+
+    @Shared
+    Ignite remoteNode = remote.getBean(Ignite, Qualifiers.byName("remote"))
+
+    @Shared @AutoCleanup
+    ApplicationContext local = IgniteTestCluster.run(["spec.name": "IgniteAffinityRunSpec", "affinity-spec.node": "local"])
+
+    @Shared
+    Ignite localNode = local.getBean(Ignite)
+
+    @Shared
+    AffinityAccounts accounts = local.getBean(AffinityAccounts)
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    def setupSpec() {
+        localNode.getOrCreateCache("affinity")
+    }
+
+    def "test the method is called directly when the local node is primary"() {
+        given:
+        String key = keysOn(localNode, 1)[0]
+
+        expect:
+        localNode.cluster().nodes().size() == 2
+        accounts.where(key) == "local"
+        accounts.whereFor("jane", key) == "jane@local"
+    }
+
+    def "test the method is called on the primary node"() {
+        given:
+        String key = keysOn(remoteNode, 1)[0]
+
+        expect:
+        accounts.where(key) == "remote"
+        accounts.whereFor("jane", key) == "jane@remote"
+    }
+
+    def "test exceptions of the remote method are rethrown unwrapped"() {
+        when:
+        accounts.fail(keysOn(remoteNode, 1)[0])
+
+        then:
+        IllegalArgumentException e = thrown()
+        e.message.endsWith("on remote")
+
+        when:
+        accounts.fail(keysOn(localNode, 1)[0])
+
+        then:
+        e = thrown(IllegalArgumentException)
+        e.message.endsWith("on local")
+    }
+
+    def "test a remote completion stage does not hold a thread of the public pool"() {
+        given:
+        AffinityAccounts remoteAccounts = remote.getBean(AffinityAccounts)
+        List<String> keys = keysOn(remoteNode, 2, "later")
+
+        when: "the remote node has a single public thread"
+        CompletableFuture<String> first = accounts.whereLater(keys[0])
+        CompletableFuture<String> second = accounts.whereLater(keys[1])
+
+        then: "both methods are called before either stage completes"
+        conditions.eventually {
+            assert remoteAccounts.pending.keySet() == keys as Set
+        }
+        !first.done
+        !second.done
+
+        when:
+        remoteAccounts.pending[keys[1]].complete("b")
+        remoteAccounts.pending[keys[0]].complete("a")
+
+        then:
+        second.get(10, TimeUnit.SECONDS) == "b@remote"
+        first.get(10, TimeUnit.SECONDS) == "a@remote"
+    }
+
+    def "test a failed remote completion stage fails the returned future"() {
+        given:
+        AffinityAccounts remoteAccounts = remote.getBean(AffinityAccounts)
+        String key = keysOn(remoteNode, 1, "failed")[0]
+
+        when:
+        CompletableFuture<String> future = accounts.whereLater(key)
+        conditions.eventually {
+            assert remoteAccounts.pending.containsKey(key)
+        }
+        remoteAccounts.pending[key].completeExceptionally(new IllegalStateException("declined"))
+        future.get(10, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof IllegalStateException
+        e.cause.message == "declined"
+    }
+
+    private List<String> keysOn(Ignite node, int count, String prefix = "key") {
+        return (0..1000).collect { "$prefix-$it".toString() }
+            .findAll { localNode.affinity("affinity").isPrimary(node.cluster().localNode(), it) }
+            .take(count)
+    }
+}
@@ -0,0 +1,47 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.ignite.binary.IntrospectedBinarySerializer
+import io.micronaut.ignite.configuration.DefaultIgniteThinClientConfiguration
+import org.apache.ignite.configuration.BinaryConfiguration
+import org.apache.ignite.configuration.IgniteConfiguration
+import spock.lang.Specification
+
+class IgniteBinaryConfigurationSpec extends Specification {
+
+    def "test introspected binary types are registered"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                 : true,
+            "ignite.binary-configuration.compact-footer"     : false,
+        ])
+
+        when:
+        BinaryConfiguration binaryConfiguration = ctx.getBean(IgniteConfiguration).binaryConfiguration
+
+        then:
+        !binaryConfiguration.compactFooter
+        binaryConfiguration.typeConfigurations.find { it.typeName == BinaryAccount.name }.serializer instanceof IntrospectedBinarySerializer
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test thin client binary configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite-thin-client.enabled"                     : true,
+            "ignite-thin-client.binary-configuration.compact-footer": false,
+        ])
+
+        when:
+        DefaultIgniteThinClientConfiguration configuration = ctx.getBean(DefaultIgniteThinClientConfiguration)
+
+        then:
+        configuration.configuration.binaryConfiguration.is(configuration.binaryConfiguration)
+        !configuration.binaryConfiguration.compactFooter
+
+        cleanup:
+        ctx.close()
+    }
+}
@@ -1,11 +1,25 @@
 package io.micronaut.ignite
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.ignite.configuration.DefaultCacheConfiguration
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.CachePeekMode
 import org.apache.ignite.cache.QueryEntity
+import org.apache.ignite.cache.eviction.fifo.FifoEvictionPolicyFactory
+import org.apache.ignite.cache.eviction.sorted.SortedEvictionPolicyFactory
 import org.apache.ignite.configuration.CacheConfiguration
 import org.apache.ignite.configuration.IgniteConfiguration
+import org.apache.ignite.configuration.NearCacheConfiguration
 import spock.lang.Specification
 
+import javax.cache.expiry.AccessedExpiryPolicy
+import javax.cache.expiry.Duration
+import javax.cache.expiry.EternalExpiryPolicy
+import java.util.concurrent.TimeUnit
+
 class IgniteCacheConfigurationSpec extends Specification {
 
     def "test ignite default cache configuration"() {
@@ -71,4 +85,113 @@ class IgniteCacheConfigurationSpec extends Specification {
         "updateDate" | "java.util.Date"
     }
 
+    def "test ignite near cache configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                                          : true,
+            "ignite.cache-configurations.accounts.near-configuration.start-size"      : 1000,
+            "ignite.cache-configurations.accounts.near-configuration.eviction-policy" : "FIFO",
+            "ignite.cache-configurations.accounts.near-configuration.max-size"        : 500,
+            "ignite.cache-configurations.accounts.near-configuration.max-memory-size" : "1MB",
+            "ignite.cache-configurations.books.backups"                               : 1
+        ])
+        when:
+        DefaultCacheConfiguration accounts = ctx.getBean(DefaultCacheConfiguration, Qualifiers.byName("accounts"))
+        DefaultCacheConfiguration books = ctx.getBean(DefaultCacheConfiguration, Qualifiers.byName("books"))
+        NearCacheConfiguration near = accounts.findNearConfiguration().get()
+        FifoEvictionPolicyFactory eviction = near.nearEvictionPolicyFactory
+
+        then:
+        near.nearStartSize == 1000
+        eviction.maxSize == 500
+        eviction.maxMemorySize == 1024 * 1024
+        accounts.nearConfiguration == null
+        !books.findNearConfiguration().isPresent()
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test the near cache is only started on the client node"() {
+        given:
+        Ignite server = IgniteTestCluster.start("near-server")
+        ApplicationContext ctx = IgniteTestCluster.run([
+            "ignite.client-mode"                                               : true,
+            "ignite.cache-configurations.accounts.near-configuration.max-size": 100,
+            "ignite.cache-configurations.books.backups"                        : 1
+        ])
+        Ignite client = ctx.getBean(Ignite)
+        IgniteRegistry registry = ctx.getBean(IgniteRegistry)
+
+        when:
+        IgniteCache<String, Integer> accounts = registry.getOrCreateCache(client, "accounts")
+        accounts.put("one", 1)
+        accounts.get("one")
+
+        then: "the client reads through its near cache"
+        accounts.localPeek("one", CachePeekMode.NEAR) == 1
+        registry.getOrCreateCache(client, "accounts").localPeek("one", CachePeekMode.NEAR) == 1
+
+        and: "the cache configuration doesn't start it on the server"
+        server.cache("accounts").getConfiguration(CacheConfiguration).nearConfiguration == null
+        ctx.getBean(DefaultCacheConfiguration, Qualifiers.byName("accounts")).nearConfiguration == null
+
+        and: "the caches without a near cache are started with the node"
+        server.cacheNames().contains("books")
+
+        cleanup:
+        ctx.close()
+        server.close()
+    }
+
+    def "test ignite cache expiry and eviction configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                                : true,
+            "ignite.cache-configurations.sessions.eager-ttl"                : false,
+            "ignite.cache-configurations.sessions.expiry.policy"            : "ACCESSED",
+            "ignite.cache-configurations.sessions.expiry.duration"          : "30m",
+            "ignite.cache-configurations.sessions.eviction.policy"          : "SORTED",
+            "ignite.cache-configurations.sessions.eviction.max-size"        : 100,
+            "ignite.cache-configurations.sessions.eviction.max-memory-size" : "2MB",
+            "ignite.cache-configurations.tokens.expiry.policy"              : "ETERNAL",
+            "ignite.cache-configurations.books.backups"                     : 1
+        ])
+        when:
+        DefaultCacheConfiguration sessions = ctx.getBean(DefaultCacheConfiguration, Qualifiers.byName("sessions"))
+        DefaultCacheConfiguration tokens = ctx.getBean(DefaultCacheConfiguration, Qualifiers.byName("tokens"))
+        DefaultCacheConfiguration books = ctx.getBean(DefaultCacheConfiguration, Qualifiers.byName("books"))
+        SortedEvictionPolicyFactory eviction = sessions.evictionPolicyFactory
+
+        then:
+        !sessions.eagerTtl
+        sessions.expiryPolicyFactory.create() == new AccessedExpiryPolicy(new Duration(TimeUnit.MINUTES, 30))
+        sessions.onheapCacheEnabled
+        eviction.maxSize == 100
+        eviction.maxMemorySize == 2 * 1024 * 1024
+        tokens.expiryPolicyFactory.create() instanceof EternalExpiryPolicy
+        !tokens.onheapCacheEnabled
+        books.expiryPolicyFactory.create() instanceof EternalExpiryPolicy
+        books.evictionPolicyFactory == null
+        books.eagerTtl
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test ignite cache expiry requires a duration"() {
+        when:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                      : true,
+            "ignite.cache-configurations.sessions.expiry.policy"  : "CREATED"
+        ])
+        ctx.getBean(DefaultCacheConfiguration, Qualifiers.byName("sessions"))
+
+        then:
+        def e = thrown(BeanInstantiationException)
+        e.message.contains("The created expiry policy requires a duration")
+
+        cleanup:
+        ctx?.close()
+    }
 }
@@ -0,0 +1,128 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.ignite.configuration.DefaultCacheConfiguration
+import io.micronaut.ignite.store.IgniteCacheStoreFactory
+import io.micronaut.ignite.store.IgniteCacheStoreSession
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.store.CacheStore
+import org.apache.ignite.configuration.IgniteConfiguration
+import spock.lang.Specification
+
+class IgniteCacheStoreSpec extends Specification {
+
+    def "test ignite cache store configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                                   : true,
+            "ignite.cache-configurations.accounts.read-through"                : true,
+            "ignite.cache-configurations.accounts.write-through"               : true,
+            "ignite.cache-configurations.accounts.write-behind-enabled"        : true,
+            "ignite.cache-configurations.accounts.write-behind-flush-size"     : 2048,
+            "ignite.cache-configurations.accounts.write-behind-flush-frequency": 1000,
+            "ignite.cache-configurations.accounts.write-behind-flush-thread-count": 2,
+            "ignite.cache-configurations.accounts.write-behind-batch-size"     : 256,
+            "ignite.cache-configurations.accounts.write-behind-coalescing"     : false
+        ])
+        when:
+        DefaultCacheConfiguration accounts = ctx.getBean(DefaultCacheConfiguration, Qualifiers.byName("accounts"))
+
+        then:
+        accounts.readThrough
+        accounts.writeThrough
+        accounts.writeBehindEnabled
+        accounts.writeBehindFlushSize == 2048
+        accounts.writeBehindFlushFrequency == 1000
+        accounts.writeBehindFlushThreadCount == 2
+        accounts.writeBehindBatchSize == 256
+        !accounts.writeBehindCoalescing
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test ignite cache store calls the bean named after the cache"() {
+        given:
+        ApplicationContext ctx = IgniteTestCluster.run([
+            "spec.name"                                        : "IgniteCacheStoreSpec",
+            "ignite.cache-configurations.accounts.read-through" : true,
+            "ignite.cache-configurations.accounts.write-through": true
+        ])
+        Ignite ignite = ctx.getBean(Ignite)
+        AccountCacheStore bean = ctx.getBean(AccountCacheStore)
+        bean.table.put("one", 1d)
+        IgniteCache<String, Double> cache = ignite.cache("accounts")
+
+        when:
+        cache.loadCache(null)
+        cache.put("two", 2d)
+        cache.remove("one")
+
+        then:
+        bean.table == [two: 2d]
+
+        when:
+        bean.table.put("three", 3d)
+
+        then:
+        cache.get("three") == 3d
+
+        and: "the bean is called with the session of the node"
+        bean.sessions.keySet() == ["three"] as Set
+        bean.sessions.three.ignite.name() == ignite.name()
+        bean.sessions.three.cacheName == "accounts"
+        bean.sessionCaches == [three: "accounts"]
+        !IgniteCacheStoreSession.current().present
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test ignite cache store calls a shared bean with the session of each node"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(["spec.name": "IgniteCacheStoreSpec"])
+        AccountCacheStore bean = ctx.getBean(AccountCacheStore)
+        CacheStore<String, Double> first = new IgniteCacheStoreFactory<String, Double>("accounts").create()
+        first.@ignite = node("first", ctx)
+        CacheStore<String, Double> second = new IgniteCacheStoreFactory<String, Double>("accounts").create()
+        second.@ignite = node("second", ctx)
+
+        when:
+        first.load("one")
+        second.load("two")
+        first.load("three")
+
+        then:
+        bean.sessions.collectEntries { key, session -> [(key): session.ignite.name()] } == [one: "first", two: "second", three: "first"]
+        !IgniteCacheStoreSession.current().present
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test ignite cache store requires a node started by the application"() {
+        given:
+        CacheStore<String, Double> store = new IgniteCacheStoreFactory<String, Double>("accounts").create()
+        store.@ignite = node("default", null)
+
+        when:
+        store.load("one")
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("can't use the store of cache [accounts]")
+    }
+
+    private Ignite node(String name, ApplicationContext ctx) {
+        IgniteConfiguration configuration = new IgniteConfiguration()
+        if (ctx != null) {
+            configuration.setLifecycleBeans(new IgniteBeanContextLifecycleBean(ctx))
+        }
+        Ignite ignite = Stub(Ignite)
+        ignite.configuration() >> configuration
+        ignite.name() >> name
+        return ignite
+    }
+}
@@ -0,0 +1,38 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.ignite.configuration.DefaultContinuousQueryConfiguration
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.TaskExecutors
+import spock.lang.Specification
+
+import java.time.Duration
+
+class IgniteContinuousQueryConfigurationSpec extends Specification {
+
+    def "test continuous query configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                      : true,
+            "ignite.continuous-queries.accounts.buffer-size"      : 64,
+            "ignite.continuous-queries.accounts.time-interval"    : "100ms",
+            "ignite.continuous-queries.accounts.include-expired"  : true,
+            "ignite.continuous-queries.orders.executor"           : TaskExecutors.SCHEDULED,
+        ])
+
+        when:
+        DefaultContinuousQueryConfiguration accounts = ctx.getBean(DefaultContinuousQueryConfiguration, Qualifiers.byName("accounts"))
+        DefaultContinuousQueryConfiguration orders = ctx.getBean(DefaultContinuousQueryConfiguration, Qualifiers.byName("orders"))
+
+        then:
+        accounts.bufferSize == 64
+        accounts.timeInterval == Duration.ofMillis(100)
+        accounts.includeExpired
+        accounts.executor == TaskExecutors.IO
+        orders.bufferSize == 1
+        orders.executor == TaskExecutors.SCHEDULED
+
+        cleanup:
+        ctx.close()
+    }
+}
@@ -1,34 +1,78 @@
 package io.micronaut.ignite
 
 import io.micronaut.context.ApplicationContext
+import org.apache.ignite.configuration.CacheConfiguration
+import org.apache.ignite.configuration.DataPageEvictionMode
+import org.apache.ignite.configuration.DataRegionConfiguration
 import org.apache.ignite.configuration.DataStorageConfiguration
 import org.apache.ignite.configuration.IgniteConfiguration
+import org.apache.ignite.configuration.WALMode
 import spock.lang.Specification
 
-//TODO: figure out data storage configuration
 class IgniteDataStorageConfigurationSpec extends Specification {
 
-//    def "test ignite data-storage configuration"() {
-//        given:
-//        ApplicationContext ctx = ApplicationContext.run([
-//            "ignite.enabled"                                          : true,
-//            "ignite.data-storage-configuration.enabled": "true",
-//            "ignite.data-storage-configuration.system-region-max-size": 7000,
-//            "ignite.data-storage-configuration.default-data-region-configuration.name" : "one",
-//            "ignite.data-storage-configuration.regions[0].name" : "20MB_Region_Eviction",
-//            "ignite.data-storage-configuration.regions[1].name" : "25MB_Region_Swapping",
-//        ])
-//        when:
-//        IgniteConfiguration configuration = ctx.getBean(IgniteConfiguration.class)
-//
-//        then:
-//        configuration != null
-//        DataStorageConfiguration dataStorageConfiguration = configuration.getDataStorageConfiguration();
-//        dataStorageConfiguration != null;
-//        dataStorageConfiguration.getDefaultDataRegionConfiguration().name == "one"
-//        dataStorageConfiguration.systemRegionMaxSize == 7000
-//        dataStorageConfiguration.getDataRegionConfigurations().any({k -> k.name == "20MB_Region_Eviction"})
-//        dataStorageConfiguration.getDataRegionConfigurations().any({k -> k.name == "25MB_Region_Swapping"})
-//    }
+    def "test ignite data-storage configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                        : true,
+            "ignite.data-storage.system-region-max-size"            : 7000,
+            "ignite.data-storage.wal-mode"                          : "BACKGROUND",
+            "ignite.data-storage.checkpoint-frequency"              : 60000,
+            "ignite.data-storage.metrics-enabled"                   : true,
+            "ignite.data-storage.regions.default.max-size"          : "64MB",
+            "ignite.data-storage.regions.hot.max-size"              : "20MB",
+            "ignite.data-storage.regions.hot.initial-size"          : "10MB",
+            "ignite.data-storage.regions.hot.page-eviction-mode"    : "RANDOM_2_LRU",
+            "ignite.data-storage.regions.cold.max-size"             : "25MB",
+            "ignite.data-storage.regions.cold.persistence-enabled"  : true,
+            "ignite.data-storage.regions.cold.metrics-enabled"      : true,
+            "ignite.cache-configurations.accounts.data-region-name" : "hot",
+            "ignite.cache-configurations.history.data-region-name"  : "cold"
+        ])
+        when:
+        IgniteConfiguration configuration = ctx.getBean(IgniteConfiguration.class)
+        DataStorageConfiguration dataStorageConfiguration = configuration.getDataStorageConfiguration()
+        DataRegionConfiguration hot = dataStorageConfiguration.dataRegionConfigurations.find({ k -> k.name == "hot" })
+        DataRegionConfiguration cold = dataStorageConfiguration.dataRegionConfigurations.find({ k -> k.name == "cold" })
+        CacheConfiguration accounts = configuration.cacheConfiguration.find({ k -> k.name == "accounts" })
+        CacheConfiguration history = configuration.cacheConfiguration.find({ k -> k.name == "history" })
 
+        then:
+        dataStorageConfiguration.systemRegionMaxSize == 7000
+        dataStorageConfiguration.walMode == WALMode.BACKGROUND
+        dataStorageConfiguration.checkpointFrequency == 60000
+        dataStorageConfiguration.metricsEnabled
+        dataStorageConfiguration.defaultDataRegionConfiguration.name == "default"
+        dataStorageConfiguration.defaultDataRegionConfiguration.maxSize == 64 * 1024 * 1024
+        dataStorageConfiguration.dataRegionConfigurations.size() == 2
+        hot.maxSize == 20 * 1024 * 1024
+        hot.initialSize == 10 * 1024 * 1024
+        hot.pageEvictionMode == DataPageEvictionMode.RANDOM_2_LRU
+        !hot.persistenceEnabled
+        cold.persistenceEnabled
+        cold.metricsEnabled
+        accounts.dataRegionName == "hot"
+        history.dataRegionName == "cold"
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test ignite default data-storage configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled": true
+        ])
+        when:
+        DataStorageConfiguration dataStorageConfiguration = ctx.getBean(IgniteConfiguration.class).getDataStorageConfiguration()
+
+        then:
+        dataStorageConfiguration.defaultDataRegionConfiguration.name == "default"
+        !dataStorageConfiguration.defaultDataRegionConfiguration.persistenceEnabled
+        dataStorageConfiguration.dataRegionConfigurations == null
+        dataStorageConfiguration.walMode == WALMode.LOG_ONLY
+
+        cleanup:
+        ctx.close()
+    }
 }
@@ -0,0 +1,42 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.ignite.configuration.DefaultDataStreamerConfiguration
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.apache.ignite.IgniteDataStreamer
+import spock.lang.Specification
+
+import java.time.Duration
+
+class IgniteDataStreamerConfigurationSpec extends Specification {
+
+    def "test ignite data streamer configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                       : true,
+            "ignite.data-streamers.accounts.per-node-buffer-size"  : 2048,
+            "ignite.data-streamers.accounts.per-node-parallel-operations": 4,
+            "ignite.data-streamers.accounts.auto-flush-frequency"  : "1s",
+            "ignite.data-streamers.accounts.allow-overwrite"       : true,
+            "ignite.data-streamers.books.skip-store"               : true
+        ])
+
+        when:
+        DefaultDataStreamerConfiguration accounts = ctx.getBean(DefaultDataStreamerConfiguration, Qualifiers.byName("accounts"))
+        DefaultDataStreamerConfiguration books = ctx.getBean(DefaultDataStreamerConfiguration, Qualifiers.byName("books"))
+
+        then:
+        accounts.perNodeBufferSize == 2048
+        accounts.perNodeParallelOperations == 4
+        accounts.autoFlushFrequency == Duration.ofSeconds(1)
+        accounts.allowOverwrite
+        !accounts.skipStore
+        books.skipStore
+        books.perNodeBufferSize == IgniteDataStreamer.DFLT_PER_NODE_BUFFER_SIZE
+        books.perNodeParallelOperations == null
+        books.autoFlushFrequency == null
+
+        cleanup:
+        ctx.close()
+    }
+}
@@ -0,0 +1,56 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.IgniteDataStreamer
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class IgniteDataStreamerSpec extends Specification {
+
+    @Shared @AutoCleanup
+    Ignite server = IgniteTestCluster.start("streamer-server")
+
+    def "test the injection points of a cache share a configured streamer flushed on shutdown"() {
+        given: "a client node, so the streamed entries outlive the context"
+        ApplicationContext ctx = IgniteTestCluster.run([
+            "spec.name"                                                  : "IgniteDataStreamerSpec",
+            "ignite.client-mode"                                         : true,
+            "ignite.data-streamers.streamed.per-node-buffer-size"        : 4096,
+            "ignite.data-streamers.streamed.per-thread-buffer-size"      : 1024,
+            "ignite.data-streamers.streamed.per-node-parallel-operations": 3,
+            "ignite.data-streamers.streamed.timeout"                     : "5s",
+            "ignite.data-streamers.streamed.allow-overwrite"             : true,
+            "ignite.data-streamers.streamed.skip-store"                  : true
+        ])
+        StreamingLoaders loaders = ctx.getBean(StreamingLoaders)
+        IgniteDataStreamer<String, Integer> streamer = loaders.accounts
+        IgniteCache<String, Integer> cache = server.cache("streamed")
+
+        expect:
+        loaders.moreAccounts.is(streamer)
+        streamer.cacheName() == "streamed"
+        streamer.perNodeBufferSize() == 4096
+        streamer.perThreadBufferSize() == 1024
+        streamer.perNodeParallelOperations() == 3
+        streamer.timeout() == 5000
+        streamer.allowOverwrite()
+        streamer.skipStore()
+        streamer.autoFlushFrequency() == 0
+
+        when: "fewer entries than the buffers hold are added"
+        (1..100).each { streamer.addData("key-" + it, it) }
+
+        then:
+        cache.size() == 0
+
+        when:
+        ctx.close()
+
+        then: "the shutdown flushes them"
+        cache.size() == 100
+        cache.get("key-42") == 42
+    }
+}
@@ -0,0 +1,132 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.ignite.configuration.DefaultIgniteExecutorConfiguration
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.apache.ignite.Ignite
+import org.apache.ignite.configuration.IgniteConfiguration
+import org.apache.ignite.lang.IgniteCallable
+import org.apache.ignite.resources.IgniteInstanceResource
+import org.apache.ignite.spi.failover.always.AlwaysFailoverSpi
+import org.apache.ignite.spi.loadbalancing.roundrobin.RoundRobinLoadBalancingSpi
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+class IgniteExecutorConfigurationSpec extends Specification {
+
+    def "test executor configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                          : true,
+            "ignite.executors.batch.nodes"            : "remote-servers",
+            "ignite.executors.batch.cache-name"       : "accounts",
+            "ignite.executors.batch.attributes.role"  : "worker",
+        ])
+
+        when:
+        DefaultIgniteExecutorConfiguration configuration = ctx.getBean(DefaultIgniteExecutorConfiguration, Qualifiers.byName("batch"))
+
+        then:
+        configuration.nodes == DefaultIgniteExecutorConfiguration.Nodes.REMOTE_SERVERS
+        configuration.cacheName == "accounts"
+        configuration.attributes == [role: "worker"]
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test load balancing and failover spi"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                   : true,
+            "ignite.failover-spi.maximum-failover-attempts"    : 3,
+            "ignite.load-balancing-spi.round-robin.enabled"    : true,
+            "ignite.load-balancing-spi.round-robin.per-task"   : true,
+        ])
+
+        when:
+        IgniteConfiguration configuration = ctx.getBean(IgniteConfiguration)
+
+        then:
+        (configuration.failoverSpi[0] as AlwaysFailoverSpi).maximumFailoverAttempts == 3
+        (configuration.loadBalancingSpi[0] as RoundRobinLoadBalancingSpi).perTask
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test only one load balancing spi can be enabled"() {
+        when:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"                                     : true,
+            "ignite.load-balancing-spi.round-robin.enabled"      : true,
+            "ignite.load-balancing-spi.weighted-random.enabled"  : true,
+        ])
+        ctx.getBean(IgniteConfiguration)
+
+        then:
+        BeanInstantiationException e = thrown()
+        Throwable cause = e
+        while (cause.cause != null && !(cause instanceof ConfigurationException)) {
+            cause = cause.cause
+        }
+        cause instanceof ConfigurationException
+        cause.message.contains("DefaultRoundRobinLoadBalancingSpi")
+        cause.message.contains("DefaultWeightedRandomLoadBalancingSpi")
+
+        cleanup:
+        ctx?.close()
+    }
+
+    def "test tasks are submitted to the selected nodes"() {
+        given:
+        Ignite worker = IgniteTestCluster.start("worker")
+        ApplicationContext ctx = IgniteTestCluster.run([
+            "ignite.executors.batch.nodes": "remote-servers",
+        ])
+        ExecutorService executor = ctx.getBean(ExecutorService, Qualifiers.byName("batch"))
+
+        when:
+        Future<String> node = executor.submit(new NodeName())
+
+        then:
+        node.get(10, TimeUnit.SECONDS) == "worker"
+
+        when:
+        executor.submit(new Failing()).get(10, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause.message.contains("no report for worker")
+
+        cleanup:
+        ctx.close()
+        worker.close()
+    }
+
+    static class NodeName implements IgniteCallable<String> {
+        @IgniteInstanceResource
+        transient Ignite ignite
+
+        @Override
+        String call() {
+            return ignite.name()
+        }
+    }
+
+    static class Failing implements IgniteCallable<String> {
+        @IgniteInstanceResource
+        transient Ignite ignite
+
+        @Override
+        String call() {
+            throw new IllegalStateException("no report for " + ignite.name())
+        }
+    }
+}
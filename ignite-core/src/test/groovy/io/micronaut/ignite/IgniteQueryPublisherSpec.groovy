@@ -0,0 +1,173 @@
+package io.micronaut.ignite
+
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.query.QueryCursor
+import org.apache.ignite.cache.query.SqlFieldsQuery
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+
+class IgniteQueryPublisherSpec extends Specification {
+
+    Executor direct = { Runnable it -> it.run() } as Executor
+
+    def "test results are emitted as requested"() {
+        given:
+        TestCursor cursor = new TestCursor((1..5).toList())
+        TestSubscriber subscriber = new TestSubscriber()
+        new IgniteQueryPublisher<Integer>({ cursor }, direct).subscribe(subscriber)
+
+        expect:
+        cursor.read == 0
+
+        when:
+        subscriber.subscription.request(2)
+
+        then:
+        subscriber.items == [1, 2]
+        cursor.read == 2
+        !subscriber.completed
+
+        when:
+        subscriber.subscription.request(3)
+
+        then:
+        subscriber.items == [1, 2, 3, 4, 5]
+        subscriber.completed
+        cursor.closed
+    }
+
+    def "test cursor is closed on cancel"() {
+        given:
+        TestCursor cursor = new TestCursor((1..5).toList())
+        TestSubscriber subscriber = new TestSubscriber()
+        new IgniteQueryPublisher<Integer>({ cursor }, direct).subscribe(subscriber)
+
+        when:
+        subscriber.subscription.request(1)
+        subscriber.subscription.cancel()
+        subscriber.subscription.request(1)
+
+        then:
+        subscriber.items == [1]
+        cursor.closed
+        !subscriber.completed
+        subscriber.error == null
+    }
+
+    def "test query failures are signalled"() {
+        given:
+        TestSubscriber subscriber = new TestSubscriber()
+        new IgniteQueryPublisher<Integer>({ throw new IllegalStateException("failed") }, direct).subscribe(subscriber)
+
+        when:
+        subscriber.subscription.request(1)
+
+        then:
+        subscriber.error instanceof IllegalStateException
+    }
+
+    def "test invalid requests are signalled"() {
+        given:
+        TestCursor cursor = new TestCursor([1])
+        TestSubscriber subscriber = new TestSubscriber()
+        new IgniteQueryPublisher<Integer>({ cursor }, direct).subscribe(subscriber)
+
+        when:
+        subscriber.subscription.request(0)
+
+        then:
+        subscriber.error instanceof IllegalArgumentException
+    }
+
+    def "test sql queries run lazily without changing the given query"() {
+        given:
+        ExecutorService executor = Stub()
+        executor.execute(_) >> { Runnable task -> task.run() }
+        IgniteCache<Object, Object> cache = Mock()
+        SqlFieldsQuery query = new SqlFieldsQuery("select 1")
+        SqlFieldsQuery ran = null
+        TestSubscriber subscriber = new TestSubscriber()
+
+        when:
+        new IgniteReactiveQueries(executor).sql(cache, query).subscribe(subscriber)
+        subscriber.subscription.request(1)
+
+        then:
+        1 * cache.query(_) >> { SqlFieldsQuery argument ->
+            ran = argument
+            new TestCursor([1])
+        }
+        subscriber.completed
+        ran.lazy
+        ran.sql == "select 1"
+        !query.lazy
+    }
+
+    static class TestCursor implements QueryCursor<Integer> {
+        final List<Integer> results
+        int read
+        boolean closed
+
+        TestCursor(List<Integer> results) {
+            this.results = results
+        }
+
+        @Override
+        List<Integer> getAll() {
+            return results
+        }
+
+        @Override
+        void close() {
+            closed = true
+        }
+
+        @Override
+        Iterator<Integer> iterator() {
+            Iterator<Integer> delegate = results.iterator()
+            return new Iterator<Integer>() {
+                @Override
+                boolean hasNext() {
+                    return delegate.hasNext()
+                }
+
+                @Override
+                Integer next() {
+                    read++
+                    return delegate.next()
+                }
+            }
+        }
+    }
+
+    static class TestSubscriber implements Subscriber<Integer> {
+        Subscription subscription
+        List<Integer> items = []
+        boolean completed
+        Throwable error
+
+        @Override
+        void onSubscribe(Subscription subscription) {
+            this.subscription = subscription
+        }
+
+        @Override
+        void onNext(Integer item) {
+            items << item
+        }
+
+        @Override
+        void onError(Throwable throwable) {
+            error = throwable
+        }
+
+        @Override
+        void onComplete() {
+            completed = true
+        }
+    }
+}
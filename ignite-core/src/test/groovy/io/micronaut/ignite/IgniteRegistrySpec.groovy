@@ -0,0 +1,52 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.BeanContext
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.core.annotation.AnnotationValue
+import io.micronaut.ignite.annotation.IgniteCacheRef
+import io.micronaut.ignite.configuration.DefaultCacheConfiguration
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import spock.lang.Specification
+
+class IgniteRegistrySpec extends Specification {
+
+    BeanContext beanContext = Mock()
+    IgniteRegistry registry = new IgniteRegistry(beanContext)
+
+    def "the cache is resolved from the named instance"() {
+        given:
+        Ignite other = Mock()
+        IgniteCache<String, String> cache = Stub()
+
+        when:
+        IgniteCache<String, String> resolved = registry.resolveIgniteCache(metadata(
+            AnnotationValue.builder(IgniteCacheRef).value("accounts").member("instanceName", "other").build()))
+
+        then:
+        1 * beanContext.getBean(Ignite, Qualifiers.byName("other")) >> other
+        1 * beanContext.findBean(DefaultCacheConfiguration, Qualifiers.byName("accounts")) >> Optional.empty()
+        1 * other.getOrCreateCache("accounts") >> cache
+        resolved.is(cache)
+    }
+
+    def "the cache is resolved from the default instance"() {
+        given:
+        Ignite ignite = Mock()
+
+        when:
+        registry.resolveIgniteCache(metadata(AnnotationValue.builder(IgniteCacheRef).value("accounts").build()))
+
+        then:
+        1 * beanContext.getBean(Ignite, Qualifiers.byName("default")) >> ignite
+        1 * beanContext.findBean(DefaultCacheConfiguration, _) >> Optional.empty()
+        1 * ignite.getOrCreateCache("accounts") >> Stub(IgniteCache)
+    }
+
+    private AnnotationMetadata metadata(AnnotationValue<IgniteCacheRef> value) {
+        AnnotationMetadata metadata = Stub()
+        metadata.findAnnotation(IgniteCacheRef) >> Optional.of(value)
+        return metadata
+    }
+}
@@ -0,0 +1,133 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.BeanContext
+import io.micronaut.context.BeanRegistration
+import io.micronaut.ignite.configuration.IgniteStartupConfiguration
+import io.micronaut.inject.BeanDefinition
+import io.micronaut.inject.BeanIdentifier
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteException
+import org.apache.ignite.configuration.IgniteConfiguration
+import org.apache.ignite.lifecycle.LifecycleBean
+import org.apache.ignite.lifecycle.LifecycleEventType
+import org.apache.ignite.resources.IgniteInstanceResource
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class IgniteStartupConfigurationSpec extends Specification {
+
+    def "test ignite startup configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+            "ignite.enabled"           : true,
+            "ignite.startup.parallel"  : true,
+            "ignite.startup.background": true
+        ])
+
+        when:
+        IgniteStartup startup = ctx.getBean(IgniteStartup)
+
+        then:
+        startup.configuration.parallel
+        startup.configuration.background
+        startup.nodes.isEmpty()
+        startup.clients.isEmpty()
+        startup.ready().isDone()
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test failed background start"() {
+        given:
+        def executor = Executors.newSingleThreadExecutor()
+        IgniteStartup startup = new IgniteStartup(new IgniteStartupConfiguration(background: true), executor)
+
+        when:
+        CompletableFuture<Ignite> node = startup.startNode("default", { throw new IgniteException("boom") })
+        Ignite ignite = IgniteLazyProxy.create(Ignite, "default", node, {})
+        ignite.name()
+
+        then:
+        IgniteException e = thrown()
+        e.message == "boom"
+        node.isCompletedExceptionally()
+        startup.ready().isCompletedExceptionally()
+        startup.startNode("default", { throw new IllegalStateException() }).is(node)
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def "test nodes start in parallel and find their bean context while starting"() {
+        given:
+        ExecutorService executor = Executors.newFixedThreadPool(2)
+        IgniteStartup startup = new IgniteStartup(new IgniteStartupConfiguration(parallel: true), executor)
+        CountDownLatch starting = new CountDownLatch(2)
+        Map<String, Boolean> together = new ConcurrentHashMap<>()
+        Map<String, BeanContext> contexts = new ConcurrentHashMap<>()
+        IgniteConfiguration first = IgniteTestCluster.configuration("parallel-first")
+            .setLifecycleBeans(new Rendezvous(starting, together, contexts))
+        IgniteConfiguration second = IgniteTestCluster.configuration("parallel-second")
+            .setLifecycleBeans(new Rendezvous(starting, together, contexts))
+        BeanContext beanContext = Stub()
+        beanContext.getBeanRegistrations(IgniteConfiguration) >> [
+            new BeanRegistration<>(BeanIdentifier.of("parallel-first"), Stub(BeanDefinition), first),
+            new BeanRegistration<>(BeanIdentifier.of("parallel-second"), Stub(BeanDefinition), second)
+        ]
+        IgniteFactory factory = new IgniteFactory(beanContext, startup)
+
+        when:
+        Ignite node = factory.ignite("parallel-first", first)
+        Ignite other = IgniteStartup.await(startup.node("parallel-second"))
+
+        then: "each node waited for the other one to be starting"
+        together == ["parallel-first": true, "parallel-second": true]
+
+        and: "the bean context was found before the nodes joined"
+        contexts == ["parallel-first": beanContext, "parallel-second": beanContext]
+        IgniteBeanContextLifecycleBean.find(node).get().is(beanContext)
+        node.cluster().nodes().size() == 2
+        other.configuration().lifecycleBeans.count { it instanceof IgniteBeanContextLifecycleBean } == 1
+        startup.ready().isDone()
+
+        cleanup:
+        factory.close()
+        executor.shutdown()
+    }
+
+    /**
+     * Waits before a node starts until all nodes are starting, and records the bean context found by the node.
+     */
+    static class Rendezvous implements LifecycleBean {
+        final CountDownLatch starting
+        final Map<String, Boolean> together
+        final Map<String, BeanContext> contexts
+
+        @IgniteInstanceResource
+        Ignite ignite
+
+        Rendezvous(CountDownLatch starting, Map<String, Boolean> together, Map<String, BeanContext> contexts) {
+            this.starting = starting
+            this.together = together
+            this.contexts = contexts
+        }
+
+        @Override
+        void onLifecycleEvent(LifecycleEventType evt) {
+            if (evt == LifecycleEventType.BEFORE_NODE_START) {
+                String name = ignite.name()
+                IgniteBeanContextLifecycleBean.find(ignite).ifPresent { contexts.put(name, it) }
+                starting.countDown()
+                together.put(name, starting.await(10, TimeUnit.SECONDS))
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.ignite.binary.IntrospectedBinaryTypes
+import org.apache.ignite.Ignite
+import org.apache.ignite.Ignition
+import org.apache.ignite.configuration.BinaryConfiguration
+import org.apache.ignite.configuration.ClientConnectorConfiguration
+import org.apache.ignite.configuration.IgniteConfiguration
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder
+
+/**
+ * Starts in-process Ignite nodes and contexts on the loopback interface, which only discover each other.
+ */
+class IgniteTestCluster {
+    static final int DISCOVERY_PORT = 48600
+    static final int CLIENT_PORT = 10900
+    static final String ADDRESSES = "127.0.0.1:${DISCOVERY_PORT}..${DISCOVERY_PORT + 9}"
+
+    /**
+     * Run a context whose default ignite node joins the test cluster.
+     */
+    static ApplicationContext run(Map<String, Object> properties) {
+        return ApplicationContext.run([
+            "ignite.enabled"                                    : true,
+            "ignite.local-host"                                 : "127.0.0.1",
+            "ignite.metrics-log-frequency"                      : 0,
+            "ignite.discovery-spi.local-port"                   : DISCOVERY_PORT,
+            "ignite.discovery-spi.local-port-range"             : 10,
+            "ignite.discovery-spi.static-ip-finder.enabled"     : true,
+            "ignite.discovery-spi.static-ip-finder.addresses[0]": ADDRESSES
+        ] + properties)
+    }
+
+    /**
+     * Start a node of the test cluster, which accepts thin clients on {@link #CLIENT_PORT}. It registers the same
+     * binary types as the nodes of the contexts, or they could not join the same cluster.
+     */
+    static Ignite start(String name, boolean client = false) {
+        return Ignition.start(configuration(name, client))
+    }
+
+    /**
+     * The configuration of a node of the test cluster.
+     */
+    static IgniteConfiguration configuration(String name, boolean client = false) {
+        TcpDiscoveryVmIpFinder ipFinder = new TcpDiscoveryVmIpFinder(true)
+        ipFinder.setAddresses([ADDRESSES])
+        return new IgniteConfiguration()
+            .setIgniteInstanceName(name)
+            .setClientMode(client)
+            .setLocalHost("127.0.0.1")
+            .setMetricsLogFrequency(0)
+            .setBinaryConfiguration(IntrospectedBinaryTypes.configure(new BinaryConfiguration(), null, null))
+            .setClientConnectorConfiguration(new ClientConnectorConfiguration().setPort(CLIENT_PORT))
+            .setDiscoverySpi(new TcpDiscoverySpi().setLocalPort(DISCOVERY_PORT).setLocalPortRange(10).setIpFinder(ipFinder))
+    }
+}
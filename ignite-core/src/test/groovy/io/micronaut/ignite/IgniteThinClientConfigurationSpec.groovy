@@ -1,6 +1,8 @@
 package io.micronaut.ignite
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.ignite.configuration.DefaultThinClientNearCacheConfiguration
+import io.micronaut.inject.qualifiers.Qualifiers
 import org.apache.ignite.client.IgniteClient
 import org.apache.ignite.client.SslMode
 import org.apache.ignite.configuration.ClientConfiguration
@@ -12,6 +14,8 @@ import spock.lang.Retry
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.time.Duration
+
 @Testcontainers
 @Retry
 class IgniteThinClientConfigurationSpec extends Specification {
@@ -77,4 +81,30 @@ class IgniteThinClientConfigurationSpec extends Specification {
         clientConfiguration.transactionConfiguration.defaultTxTimeout == 5000
         clientConfiguration.transactionConfiguration.defaultTxConcurrency == TransactionConcurrency.PESSIMISTIC
     }
+
+    void "test ignite thin client near cache configuration"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(ApplicationContext, [
+            "ignite-thin-client.enabled"                                 : true,
+            "ignite-thin-client.addresses"                               : ["localhost:1080"],
+            "ignite-thin-client.near-caches.accounts.max-size"           : 500,
+            "ignite-thin-client.near-caches.accounts.expire-after-write" : "5m",
+            "ignite-thin-client.near-caches.accounts.expire-after-access": "30s",
+            "ignite-thin-client.near-caches.books.enabled"               : false,
+        ])
+        when:
+        DefaultThinClientNearCacheConfiguration accounts = ctx.getBean(DefaultThinClientNearCacheConfiguration.class, Qualifiers.byName("accounts"))
+        DefaultThinClientNearCacheConfiguration books = ctx.getBean(DefaultThinClientNearCacheConfiguration.class, Qualifiers.byName("books"))
+
+        then:
+        accounts.enabled
+        accounts.maxSize == 500
+        accounts.expireAfterWrite == Duration.ofMinutes(5)
+        accounts.expireAfterAccess == Duration.ofSeconds(30)
+        !books.enabled
+        books.maxSize == DefaultThinClientNearCacheConfiguration.DEFAULT_MAX_SIZE
+
+        cleanup:
+        ctx.close()
+    }
 }
@@ -0,0 +1,118 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.CacheAtomicityMode
+import org.apache.ignite.client.ClientException
+import org.apache.ignite.configuration.CacheConfiguration
+import org.apache.ignite.transactions.TransactionRollbackException
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class IgniteThinTransactionSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    Ignite server = IgniteTestCluster.start("thin-transaction-server")
+
+    @Shared
+    IgniteCache<String, Integer> accounts = server.getOrCreateCache(
+        new CacheConfiguration<String, Integer>("thin-accounts").setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL))
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext ctx = run([:])
+
+    ThinTransactionalAccounts service = ctx.getBean(ThinTransactionalAccounts)
+
+    def setup() {
+        service.attempts.set(0)
+        accounts.putAll([alice: 100, bob: 100])
+    }
+
+    def "the transaction is committed or rolled back with the method"() {
+        when:
+        service.open("carol", 10)
+
+        then:
+        accounts.get("carol") == 10
+        server.transactions().localActiveTransactions().empty
+
+        when:
+        service.open("dave", -10)
+
+        then:
+        thrown(IllegalArgumentException)
+        !accounts.containsKey("dave")
+    }
+
+    def "a nested method joins the transaction of the thread"() {
+        when:
+        service.transfer("alice", "bob", 30)
+
+        then:
+        accounts.get("alice") == 70
+        accounts.get("bob") == 130
+    }
+
+    def "a joined method failing rolls back the whole transaction"() {
+        when:
+        service.transferAfterFailure("alice", 30)
+
+        then:
+        thrown(TransactionRollbackException)
+        accounts.get("alice") == 100
+    }
+
+    def "a thin client transaction can't be suspended"() {
+        when:
+        service.audit()
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("propagation REQUIRES_NEW is not supported within a transaction")
+
+        when:
+        service.balance("alice")
+
+        then:
+        e = thrown(IllegalStateException)
+        e.message.contains("only support synchronous methods")
+    }
+
+    def "a method is retried when the thin client transaction conflicts"() {
+        when:
+        int attempt = service.deposit("alice", 10, 2)
+
+        then:
+        attempt == 3
+        accounts.get("alice") == 2110
+    }
+
+    def "only the configured errors are retried"() {
+        given:
+        ApplicationContext other = run(["ignite-thin-client.transaction-retry.errors": ["Unknown error"]])
+        ThinTransactionalAccounts otherService = other.getBean(ThinTransactionalAccounts)
+
+        when:
+        otherService.deposit("alice", 10, 1)
+
+        then:
+        thrown(ClientException)
+        otherService.attempts.get() == 1
+        accounts.get("alice") == 1100
+
+        cleanup:
+        other.close()
+    }
+
+    private static ApplicationContext run(Map<String, Object> properties) {
+        return ApplicationContext.run([
+            "spec.name"                   : "IgniteThinTransactionSpec",
+            "ignite-thin-client.enabled"  : true,
+            "ignite-thin-client.addresses": ["127.0.0.1:" + IgniteTestCluster.CLIENT_PORT]
+        ] + properties)
+    }
+}
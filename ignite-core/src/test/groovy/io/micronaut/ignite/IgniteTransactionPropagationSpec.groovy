@@ -0,0 +1,92 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.CacheAtomicityMode
+import org.apache.ignite.configuration.CacheConfiguration
+import org.apache.ignite.transactions.Transaction
+import org.apache.ignite.transactions.TransactionState
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class IgniteTransactionPropagationSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext ctx = IgniteTestCluster.run(["spec.name": "IgniteTransactionPropagationSpec"])
+
+    @Shared
+    Ignite ignite = ctx.getBean(Ignite)
+
+    @Shared
+    IgniteCache<String, String> ledgerCache = ignite.getOrCreateCache(
+        new CacheConfiguration<String, String>("ledger").setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL))
+
+    TransactionalJournal journal = ctx.getBean(TransactionalJournal)
+    TransactionalLedger ledger = ctx.getBean(TransactionalLedger)
+
+    def "REQUIRED, MANDATORY and SUPPORTS join the active transaction"() {
+        when:
+        List<Transaction> transactions = journal.join()
+
+        then:
+        transactions[0] != null
+        transactions.every { it.xid() == transactions[0].xid() }
+        ignite.transactions().tx() == null
+    }
+
+    def "REQUIRED starts a transaction and SUPPORTS runs without one when none is active"() {
+        expect:
+        ledger.required() != null
+        ledger.supports() == null
+        ledger.never() == null
+    }
+
+    def "REQUIRES_NEW commits its own transaction and resumes the suspended one"() {
+        given:
+        List<Transaction> transactions = []
+
+        when:
+        journal.suspend("transfer", transactions)
+
+        then:
+        thrown(IllegalArgumentException)
+        transactions[1].xid() != transactions[0].xid()
+        transactions[2].xid() == transactions[0].xid()
+        transactions[0].state() == TransactionState.ROLLED_BACK
+        ledgerCache.get("transfer") == "committed"
+        !ledgerCache.containsKey("transfer-outer")
+    }
+
+    def "MANDATORY fails without an active transaction"() {
+        when:
+        ledger.mandatory()
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("No active transaction for method with propagation MANDATORY")
+    }
+
+    def "NEVER fails within an active transaction"() {
+        when:
+        journal.never()
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("Active transaction for method with propagation NEVER")
+        ignite.transactions().tx() == null
+    }
+
+    def "a joined method failing rolls back the whole transaction"() {
+        when:
+        journal.recordAfterFailure("refund")
+
+        then:
+        thrown(RuntimeException)
+        !ledgerCache.containsKey("refund")
+        !ledgerCache.containsKey("refund-inner")
+        ignite.transactions().tx() == null
+    }
+}
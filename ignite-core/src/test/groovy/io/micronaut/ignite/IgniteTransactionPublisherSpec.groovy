@@ -0,0 +1,137 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import io.reactivex.Flowable
+import io.reactivex.subscribers.TestSubscriber
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.CacheAtomicityMode
+import org.apache.ignite.configuration.CacheConfiguration
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Timeout
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.TimeUnit
+
+class IgniteTransactionPublisherSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext ctx = IgniteTestCluster.run(["spec.name": "IgniteTransactionPublisherSpec"])
+
+    @Shared
+    Ignite ignite = ctx.getBean(Ignite)
+
+    @Shared
+    IgniteCache<String, String> ledgerCache = ignite.getOrCreateCache(
+        new CacheConfiguration<String, String>("reactive-ledger").setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL))
+
+    ReactiveLedger ledger = ctx.getBean(ReactiveLedger)
+
+    def setup() {
+        ledger.transactions.clear()
+    }
+
+    def "the transaction is committed when the publisher completes"() {
+        expect:
+        ledger.record("single").blockingGet() == "single"
+        ledgerCache.get("single") == "recorded"
+        ignite.transactions().tx() == null
+    }
+
+    def "the transaction is resumed while items are requested"() {
+        given:
+        Flowable<String> flowable = ledger.recordAll("one", "two", "three")
+        TestSubscriber<String> subscriber = new TestSubscriber<>(0)
+
+        when:
+        flowable.subscribe(subscriber)
+        subscriber.request(1)
+        subscriber.request(1)
+
+        then:
+        subscriber.values() == ["one", "two"]
+        ledger.transactions.size() == 2
+        ledger.transactions.unique(false).size() == 1
+        ignite.transactions().tx() == null
+        !ledgerCache.containsKey("one")
+
+        when:
+        subscriber.request(1)
+
+        then:
+        subscriber.assertComplete()
+        ledger.transactions.unique(false).size() == 1
+        ledgerCache.getAll(["one", "two", "three"] as Set).size() == 3
+    }
+
+    def "the transaction is rolled back when the publisher fails"() {
+        when:
+        ledger.recordThenFail("failed").blockingSubscribe()
+
+        then:
+        thrown(IllegalStateException)
+        !ledgerCache.containsKey("failed")
+        ignite.transactions().tx() == null
+    }
+
+    def "the transaction is rolled back when the subscription is cancelled"() {
+        given:
+        TestSubscriber<String> subscriber = new TestSubscriber<>(0)
+        ledger.recordAll("cancelled", "never").subscribe(subscriber)
+
+        when:
+        subscriber.request(1)
+        subscriber.cancel()
+
+        then:
+        subscriber.values() == ["cancelled"]
+        !ledgerCache.containsKey("cancelled")
+        ignite.transactions().tx() == null
+    }
+
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    def "a publisher completed on another thread while it is subscribed to is committed"() {
+        when:
+        List<String> values = ledger.recordFromAnotherThread("async").toList().blockingGet()
+
+        then:
+        values == ["async"]
+        ledgerCache.get("async") == "recorded"
+        ignite.transactions().tx() == null
+    }
+
+    def "the transaction is rolled back when the publisher is not subscribed to in time"() {
+        given:
+        Flowable<String> flowable = ledger.recordLater("late")
+
+        expect:
+        new PollingConditions(timeout: 5).eventually {
+            assert ignite.transactions().localActiveTransactions().empty
+        }
+
+        when:
+        flowable.blockingSubscribe()
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("not subscribed to within")
+        !ledgerCache.containsKey("late")
+    }
+
+    def "a publisher can only be subscribed once"() {
+        given:
+        Flowable<String> flowable = ledger.recordAll("once")
+        flowable.blockingSubscribe()
+
+        when:
+        flowable.blockingSubscribe()
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("only be subscribed once")
+        ledgerCache.get("once") == "recorded"
+    }
+}
@@ -0,0 +1,86 @@
+package io.micronaut.ignite
+
+import io.micronaut.context.ApplicationContext
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.CacheAtomicityMode
+import org.apache.ignite.configuration.CacheConfiguration
+import org.apache.ignite.configuration.TransactionConfiguration
+import org.apache.ignite.transactions.Transaction
+import org.apache.ignite.transactions.TransactionConcurrency
+import org.apache.ignite.transactions.TransactionIsolation
+import org.apache.ignite.transactions.TransactionOptimisticException
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class IgniteTransactionSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext ctx = IgniteTestCluster.run(["spec.name": "IgniteTransactionSpec"])
+
+    @Shared
+    IgniteCache<String, Integer> accounts = ctx.getBean(Ignite).getOrCreateCache(
+        new CacheConfiguration<String, Integer>("accounts").setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL))
+
+    TransactionalAccounts service = ctx.getBean(TransactionalAccounts)
+
+    def setup() {
+        service.attempts.set(0)
+        accounts.put("alice", 100)
+    }
+
+    def "the transaction uses the defaults of the instance unless the annotation sets them"() {
+        when:
+        Transaction defaults = service.defaults()
+        Transaction described = service.describe()
+
+        then:
+        defaults.concurrency() == TransactionConfiguration.DFLT_TX_CONCURRENCY
+        defaults.isolation() == TransactionConfiguration.DFLT_TX_ISOLATION
+        defaults.timeout() == TransactionConfiguration.DFLT_TRANSACTION_TIMEOUT
+        described.concurrency() == TransactionConcurrency.OPTIMISTIC
+        described.isolation() == TransactionIsolation.SERIALIZABLE
+        described.timeout() == 5000
+        described.label() == "describe"
+    }
+
+    def "a method is retried in a new transaction when an optimistic transaction fails"() {
+        when:
+        int attempt = service.deposit("alice", 10, 2)
+
+        then:
+        attempt == 3
+        accounts.get("alice") == 2110
+    }
+
+    def "the failure is thrown once the retries are exhausted"() {
+        when:
+        service.deposit("alice", 10, 3)
+
+        then:
+        def e = thrown(RuntimeException)
+        causes(e).any { it instanceof TransactionOptimisticException }
+        service.attempts.get() == 3
+        accounts.get("alice") == 3100
+    }
+
+    def "a method failing with another error is not retried and rolled back"() {
+        when:
+        service.withdraw("alice", 500)
+
+        then:
+        thrown(IllegalArgumentException)
+        service.attempts.get() == 1
+        accounts.get("alice") == 100
+    }
+
+    private static List<Throwable> causes(Throwable throwable) {
+        List<Throwable> causes = []
+        for (Throwable cause = throwable; cause != null && !causes.contains(cause); cause = cause.cause) {
+            causes << cause
+        }
+        return causes
+    }
+}
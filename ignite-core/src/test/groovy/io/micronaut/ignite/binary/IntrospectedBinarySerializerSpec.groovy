@@ -0,0 +1,153 @@
+package io.micronaut.ignite.binary
+
+import io.micronaut.ignite.BinaryAddress
+import io.micronaut.ignite.BinaryProfile
+import org.apache.ignite.Ignite
+import org.apache.ignite.Ignition
+import org.apache.ignite.binary.BinaryObject
+import org.apache.ignite.configuration.BinaryConfiguration
+import org.apache.ignite.configuration.IgniteConfiguration
+import org.apache.ignite.internal.IgniteEx
+import org.apache.ignite.internal.binary.BinaryContext
+import org.apache.ignite.internal.binary.BinaryObjectImpl
+import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.sql.Timestamp
+
+/**
+ * Writes values with the reflection based serializer and reads them with the {@link IntrospectedBinarySerializer},
+ * and the other way around. Nodes with different binary type configurations cannot join the same cluster, so each
+ * serializer runs on its own single node cluster and the marshalled bytes are passed between them.
+ */
+class IntrospectedBinarySerializerSpec extends Specification {
+
+    @Shared @AutoCleanup
+    Ignite reflection = start("reflection", 48620, new BinaryConfiguration())
+
+    @Shared @AutoCleanup
+    Ignite introspected = start("introspected", 48621, IntrospectedBinaryTypes.configure(new BinaryConfiguration(), null, null))
+
+    def setupSpec() {
+        // register the type mappings, which a node learns when it first writes a type
+        reflection.binary().toBinary(fullProfile())
+        introspected.binary().toBinary(fullProfile())
+    }
+
+    def "only the introspected node uses the introspected serializer"() {
+        expect:
+        !reflection.configuration().binaryConfiguration.typeConfigurations
+        introspected.configuration().binaryConfiguration.typeConfigurations.find {
+            it.typeName == BinaryProfile.name
+        }.serializer instanceof IntrospectedBinarySerializer
+    }
+
+    @Unroll
+    def "a #description profile written through #writerName is read through #readerName"() {
+        given:
+        Ignite writer = this."$writerName"
+        Ignite reader = this."$readerName"
+
+        when:
+        BinaryProfile read = transfer(writer, reader, profile)
+
+        then:
+        !read.is(profile)
+        sameProfile(read, profile)
+
+        where:
+        writerName     | readerName     | description | profile
+        "reflection"   | "introspected" | "full"      | fullProfile()
+        "reflection"   | "introspected" | "empty"     | new BinaryProfile()
+        "introspected" | "reflection"   | "full"      | fullProfile()
+        "introspected" | "reflection"   | "empty"     | new BinaryProfile()
+    }
+
+    def "both serializers write the same field types"() {
+        when:
+        BinaryObject written = reflection.binary().toBinary(fullProfile())
+        BinaryObject introspectedWritten = introspected.binary().toBinary(fullProfile())
+
+        then:
+        introspectedWritten.type().fieldNames() as Set == written.type().fieldNames() as Set
+        written.type().fieldNames().every { String field ->
+            written.type().fieldTypeName(field) == introspectedWritten.type().fieldTypeName(field)
+        }
+        introspectedWritten.<BinaryObject> field("address").<String> field("city") == "Utrecht"
+        introspectedWritten.<BinaryObject> field("tier").enumName() == "GOLD"
+    }
+
+    private static Ignite start(String name, int port, BinaryConfiguration binaryConfiguration) {
+        TcpDiscoveryVmIpFinder ipFinder = new TcpDiscoveryVmIpFinder(true)
+        ipFinder.setAddresses(["127.0.0.1:$port".toString()])
+        return Ignition.start(new IgniteConfiguration()
+            .setIgniteInstanceName(name)
+            .setLocalHost("127.0.0.1")
+            .setMetricsLogFrequency(0)
+            // without the field ids in the footer the reader would need the metadata of the writing cluster
+            .setBinaryConfiguration(binaryConfiguration.setCompactFooter(false))
+            .setDiscoverySpi(new TcpDiscoverySpi().setLocalPort(port).setLocalPortRange(1).setIpFinder(ipFinder)))
+    }
+
+    private static BinaryProfile transfer(Ignite writer, Ignite reader, BinaryProfile profile) {
+        byte[] bytes = ((BinaryObjectImpl) writer.binary().toBinary(profile)).array()
+        BinaryContext context = ((CacheObjectBinaryProcessorImpl) ((IgniteEx) reader).context().cacheObjects()).binaryContext()
+        return new BinaryObjectImpl(context, bytes, 0).deserialize()
+    }
+
+    private static BinaryProfile fullProfile() {
+        BinaryAddress address = new BinaryAddress()
+        address.city = "Utrecht"
+        address.number = 12
+        Timestamp updated = new Timestamp(1_600_000_000_000L)
+        updated.nanos = 123_456_789
+        BinaryProfile profile = new BinaryProfile()
+        profile.active = true
+        profile.verified = false
+        profile.initial = 'j' as char
+        profile.visits = 7
+        profile.rating = 4
+        profile.balance = 1_000L
+        profile.limit = 5_000L
+        profile.score = 0.5d
+        profile.owner = "jane"
+        profile.id = UUID.randomUUID()
+        profile.created = new Date(1_500_000_000_000L)
+        profile.updated = updated
+        profile.credit = new BigDecimal("1234.5678")
+        profile.avatar = [1, 2, 3] as byte[]
+        profile.tier = BinaryProfile.Tier.GOLD
+        profile.address = address
+        profile.tags = ["a", "b"]
+        return profile
+    }
+
+    private static boolean sameProfile(BinaryProfile read, BinaryProfile profile) {
+        assert read.active == profile.active
+        assert read.verified == profile.verified
+        assert read.initial == profile.initial
+        assert read.visits == profile.visits
+        assert read.rating == profile.rating
+        assert read.balance == profile.balance
+        assert read.limit == profile.limit
+        assert read.score == profile.score
+        assert read.owner == profile.owner
+        assert read.id == profile.id
+        assert read.created == profile.created
+        assert read.created?.class == profile.created?.class
+        assert read.updated == profile.updated
+        assert read.updated?.nanos == profile.updated?.nanos
+        assert read.credit == profile.credit
+        assert read.avatar == profile.avatar
+        assert read.tier == profile.tier
+        assert read.address?.city == profile.address?.city
+        assert read.address?.number == profile.address?.number
+        assert read.tags == profile.tags
+        return true
+    }
+}
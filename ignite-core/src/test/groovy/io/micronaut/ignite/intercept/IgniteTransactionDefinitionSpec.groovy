@@ -0,0 +1,105 @@
+package io.micronaut.ignite.intercept
+
+import io.micronaut.core.annotation.AnnotationValue
+import io.micronaut.ignite.annotation.IgniteTransaction
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteTransactions
+import org.apache.ignite.configuration.IgniteConfiguration
+import org.apache.ignite.configuration.TransactionConfiguration
+import org.apache.ignite.transactions.TransactionConcurrency
+import org.apache.ignite.transactions.TransactionDeadlockException
+import org.apache.ignite.transactions.TransactionIsolation
+import org.apache.ignite.transactions.TransactionOptimisticException
+import org.apache.ignite.transactions.TransactionRollbackException
+import org.apache.ignite.transactions.TransactionTimeoutException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.cache.CacheException
+
+class IgniteTransactionDefinitionSpec extends Specification {
+
+    Ignite ignite = Stub {
+        configuration() >> new IgniteConfiguration().setTransactionConfiguration(new TransactionConfiguration()
+            .setDefaultTxConcurrency(TransactionConcurrency.OPTIMISTIC)
+            .setDefaultTxIsolation(TransactionIsolation.READ_COMMITTED)
+            .setDefaultTxTimeout(3000))
+        transactions() >> Stub(IgniteTransactions)
+    }
+
+    def "the defaults of the instance are used unless the annotation sets the attributes"() {
+        when:
+        IgniteTransactionDefinition defaults = definition(AnnotationValue.builder(IgniteTransaction).build())
+        IgniteTransactionDefinition set = definition(AnnotationValue.builder(IgniteTransaction)
+            .member("concurrency", IgniteTransaction.Concurrency.PESSIMISTIC)
+            .member("isolation", IgniteTransaction.Isolation.SERIALIZABLE)
+            .member("timeout", "5s")
+            .build())
+        IgniteTransactionDefinition sentinel = definition(AnnotationValue.builder(IgniteTransaction)
+            .member("concurrency", IgniteTransaction.Concurrency.DEFAULT)
+            .member("isolation", IgniteTransaction.Isolation.DEFAULT)
+            .build())
+
+        then:
+        defaults.concurrency == TransactionConcurrency.OPTIMISTIC
+        defaults.isolation == TransactionIsolation.READ_COMMITTED
+        defaults.timeout == 3000
+        set.concurrency == TransactionConcurrency.PESSIMISTIC
+        set.isolation == TransactionIsolation.SERIALIZABLE
+        set.timeout == 5000
+        sentinel.concurrency == TransactionConcurrency.OPTIMISTIC
+        sentinel.isolation == TransactionIsolation.READ_COMMITTED
+    }
+
+    @Unroll
+    def "a #failure.class.simpleName is retried while attempts are left"() {
+        given:
+        IgniteTransactionDefinition definition = definition(AnnotationValue.builder(IgniteTransaction)
+            .member("retries", 2).build())
+
+        expect:
+        definition.shouldRetry(0, failure)
+        definition.shouldRetry(0, new CacheException(failure))
+        definition.shouldRetry(1, new CacheException(new RuntimeException(failure)))
+        !definition.shouldRetry(2, failure)
+
+        where:
+        failure << [
+            new TransactionOptimisticException("conflict"),
+            new TransactionDeadlockException("deadlock"),
+            new TransactionTimeoutException("timeout")
+        ]
+    }
+
+    def "other failures are not retried"() {
+        given:
+        IgniteTransactionDefinition definition = definition(AnnotationValue.builder(IgniteTransaction)
+            .member("retries", 2).build())
+
+        expect:
+        !definition.shouldRetry(0, new IllegalArgumentException("invalid"))
+        !definition.shouldRetry(0, new CacheException(new TransactionRollbackException("rolled back")))
+    }
+
+    def "methods are not retried by default"() {
+        expect:
+        !definition(AnnotationValue.builder(IgniteTransaction).build())
+            .shouldRetry(0, new TransactionOptimisticException("conflict"))
+    }
+
+    def "the retry delay doubles up to the maximum delay"() {
+        given:
+        IgniteTransactionDefinition definition = definition(AnnotationValue.builder(IgniteTransaction)
+            .member("retryDelay", "100ms").member("maxRetryDelay", "300ms").build())
+
+        expect:
+        definition.retryDelay(0) in 50L..100L
+        definition.retryDelay(1) in 100L..200L
+        definition.retryDelay(2) in 150L..300L
+        definition.retryDelay(40) in 150L..300L
+    }
+
+    private IgniteTransactionDefinition definition(AnnotationValue<IgniteTransaction> transaction) {
+        return IgniteTransactionDefinition.of(ignite, transaction)
+    }
+}
@@ -0,0 +1,185 @@
+package io.micronaut.ignite.listener
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.BeanContext
+import io.micronaut.ignite.CacheChangeListeners
+import io.micronaut.ignite.IgniteRegistry
+import io.micronaut.ignite.IgniteTestCluster
+import io.micronaut.inject.ExecutableMethod
+import org.apache.ignite.Ignite
+import org.apache.ignite.IgniteCache
+import org.apache.ignite.cache.CachePeekMode
+import org.apache.ignite.cache.query.ContinuousQuery
+import org.apache.ignite.cache.query.QueryCursor
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.cache.Cache
+import javax.cache.event.CacheEntryEvent
+import javax.cache.event.EventType
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class IgniteCacheListenerSpec extends Specification {
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    def "test listeners receive the updates of a cache"() {
+        given:
+        ApplicationContext ctx = IgniteTestCluster.run([
+            "spec.name"                                     : "IgniteCacheListenerSpec",
+            "ignite.continuous-queries.listened.buffer-size"  : 16,
+            "ignite.continuous-queries.listened.time-interval": "50ms",
+        ])
+        CacheChangeListeners listeners = ctx.getBean(CacheChangeListeners)
+        IgniteCache<String, Integer> cache = ctx.getBean(Ignite).cache("listened")
+        List<Integer> values = (1..200).toList()
+
+        when:
+        values.each { cache.put("counter", it) }
+
+        then: "single events arrive in the order of the updates"
+        conditions.eventually {
+            assert listeners.events == values
+        }
+        listeners.overlaps.get() == 0
+
+        and: "batches arrive in order as lists"
+        conditions.eventually {
+            assert listeners.batches.flatten() == values
+        }
+
+        and: "the remote filter drops the odd values"
+        conditions.eventually {
+            assert listeners.evenEvents == values.findAll { it % 2 == 0 }
+        }
+
+        cleanup:
+        ctx.close()
+    }
+
+    def "test a listener on a client node starts the near cache of the cache"() {
+        given:
+        Ignite server = IgniteTestCluster.start("listener-server")
+        ApplicationContext ctx = IgniteTestCluster.run([
+            "spec.name"                                                        : "IgniteCacheListenerSpec",
+            "ignite.client-mode"                                               : true,
+            "ignite.cache-configurations.listened.near-configuration.max-size": 100
+        ])
+        CacheChangeListeners listeners = ctx.getBean(CacheChangeListeners)
+        IgniteCache<String, Integer> cache = ctx.getBean(Ignite).cache("listened")
+
+        when:
+        cache.put("counter", 2)
+        cache.get("counter")
+
+        then:
+        conditions.eventually {
+            assert listeners.events == [2]
+        }
+        cache.localPeek("counter", CachePeekMode.NEAR) == 2
+
+        cleanup:
+        ctx.close()
+        server.close()
+    }
+
+    def "test the dispatcher delivers batches in order and one at a time"() {
+        given:
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+        List<Object> delivered = new CopyOnWriteArrayList<>()
+        AtomicInteger inFlight = new AtomicInteger()
+        AtomicInteger overlaps = new AtomicInteger()
+        ExecutableMethod<Object, Object> method = Mock()
+        method.invoke(*_) >> { List<Object> arguments ->
+            if (inFlight.incrementAndGet() > 1) {
+                overlaps.incrementAndGet()
+            }
+            Object argument = arguments[1]
+            delivered.add(argument instanceof Object[] ? ((Object[]) argument)[0] : argument)
+            inFlight.decrementAndGet()
+            return null
+        }
+        IgniteCacheEventDispatcher<String, Integer> single = new IgniteCacheEventDispatcher<>(new Object(), method, false, executor)
+
+        when:
+        (1..50).each { int i ->
+            single.onUpdated([event(i * 2 - 1), event(i * 2)])
+        }
+
+        then:
+        conditions.eventually {
+            assert delivered.collect { (it as CacheEntryEvent).value } == (1..100).toList()
+        }
+        overlaps.get() == 0
+
+        cleanup:
+        executor.shutdownNow()
+        executor.awaitTermination(10, TimeUnit.SECONDS)
+    }
+
+    def "test queries are not registered after the shutdown"() {
+        given:
+        IgniteCacheListenerProcessor processor = new IgniteCacheListenerProcessor(Stub(BeanContext), null, new IgniteRegistry(Stub(BeanContext)))
+        Ignite ignite = Mock()
+
+        when:
+        processor.onApplicationEvent(null)
+        processor.register(ignite, "listened", new ContinuousQuery<Object, Object>())
+
+        then:
+        0 * ignite.getOrCreateCache(_)
+    }
+
+    def "test a query registered during the shutdown is closed"() {
+        given:
+        IgniteCacheListenerProcessor processor = new IgniteCacheListenerProcessor(Stub(BeanContext), null, new IgniteRegistry(Stub(BeanContext)))
+        QueryCursor<?> cursor = Mock()
+        IgniteCache<Object, Object> cache = Stub()
+        cache.query(_ as ContinuousQuery) >> {
+            processor.onApplicationEvent(null)
+            return cursor
+        }
+        Ignite ignite = Stub()
+        ignite.getOrCreateCache("listened") >> cache
+
+        when:
+        processor.register(ignite, "listened", new ContinuousQuery<Object, Object>())
+
+        then:
+        1 * cursor.close()
+        processor.queries.isEmpty()
+    }
+
+    private CacheEntryEvent<String, Integer> event(int value) {
+        return new CacheEntryEvent<String, Integer>(Stub(Cache), EventType.UPDATED) {
+            @Override
+            Integer getOldValue() {
+                return null
+            }
+
+            @Override
+            boolean isOldValueAvailable() {
+                return false
+            }
+
+            @Override
+            String getKey() {
+                return "counter"
+            }
+
+            @Override
+            Integer getValue() {
+                return value
+            }
+
+            @Override
+            def <T> T unwrap(Class<T> type) {
+                throw new IllegalArgumentException()
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.store.IgniteCacheStoreSession;
+import org.apache.ignite.cache.store.CacheStoreAdapter;
+import org.apache.ignite.lang.IgniteBiInClosure;
+
+import javax.cache.Cache;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Singleton
+@Named("accounts")
+@Requires(property = "spec.name", value = "IgniteCacheStoreSpec")
+public class AccountCacheStore extends CacheStoreAdapter<String, Double> {
+    final Map<String, Double> table = new ConcurrentHashMap<>();
+    final Map<String, IgniteCacheStoreSession> sessions = new ConcurrentHashMap<>();
+    final Map<String, String> sessionCaches = new ConcurrentHashMap<>();
+
+    @Override
+    public void loadCache(IgniteBiInClosure<String, Double> clo, Object... args) {
+        table.forEach(clo::apply);
+    }
+
+    @Override
+    public Double load(String key) {
+        IgniteCacheStoreSession.current().ifPresent(session -> {
+            sessions.put(key, session);
+            if (session.getSession() != null) {
+                sessionCaches.put(key, session.getSession().cacheName());
+            }
+        });
+        return table.get(key);
+    }
+
+    @Override
+    public void write(Cache.Entry<? extends String, ? extends Double> entry) {
+        table.put(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public void delete(Object key) {
+        table.remove(key);
+    }
+}
@@ -0,0 +1,47 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.ignite.annotation.IgniteAffinityRun;
+
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteAffinityRunSpec")
+public class AffinityAccounts {
+    private final String node;
+    private final Map<String, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+
+    public AffinityAccounts(@Value("${affinity-spec.node}") String node) {
+        this.node = node;
+    }
+
+    public Map<String, CompletableFuture<String>> getPending() {
+        return pending;
+    }
+
+    @IgniteAffinityRun(cache = "affinity")
+    public String where(String key) {
+        return node;
+    }
+
+    @IgniteAffinityRun(cache = "affinity", key = "key")
+    public String whereFor(String owner, String key) {
+        return owner + "@" + node;
+    }
+
+    @IgniteAffinityRun(cache = "affinity")
+    public CompletableFuture<String> whereLater(String key) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        pending.put(key, future);
+        return future.thenApply(value -> value + "@" + node);
+    }
+
+    @IgniteAffinityRun(cache = "affinity")
+    public String fail(String key) {
+        throw new IllegalArgumentException("no account " + key + " on " + node);
+    }
+}
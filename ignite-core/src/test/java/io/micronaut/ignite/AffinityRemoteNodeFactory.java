@@ -0,0 +1,31 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.binary.IntrospectedBinaryTypes;
+import org.apache.ignite.configuration.BinaryConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Collections;
+
+@Factory
+@Requires(property = "spec.name", value = "IgniteAffinityRunSpec")
+@Requires(property = "affinity-spec.node", value = "remote")
+public class AffinityRemoteNodeFactory {
+    @Singleton
+    @Named("remote")
+    IgniteConfiguration remoteConfiguration() {
+        TcpDiscoveryVmIpFinder ipFinder = new TcpDiscoveryVmIpFinder(true);
+        ipFinder.setAddresses(Collections.singletonList("127.0.0.1:48600..48609"));
+        return new IgniteConfiguration()
+            .setLocalHost("127.0.0.1")
+            .setMetricsLogFrequency(0)
+            .setPublicThreadPoolSize(1)
+            .setBinaryConfiguration(IntrospectedBinaryTypes.configure(new BinaryConfiguration(), null, null))
+            .setDiscoverySpi(new TcpDiscoverySpi().setLocalPort(48600).setLocalPortRange(10).setIpFinder(ipFinder));
+    }
+}
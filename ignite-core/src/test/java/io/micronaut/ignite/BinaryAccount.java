@@ -0,0 +1,34 @@
+package io.micronaut.ignite;
+
+import io.micronaut.ignite.annotation.IgniteBinaryType;
+
+@IgniteBinaryType
+public class BinaryAccount {
+    private String owner;
+    private long balance;
+    private Integer rating;
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public void setBalance(long balance) {
+        this.balance = balance;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+}
@@ -0,0 +1,25 @@
+package io.micronaut.ignite;
+
+import io.micronaut.ignite.annotation.IgniteBinaryType;
+
+@IgniteBinaryType
+public class BinaryAddress {
+    private String city;
+    private Integer number;
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public Integer getNumber() {
+        return number;
+    }
+
+    public void setNumber(Integer number) {
+        this.number = number;
+    }
+}
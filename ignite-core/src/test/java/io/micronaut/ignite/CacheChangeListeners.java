@@ -0,0 +1,40 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.annotation.IgniteCacheListener;
+
+import javax.cache.event.CacheEntryEvent;
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteCacheListenerSpec")
+public class CacheChangeListeners {
+    public final List<Integer> events = new CopyOnWriteArrayList<>();
+    public final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    public final List<Integer> evenEvents = new CopyOnWriteArrayList<>();
+    public final AtomicInteger inFlight = new AtomicInteger();
+    public final AtomicInteger overlaps = new AtomicInteger();
+
+    @IgniteCacheListener("listened")
+    public void onEvent(CacheEntryEvent<String, Integer> event) {
+        if (inFlight.incrementAndGet() > 1) {
+            overlaps.incrementAndGet();
+        }
+        events.add(event.getValue());
+        inFlight.decrementAndGet();
+    }
+
+    @IgniteCacheListener("listened")
+    public void onBatch(List<CacheEntryEvent<String, Integer>> events) {
+        batches.add(events.stream().map(CacheEntryEvent::getValue).collect(Collectors.toList()));
+    }
+
+    @IgniteCacheListener(value = "listened", filter = EvenValueFilter.class)
+    public void onEven(CacheEntryEvent<String, Integer> event) {
+        evenEvents.add(event.getValue());
+    }
+}
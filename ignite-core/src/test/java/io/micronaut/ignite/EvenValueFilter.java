@@ -0,0 +1,11 @@
+package io.micronaut.ignite;
+
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryEventFilter;
+
+public class EvenValueFilter implements CacheEntryEventFilter<String, Integer> {
+    @Override
+    public boolean evaluate(CacheEntryEvent<? extends String, ? extends Integer> event) {
+        return event.getValue() % 2 == 0;
+    }
+}
@@ -0,0 +1,74 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.annotation.IgniteTransaction;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.lang.IgniteUuid;
+
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteTransactionPublisherSpec")
+public class ReactiveLedger {
+    final List<IgniteUuid> transactions = new CopyOnWriteArrayList<>();
+    private final Ignite ignite;
+
+    public ReactiveLedger(Ignite ignite) {
+        this.ignite = ignite;
+    }
+
+    @IgniteTransaction
+    public Single<String> record(String key) {
+        return Single.fromCallable(() -> {
+            ledger().put(key, "recorded");
+            return key;
+        });
+    }
+
+    @IgniteTransaction
+    public Flowable<String> recordAll(String... keys) {
+        return Flowable.fromArray(keys).map(key -> {
+            transactions.add(ignite.transactions().tx().xid());
+            ledger().put(key, "recorded");
+            return key;
+        });
+    }
+
+    @IgniteTransaction
+    public Flowable<String> recordThenFail(String key) {
+        return Flowable.defer(() -> {
+            ledger().put(key, "rolled back");
+            return Flowable.error(new IllegalStateException("Failed to record " + key));
+        });
+    }
+
+    @IgniteTransaction
+    public Flowable<String> recordFromAnotherThread(String key) {
+        return Flowable.create(emitter -> {
+            ledger().put(key, "recorded");
+            Thread thread = new Thread(() -> {
+                emitter.onNext(key);
+                emitter.onComplete();
+            });
+            thread.start();
+            thread.join();
+        }, io.reactivex.BackpressureStrategy.BUFFER);
+    }
+
+    @IgniteTransaction(subscribeTimeout = "100ms")
+    public Flowable<String> recordLater(String key) {
+        return Flowable.defer(() -> {
+            ledger().put(key, "recorded");
+            return Flowable.just(key);
+        });
+    }
+
+    private IgniteCache<String, String> ledger() {
+        return ignite.cache("reactive-ledger");
+    }
+}
@@ -0,0 +1,22 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.annotation.IgniteDataStreamerRef;
+import org.apache.ignite.IgniteDataStreamer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteDataStreamerSpec")
+public class StreamingLoaders {
+    public final IgniteDataStreamer<String, Integer> accounts;
+
+    @Inject
+    @IgniteDataStreamerRef("streamed")
+    public IgniteDataStreamer<String, Integer> moreAccounts;
+
+    public StreamingLoaders(@IgniteDataStreamerRef("streamed") IgniteDataStreamer<String, Integer> accounts) {
+        this.accounts = accounts;
+    }
+}
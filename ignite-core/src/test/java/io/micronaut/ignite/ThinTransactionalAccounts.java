@@ -0,0 +1,73 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.annotation.IgniteTransaction;
+import org.apache.ignite.client.ClientCache;
+import org.apache.ignite.client.IgniteClient;
+
+import javax.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteThinTransactionSpec")
+public class ThinTransactionalAccounts {
+    final AtomicInteger attempts = new AtomicInteger();
+    private final IgniteClient client;
+    private final ThinTransactionalLedger ledger;
+
+    public ThinTransactionalAccounts(IgniteClient client, ThinTransactionalLedger ledger) {
+        this.client = client;
+        this.ledger = ledger;
+    }
+
+    @IgniteTransaction(label = "open", timeout = "5s")
+    public void open(String account, int balance) {
+        accounts().put(account, balance);
+        if (balance < 0) {
+            throw new IllegalArgumentException("Negative balance for " + account);
+        }
+    }
+
+    @IgniteTransaction
+    public void transfer(String from, String to, int amount) {
+        accounts().put(from, accounts().get(from) - amount);
+        ledger.credit(to, amount);
+    }
+
+    @IgniteTransaction
+    public void transferAfterFailure(String from, int amount) {
+        accounts().put(from, accounts().get(from) - amount);
+        try {
+            ledger.fail(from);
+        } catch (IllegalStateException e) {
+            // the joined transaction is rolled back anyway
+        }
+    }
+
+    @IgniteTransaction
+    public void audit() {
+        ledger.audit();
+    }
+
+    @IgniteTransaction
+    public CompletableFuture<Integer> balance(String account) {
+        return CompletableFuture.completedFuture(accounts().get(account));
+    }
+
+    @IgniteTransaction(concurrency = IgniteTransaction.Concurrency.OPTIMISTIC, isolation = IgniteTransaction.Isolation.SERIALIZABLE,
+        retries = 2, retryDelay = "1ms")
+    public int deposit(String account, int amount, int conflicts) {
+        int attempt = attempts.incrementAndGet();
+        int balance = accounts().get(account);
+        if (attempt <= conflicts) {
+            CompletableFuture.runAsync(() -> accounts().put(account, balance + 1000)).join();
+        }
+        accounts().put(account, balance + amount);
+        return attempt;
+    }
+
+    private ClientCache<String, Integer> accounts() {
+        return client.cache("thin-accounts");
+    }
+}
@@ -0,0 +1,33 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.annotation.IgniteTransaction;
+import org.apache.ignite.client.ClientCache;
+import org.apache.ignite.client.IgniteClient;
+
+import javax.inject.Singleton;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteThinTransactionSpec")
+public class ThinTransactionalLedger {
+    private final IgniteClient client;
+
+    public ThinTransactionalLedger(IgniteClient client) {
+        this.client = client;
+    }
+
+    @IgniteTransaction(propagation = IgniteTransaction.Propagation.MANDATORY)
+    public void credit(String account, int amount) {
+        ClientCache<String, Integer> accounts = client.cache("thin-accounts");
+        accounts.put(account, accounts.get(account) + amount);
+    }
+
+    @IgniteTransaction
+    public void fail(String account) {
+        throw new IllegalStateException("Failed to record a transfer from " + account);
+    }
+
+    @IgniteTransaction(propagation = IgniteTransaction.Propagation.REQUIRES_NEW)
+    public void audit() {
+    }
+}
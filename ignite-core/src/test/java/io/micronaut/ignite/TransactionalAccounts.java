@@ -0,0 +1,57 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.annotation.IgniteTransaction;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.transactions.Transaction;
+
+import javax.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteTransactionSpec")
+public class TransactionalAccounts {
+    final AtomicInteger attempts = new AtomicInteger();
+    private final Ignite ignite;
+
+    public TransactionalAccounts(Ignite ignite) {
+        this.ignite = ignite;
+    }
+
+    @IgniteTransaction
+    public Transaction defaults() {
+        return ignite.transactions().tx();
+    }
+
+    @IgniteTransaction(concurrency = IgniteTransaction.Concurrency.OPTIMISTIC, isolation = IgniteTransaction.Isolation.SERIALIZABLE,
+        timeout = "5s", label = "describe")
+    public Transaction describe() {
+        return ignite.transactions().tx();
+    }
+
+    @IgniteTransaction(concurrency = IgniteTransaction.Concurrency.OPTIMISTIC, isolation = IgniteTransaction.Isolation.SERIALIZABLE,
+        retries = 2, retryDelay = "1ms")
+    public int deposit(String account, int amount, int conflicts) {
+        int attempt = attempts.incrementAndGet();
+        IgniteCache<String, Integer> accounts = ignite.cache("accounts");
+        int balance = accounts.get(account);
+        if (attempt <= conflicts) {
+            CompletableFuture.runAsync(() -> accounts.put(account, balance + 1000)).join();
+        }
+        accounts.put(account, balance + amount);
+        return attempt;
+    }
+
+    @IgniteTransaction(retries = 2, retryDelay = "1ms")
+    public void withdraw(String account, int amount) {
+        attempts.incrementAndGet();
+        IgniteCache<String, Integer> accounts = ignite.cache("accounts");
+        int balance = accounts.get(account);
+        accounts.put(account, balance - amount);
+        if (balance < amount) {
+            throw new IllegalArgumentException("Insufficient funds in " + account);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.annotation.IgniteTransaction;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.transactions.Transaction;
+
+import javax.inject.Singleton;
+import java.util.Arrays;
+import java.util.List;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteTransactionPropagationSpec")
+public class TransactionalJournal {
+    private final Ignite ignite;
+    private final TransactionalLedger ledger;
+
+    public TransactionalJournal(Ignite ignite, TransactionalLedger ledger) {
+        this.ignite = ignite;
+        this.ledger = ledger;
+    }
+
+    @IgniteTransaction
+    public List<Transaction> join() {
+        return Arrays.asList(ignite.transactions().tx(), ledger.required(), ledger.mandatory(), ledger.supports());
+    }
+
+    @IgniteTransaction
+    public void suspend(String key, List<Transaction> transactions) {
+        transactions.add(ignite.transactions().tx());
+        ignite.cache("ledger").put(key + "-outer", "rolled back");
+        transactions.add(ledger.requiresNew(key));
+        transactions.add(ignite.transactions().tx());
+        throw new IllegalArgumentException("Failed to record " + key);
+    }
+
+    @IgniteTransaction
+    public Transaction never() {
+        return ledger.never();
+    }
+
+    @IgniteTransaction
+    public void recordAfterFailure(String key) {
+        ignite.cache("ledger").put(key, "recorded");
+        try {
+            ledger.fail(key + "-inner");
+        } catch (IllegalStateException e) {
+            // the joined transaction is rolled back anyway
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.micronaut.ignite;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.ignite.annotation.IgniteTransaction;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.transactions.Transaction;
+
+import javax.inject.Singleton;
+
+@Singleton
+@Requires(property = "spec.name", value = "IgniteTransactionPropagationSpec")
+public class TransactionalLedger {
+    private final Ignite ignite;
+
+    public TransactionalLedger(Ignite ignite) {
+        this.ignite = ignite;
+    }
+
+    @IgniteTransaction
+    public Transaction required() {
+        return ignite.transactions().tx();
+    }
+
+    @IgniteTransaction(propagation = IgniteTransaction.Propagation.REQUIRES_NEW)
+    public Transaction requiresNew(String key) {
+        ignite.cache("ledger").put(key, "committed");
+        return ignite.transactions().tx();
+    }
+
+    @IgniteTransaction(propagation = IgniteTransaction.Propagation.MANDATORY)
+    public Transaction mandatory() {
+        return ignite.transactions().tx();
+    }
+
+    @IgniteTransaction(propagation = IgniteTransaction.Propagation.SUPPORTS)
+    public Transaction supports() {
+        return ignite.transactions().tx();
+    }
+
+    @IgniteTransaction(propagation = IgniteTransaction.Propagation.NEVER)
+    public Transaction never() {
+        return ignite.transactions().tx();
+    }
+
+    @IgniteTransaction
+    public void fail(String key) {
+        ignite.cache("ledger").put(key, "rolled back");
+        throw new IllegalStateException("Failed to record " + key);
+    }
+}